@@ -0,0 +1,239 @@
+package com.bomberman.build;
+
+import com.bomberman.util.GameConstants;
+import com.bomberman.view.Sprite;
+import com.bomberman.view.TextureAtlas;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Préparation des images à la construction, exécutée par Maven pendant la phase {@code process-classes}.
+ * Cet outil est compilé depuis {@code src/build/java} à part de l'application et n'est pas livré dans le jar.
+ * Les grandes images des menus sont réduites à leur taille d'affichage dans le dossier des classes,
+ * les images de chaque pack de textures sont rassemblées dans un atlas à l'échelle d'une cellule,
+ * et un manifeste décrit les atlas produits pour que {@link TextureAtlas} les charge sans rien redimensionner.
+ * Les images de {@code src/main/resources} ne sont jamais modifiées.
+ * <p>
+ * Utilisation : {@code AssetPipeline <dossier des ressources> <dossier des classes>}
+ */
+public final class AssetPipeline {
+
+    private static final Map<String, Dimension> DISPLAY_SIZES = displaySizes(); // Taille maximale de chaque grande image
+
+    /**
+     * Constructeur privé : classe utilitaire.
+     */
+    private AssetPipeline() {
+    }
+
+    /**
+     * Donne la taille maximale à conserver pour chaque grande image.
+     *
+     * @return Les tailles maximales, par chemin relatif à la racine des ressources.
+     */
+    private static Map<String, Dimension> displaySizes() {
+        Map<String, Dimension> sizes = new LinkedHashMap<>();
+        // Fond « cover » des fenêtres de 800×600 à 850×650
+        sizes.put("image/background.png", new Dimension(1024, 683));
+        // Avatars affichés en 150×150, gardés au double pour les écrans haute densité
+        for (int i = 1; i <= 4; i++) {
+            sizes.put("image/Avatar" + i + ".png", new Dimension(300, 300));
+        }
+        return sizes;
+    }
+
+    /**
+     * Prépare les images d'un dossier de ressources dans un dossier de classes.
+     *
+     * @param resources Le dossier des ressources sources.
+     * @param output Le dossier des classes, qui contient déjà une copie des ressources.
+     * @return Le manifeste écrit.
+     * @throws IOException Si une image ne peut pas être lue ou écrite.
+     */
+    public static Properties run(Path resources, Path output) throws IOException {
+        Properties manifest = new Properties();
+
+        for (Map.Entry<String, Dimension> entry : DISPLAY_SIZES.entrySet()) {
+            Path source = resources.resolve(entry.getKey());
+            if (Files.exists(source)) {
+                Dimension size = downsample(source, output.resolve(entry.getKey()), entry.getValue());
+                manifest.setProperty(entry.getKey(), size.width + "x" + size.height);
+            }
+        }
+
+        Path images = resources.resolve("image");
+        if (Files.isDirectory(images)) {
+            List<Path> packs;
+            try (Stream<Path> children = Files.list(images)) {
+                packs = children.filter(Files::isDirectory).sorted().collect(Collectors.toList());
+            }
+            for (Path pack : packs) {
+                packAtlas(pack, output.resolve("image").resolve(pack.getFileName().toString()), manifest);
+            }
+        }
+
+        Path manifestFile = output.resolve(TextureAtlas.MANIFEST);
+        Files.createDirectories(manifestFile.getParent());
+        try (OutputStream out = Files.newOutputStream(manifestFile)) {
+            manifest.store(out, "Images préparées à la construction");
+        }
+        return manifest;
+    }
+
+    /**
+     * Réduit une image pour qu'elle tienne dans une taille maximale, en conservant ses proportions.
+     * Une image déjà réduite par une construction précédente n'est pas retraitée.
+     *
+     * @param source L'image source.
+     * @param target L'image produite dans le dossier des classes.
+     * @param max La taille maximale.
+     * @return La taille de l'image produite.
+     * @throws IOException Si l'image ne peut pas être lue ou écrite.
+     */
+    private static Dimension downsample(Path source, Path target, Dimension max) throws IOException {
+        if (Files.exists(target) && Files.getLastModifiedTime(target).compareTo(Files.getLastModifiedTime(source)) >= 0) {
+            Dimension current = imageSize(target);
+            if (current.width <= max.width && current.height <= max.height) {
+                return current;
+            }
+        }
+
+        BufferedImage image = ImageIO.read(source.toFile());
+        if (image == null) {
+            throw new IOException("Image illisible : " + source);
+        }
+        double scale = Math.min(1, Math.min((double) max.width / image.getWidth(), (double) max.height / image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        Files.createDirectories(target.getParent());
+        ImageIO.write(scale < 1 ? resize(image, width, height) : image, "png", target.toFile());
+        return new Dimension(width, height);
+    }
+
+    /**
+     * Rassemble les images d'un pack de textures dans un atlas, une case par {@link Sprite},
+     * selon la disposition attendue par {@link TextureAtlas}.
+     *
+     * @param pack Le dossier source du pack.
+     * @param target Le dossier du pack dans le dossier des classes.
+     * @param manifest Le manifeste recevant la description de l'atlas.
+     * @throws IOException Si l'atlas ne peut pas être écrit.
+     */
+    private static void packAtlas(Path pack, Path target, Properties manifest) throws IOException {
+        int size = GameConstants.CELL_SIZE;
+        Sprite[] sprites = Sprite.values();
+        BufferedImage atlas = new BufferedImage(size * sprites.length, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = atlas.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        String prefix = "pack." + pack.getFileName() + ".";
+        int packed = 0;
+
+        try {
+            for (Sprite sprite : sprites) {
+                Path file = pack.resolve(sprite.getFileName());
+                BufferedImage image = Files.exists(file) ? ImageIO.read(file.toFile()) : null;
+                if (image == null) continue;
+
+                int inset = sprite.getInset();
+                int scaled = size - 2 * inset;
+                g.drawImage(resize(image, scaled, scaled), sprite.ordinal() * size + inset, inset, null);
+                manifest.setProperty(prefix + sprite.name(), Integer.toString(sprite.ordinal()));
+                packed++;
+            }
+        } finally {
+            g.dispose();
+        }
+        if (packed == 0) return;
+
+        Files.createDirectories(target);
+        ImageIO.write(atlas, "png", target.resolve(TextureAtlas.ATLAS_FILE).toFile());
+        manifest.setProperty(prefix + "atlas", "/image/" + pack.getFileName() + "/" + TextureAtlas.ATLAS_FILE);
+        manifest.setProperty(prefix + "cellSize", Integer.toString(size));
+    }
+
+    /**
+     * Redimensionne une image. Les fortes réductions se font par moitiés successives,
+     * ce qui évite le crénelage d'une interpolation bilinéaire appliquée en une seule fois.
+     *
+     * @param image L'image à redimensionner.
+     * @param width La largeur voulue.
+     * @param height La hauteur voulue.
+     * @return L'image redimensionnée.
+     */
+    static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage current = image;
+        int w = image.getWidth();
+        int h = image.getHeight();
+        do {
+            w = w / 2 >= width ? w / 2 : width;
+            h = h / 2 >= height ? h / 2 : height;
+            BufferedImage step = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = step.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = step;
+        } while (w != width || h != height);
+        return current;
+    }
+
+    /**
+     * Lit la taille d'une image sans la décoder.
+     *
+     * @param file L'image.
+     * @return La taille de l'image.
+     * @throws IOException Si l'image ne peut pas être lue.
+     */
+    private static Dimension imageSize(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Format d'image inconnu : " + file);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in);
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Lance la préparation des images depuis Maven ou la ligne de commande.
+     *
+     * @param args Le dossier des ressources puis le dossier des classes.
+     * @throws IOException Si une image ne peut pas être lue ou écrite.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Utilisation : AssetPipeline <dossier des ressources> <dossier des classes>");
+            return;
+        }
+        Properties manifest = run(Path.of(args[0]), Path.of(args[1]));
+        System.out.println("Images préparées : " + manifest.size() + " entrées dans " + TextureAtlas.MANIFEST);
+    }
+}
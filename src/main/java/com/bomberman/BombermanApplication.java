@@ -1,5 +1,9 @@
 package com.bomberman;
 
+import com.bomberman.model.BotStrategies;
+import com.bomberman.model.BotStrategy;
+import com.bomberman.view.GameView;
+import com.bomberman.view.TextureCache;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -20,6 +24,9 @@ public class BombermanApplication extends Application {
      */
     @Override
     public void start(Stage stage) throws Exception {
+        // Charger le pack de textures en arrière-plan pendant que le joueur est dans les menus
+        TextureCache.load(GameView.selectedTexturePack());
+
         // Charger le fichier FXML pour le menu principal
         FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/MainMenu.fxml"));
         Scene scene = new Scene(loader.load(), 800, 600);
@@ -37,6 +44,17 @@ public class BombermanApplication extends Application {
         scene.getRoot().requestFocus();
     }
 
+    /**
+     * Méthode appelée à la fermeture de l'application.
+     * Ferme les stratégies de bots, ce qui arrête notamment un bot externe lancé par le jeu.
+     */
+    @Override
+    public void stop() {
+        for (BotStrategy strategy : BotStrategies.available()) {
+            strategy.close();
+        }
+    }
+
     /**
      * Méthode principale pour lancer l'application.
      *
@@ -1,7 +1,10 @@
 package com.bomberman.controller;
 
 import com.bomberman.model.Texture;
+import com.bomberman.view.AssetLoader;
 import com.bomberman.view.GameView;
+import com.bomberman.view.TextureCache;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -13,6 +16,7 @@ import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -25,6 +29,7 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
 import java.util.prefs.Preferences;
 
 /**
@@ -85,6 +90,11 @@ public class AvatarController implements Initializable {
     /** ImageView affichant l'avatar du joueur 4 */
     @FXML
     private ImageView avatarImageView4;
+    /** Indicateur affiché tant que des avatars sont en cours de chargement */
+    @FXML
+    private ProgressIndicator avatarProgress;
+    /** Nombre d'avatars en cours de chargement, modifié seulement depuis le fil JavaFX */
+    private int pendingImages;
 
 
     /** ComboBox pour la sélection du pack de textures */
@@ -138,6 +148,9 @@ public class AvatarController implements Initializable {
     private static final String DEFAULT_IMAGE_3 = "/image/Avatar3.png";
     private static final String DEFAULT_IMAGE_4 = "/image/Avatar4.png";
 
+    // Taille de décodage des avatars, le double de leur taille d'affichage pour les écrans haute densité
+    private static final double AVATAR_SIZE = 300;
+
     // Clé pour le pack de texture sélectionné
     public static final String TEXTURE_PACK_KEY = "texturePack";
 
@@ -260,8 +273,10 @@ public class AvatarController implements Initializable {
      * Ouvre une boîte de dialogue pour choisir une image et l'affecte à l'ImageView spécifié.
      * Enregistre le chemin de l'image sélectionnée dans les préférences utilisateur.
      *
+     * L'image est décodée en arrière-plan ; l'avatar affiché ne change qu'une fois l'image prête.
+     *
      * @param imageView L'ImageView à mettre à jour.
-     * @param preferenceKey La clé de préférence pour enregistrer le chemin de l'image.
+     * @param key La clé de préférence pour enregistrer le chemin de l'image.
      */
     private void selectImageForPlayer(ImageView imageView, String key) {
         FileChooser fileChooser = new FileChooser();
@@ -270,60 +285,59 @@ public class AvatarController implements Initializable {
 
         File file = fileChooser.showOpenDialog(stage);
         if (file != null) {
-            try {
-                Image image = new Image(file.toURI().toString());
-                if (!image.isError()) {
-                    imageView.setImage(image);
-                    // Sauvegarder le chemin seulement si l'image se charge correctement
-                    Preferences ImagePref = Preferences.userRoot().node(this.getClass().getName());
-                    ImagePref.put(key, file.getAbsolutePath());
-                } else {
-                    System.err.println("Erreur: Image corrompue ou format non supporté");
-                }
-            } catch (Exception e) {
-                System.err.println("Erreur lors du chargement de l'image: " + e.getMessage());
-            }
+            track(AssetLoader.loadImage(file.toURI().toString(), AVATAR_SIZE, AVATAR_SIZE)
+                    .thenAcceptAsync(image -> {
+                        imageView.setImage(image);
+                        // Sauvegarder le chemin seulement si l'image se charge correctement
+                        Preferences ImagePref = Preferences.userRoot().node(this.getClass().getName());
+                        ImagePref.put(key, file.getAbsolutePath());
+                    }, Platform::runLater));
         }
     }
 
     /**
-     * Initialise le contrôleur, charge les pseudos et images enregistrés,
-     * initialise les compteurs de matchs et configure la ComboBox des packs de textures.
+     * Charge en arrière-plan l'avatar enregistré d'un joueur, ou son avatar par défaut
+     * si aucune image personnalisée n'est enregistrée ou si elle ne peut pas être lue.
      *
-     * @param location  L'emplacement utilisé pour résoudre les chemins relatifs, ou null si inconnu.
-     * @param resources Les ressources utilisées pour localiser les chaînes de caractères, ou null si indisponible.
+     * @param imageView L'ImageView à mettre à jour une fois l'image prête.
+     * @param key La clé de préférence du chemin de l'image personnalisée.
+     * @param defaultImage Le chemin de la ressource de l'avatar par défaut.
      */
     private void loadImage(ImageView imageView, String key, String defaultImage) {
         Preferences ImagePref = Preferences.userRoot().node(this.getClass().getName());
         String imagePath = ImagePref.get(key, null);
-
-        // Essayer de charger l'image personnalisée
-        if (imagePath != null) {
-            try {
-                File imageFile = new File(imagePath);
-                if (imageFile.exists()) {
-                    Image image = new Image(imageFile.toURI().toString());
-                    if (!image.isError()) {
-                        imageView.setImage(image);
-                        return;
-                    }
-                }
-            } catch (Exception e) {
-                System.err.println("Erreur lors du chargement de l'image personnalisée: " + e.getMessage());
-            }
+        String defaultUrl = getClass().getResource(defaultImage).toExternalForm();
+
+        CompletableFuture<Image> image;
+        if (imagePath != null && new File(imagePath).exists()) {
+            // Essayer de charger l'image personnalisée, puis l'image par défaut si elle échoue
+            image = AssetLoader.loadImage(new File(imagePath).toURI().toString(), AVATAR_SIZE, AVATAR_SIZE)
+                    .exceptionallyCompose(e -> {
+                        System.err.println("Erreur lors du chargement de l'image personnalisée: " + e.getMessage());
+                        return AssetLoader.loadImage(defaultUrl, AVATAR_SIZE, AVATAR_SIZE);
+                    });
+        } else {
+            image = AssetLoader.loadImage(defaultUrl, AVATAR_SIZE, AVATAR_SIZE);
         }
+        track(image.thenAcceptAsync(imageView::setImage, Platform::runLater));
+    }
 
-        // Charger l'image par défaut si l'image personnalisée échoue
-        try {
-            Image defaultImages = new Image(getClass().getResourceAsStream(defaultImage));
-            if (!defaultImages.isError()) {
-                imageView.setImage(defaultImages);
-            } else {
-                System.err.println("Erreur: Image par défaut non trouvée: " + defaultImage);
+    /**
+     * Suit un chargement d'avatar : l'indicateur de progression reste affiché tant qu'un chargement est en cours,
+     * et les erreurs sont signalées une fois le chargement terminé.
+     *
+     * @param loading Le chargement, terminé une fois l'image affichée.
+     */
+    private void track(CompletableFuture<?> loading) {
+        pendingImages++;
+        avatarProgress.setVisible(true);
+        loading.whenCompleteAsync((result, error) -> {
+            if (error != null) {
+                System.err.println("Erreur lors du chargement de l'image: " + error.getMessage());
             }
-        } catch (Exception e) {
-            System.err.println("Erreur lors du chargement de l'image par défaut: " + e.getMessage());
-        }
+            pendingImages--;
+            avatarProgress.setVisible(pendingImages > 0);
+        }, Platform::runLater);
     }
 
 
@@ -360,6 +374,8 @@ public class AvatarController implements Initializable {
         if (selectedTexture != null) {
             Preferences TexturePref = Preferences.userRoot().node(this.getClass().getName());
             TexturePref.put(TEXTURE_PACK_KEY, selectedTexture.getNom());
+            // Préparer le pack en arrière-plan pour que la prochaine partie n'ait pas à l'attendre
+            TextureCache.load(selectedTexture);
             System.out.println("Pack de texture sauvegardé: " + selectedTexture.getNom());
         }
     }
@@ -0,0 +1,202 @@
+package com.bomberman.controller;
+
+import com.bomberman.model.BotAction;
+import com.bomberman.model.BotPlayer;
+import com.bomberman.model.BotStrategy;
+import com.bomberman.model.Game;
+import com.bomberman.model.GameSnapshot;
+import com.bomberman.model.Player;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Fait réfléchir les bots sur des fils de travail, hors du fil d'affichage JavaFX.
+ * À chaque tick, les décisions terminées sont appliquées au jeu et de nouvelles décisions sont lancées
+ * sur un instantané du jeu, pris une fois par tick et partagé par tous les bots : le premier fil de travail
+ * qui en a besoin le restaure en un jeu, avec sa carte des dangers, que les autres bots lisent sans le copier.
+ * Le fil d'affichage ne paie que le coût de l'instantané, et seulement quand un bot peut agir à ce tick.
+ * Une décision arrive donc au plus tôt au tick suivant ; si elle dépasse le délai imparti, l'intention précédente du bot est reprise et la décision tardive sera ignorée.
+ * Un bot n'a jamais plus d'une décision en cours, son état interne n'étant pas partagé entre fils.
+ */
+public class BotScheduler {
+
+    /** Délai, en ticks, au-delà duquel l'intention précédente d'un bot est reprise. */
+    public static final int DEADLINE_TICKS = 3;
+
+    /** Fils de travail sur lesquels les bots réfléchissent. */
+    private final ExecutorService executor;
+
+    /** Décision en cours de calcul pour chaque joueur, ou null. */
+    private Future<?>[] pending = new Future<?>[0];
+
+    /** Bot auquel correspond chaque entrée, pour ignorer les décisions d'une partie précédente. */
+    private BotPlayer[] owners = new BotPlayer[0];
+
+    /** Tick auquel chaque décision en attente a été lancée. */
+    private long[] submittedTicks = new long[0];
+
+    /** Indique, pour chaque joueur, si sa décision en cours a dépassé le délai et sera ignorée. */
+    private boolean[] late = new boolean[0];
+
+    /** Dernière intention de déplacement de chaque bot, reprise lorsqu'une décision est en retard. */
+    private BotAction[] intents = new BotAction[0];
+
+    /** Stratégies des bots ordonnancés, fermées avec l'ordonnanceur. */
+    private final Collection<BotStrategy> strategies;
+
+    /**
+     * Constructeur pour créer un ordonnanceur utilisant un nombre donné de fils de travail.
+     *
+     * @param threads Le nombre de fils de travail.
+     * @param strategies Les stratégies des bots ordonnancés, dont les ressources sont libérées à l'arrêt.
+     */
+    public BotScheduler(int threads, Collection<BotStrategy> strategies) {
+        this.strategies = List.copyOf(strategies);
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "bot-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Constructeur pour créer un ordonnanceur adapté au nombre de processeurs disponibles.
+     *
+     * @param strategies Les stratégies des bots ordonnancés, dont les ressources sont libérées à l'arrêt.
+     */
+    public BotScheduler(Collection<BotStrategy> strategies) {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), strategies);
+    }
+
+    /**
+     * Applique les décisions terminées et lance celles des bots disponibles.
+     * Doit être appelée une fois par tick, depuis le fil qui fait avancer le jeu.
+     *
+     * @param game Le jeu.
+     */
+    public void tick(Game game) {
+        if (!game.isGameRunning()) return;
+
+        long now = game.getClock().getTick();
+        GameSnapshot snapshot = null;
+
+        int playerCount = game.getTotalPlayerCount();
+        ensureSlots(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            Player player = game.getPlayer(i);
+            if (!(player instanceof BotPlayer bot)) {
+                forget(i, null);
+                continue;
+            }
+            if (owners[i] != bot) {
+                forget(i, bot);
+            }
+
+            Future<?> decision = pending[i];
+            if (decision != null) {
+                if (decision.isDone()) {
+                    BotAction action = result(decision, i);
+                    if (!late[i]) {
+                        action.applyTo(game, i);
+                        if (action.getMove() != null) {
+                            intents[i] = BotAction.move(action.getMove());
+                        }
+                    }
+                    pending[i] = null;
+                    late[i] = false;
+                } else {
+                    if (!late[i] && now - submittedTicks[i] >= DEADLINE_TICKS) {
+                        // Décision en retard : reprendre une fois l'intention précédente
+                        intents[i].applyTo(game, i);
+                        late[i] = true;
+                    }
+                    continue;
+                }
+            }
+
+            // Inutile de lancer une décision qui ne pourrait que répondre NONE
+            if (!bot.isAlive() || !bot.isReadyToAct(game.getClock().getTimeMillis())) continue;
+
+            if (snapshot == null) {
+                snapshot = game.snapshot();
+            }
+
+            GameSnapshot frozen = snapshot;
+            int id = i;
+            pending[i] = executor.submit(() -> {
+                Game view = frozen.view();
+                return bot.decide(view.getBoard(), view.getPlayers(), view.getPlayer(id));
+            });
+            submittedTicks[i] = now;
+        }
+    }
+
+    /**
+     * Récupère le résultat d'une décision terminée.
+     *
+     * @param decision La décision.
+     * @param playerId L'identifiant du bot.
+     * @return L'action décidée, ou {@link BotAction#NONE} si la décision a échoué.
+     */
+    private BotAction result(Future<?> decision, int playerId) {
+        try {
+            return (BotAction) decision.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BotAction.NONE;
+        } catch (ExecutionException e) {
+            System.err.println("Erreur lors de la décision du bot " + playerId + " : " + e.getCause());
+            return BotAction.NONE;
+        }
+    }
+
+    /**
+     * Agrandit les tableaux de suivi pour contenir tous les joueurs de la partie.
+     *
+     * @param playerCount Le nombre de joueurs.
+     */
+    private void ensureSlots(int playerCount) {
+        int previous = pending.length;
+        if (previous >= playerCount) return;
+        pending = Arrays.copyOf(pending, playerCount);
+        owners = Arrays.copyOf(owners, playerCount);
+        submittedTicks = Arrays.copyOf(submittedTicks, playerCount);
+        late = Arrays.copyOf(late, playerCount);
+        intents = Arrays.copyOf(intents, playerCount);
+        Arrays.fill(intents, previous, playerCount, BotAction.NONE);
+    }
+
+    /**
+     * Oublie la décision en cours et l'intention d'un joueur, par exemple après une nouvelle partie.
+     *
+     * @param index L'indice du joueur.
+     * @param bot Le nouveau bot associé à cet indice, ou null.
+     */
+    private void forget(int index, BotPlayer bot) {
+        Future<?> decision = pending[index];
+        if (decision != null) {
+            decision.cancel(false);
+        }
+        pending[index] = null;
+        late[index] = false;
+        owners[index] = bot;
+        intents[index] = BotAction.NONE;
+    }
+
+    /**
+     * Arrête les fils de travail et ferme les stratégies, par exemple la connexion à un bot externe.
+     * Les décisions en cours sont abandonnées.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        for (BotStrategy strategy : strategies) {
+            strategy.close();
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.bomberman.controller;
 
 import com.bomberman.model.BotPlayer;
+import com.bomberman.model.BotStrategies;
+import com.bomberman.model.BotStrategy;
+import com.bomberman.model.ClassicBotStrategy;
 import com.bomberman.model.Game;
+import com.bomberman.model.GameClock;
+import com.bomberman.model.MonteCarloBotStrategy;
 import com.bomberman.model.Player;
 import com.bomberman.util.Direction;
+import com.bomberman.util.GameConstants;
 import com.bomberman.view.GameView;
 import javafx.animation.AnimationTimer;
 import javafx.fxml.FXML;
@@ -20,8 +26,11 @@ import javafx.scene.text.Text;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.ResourceBundle;
 import java.util.Set;
 
@@ -47,12 +56,21 @@ public class GameController implements Initializable {
     /** Modèle du jeu contenant toute la logique métier et les états du jeu. */
     private Game game;
 
+    /** Ordonnanceur faisant réfléchir les bots hors du fil d'affichage. */
+    private BotScheduler botScheduler;
+
     /** Vue graphique qui rend le modèle sur le canvas. */
     private GameView gameView;
 
-    /** Boucle d'animation qui met à jour le jeu à environ 60 images par seconde. */
+    /** Boucle d'animation qui fait avancer le jeu à {@link GameConstants#TICKS_PER_SECOND} ticks par seconde. */
     private AnimationTimer gameLoop;
 
+    /** Durée d'un tick de jeu, en nanosecondes. */
+    private static final long TICK_NANOS = 1_000_000_000L / GameConstants.TICKS_PER_SECOND;
+
+    /** Nombre maximal de ticks rattrapés en une image, pour ne pas s'emballer après une longue pause. */
+    private static final int MAX_TICKS_PER_FRAME = 5;
+
     /** Ensemble des touches actuellement pressées par l'utilisateur. */
     private Set<KeyCode> pressedKeys;
 
@@ -62,6 +80,15 @@ public class GameController implements Initializable {
     /** Nombre de joueurs humains dans la partie, par défaut 2. */
     private int humanPlayerCount = 2;
 
+    /** Indique si les bots utilisent la recherche Monte Carlo. */
+    private boolean strongBots = false;
+
+    /**
+     * Propriété système imposant la stratégie des bots, par exemple {@code externe} pour un bot hors processus.
+     * Sans cette propriété, la stratégie dépend du choix fait dans l'écran de sélection.
+     */
+    public static final String BOT_STRATEGY_PROPERTY = "bomberman.bot.strategy";
+
     /**
      * Tableau des touches clavier pour chaque joueur humain.
      * Chaque sous-tableau contient 5 touches : Haut, Bas, Gauche, Droite, Poser une bombe.
@@ -101,14 +128,40 @@ public class GameController implements Initializable {
         initializeGame();
     }
 
+    /**
+     * Choisit le niveau des bots de la prochaine partie.
+     * Doit être appelée avant {@link #setHumanPlayerCount(int)}, qui lance la partie.
+     *
+     * @param strongBots true pour des bots Monte Carlo, false pour des bots classiques.
+     */
+    public void setStrongBots(boolean strongBots) {
+        this.strongBots = strongBots;
+    }
+
     /**
      * Initialise le jeu en créant le modèle, la vue, la boucle d'animation, et la gestion des événements clavier.
      * Affiche en console des informations sur les types de joueurs (Humain ou Bot).
      */
     private void initializeGame() {
+        // Arrêter les bots de la partie précédente avant d'en créer de nouveaux
+        if (botScheduler != null) {
+            botScheduler.shutdown();
+        }
+
         // Initialise le modèle avec 4 joueurs dont humanPlayerCount humains
-        game = new Game(4, humanPlayerCount);
+        String selectedName = strongBots ? MonteCarloBotStrategy.NAME : ClassicBotStrategy.NAME;
+        BotStrategy strategy = botStrategy(selectedName);
+        try {
+            game = newGame(strategy);
+        } catch (UncheckedIOException | IllegalStateException e) {
+            System.err.println("Bots « " + strategy.getName() + " » indisponibles (" + e.getMessage()
+                    + "), retour à la stratégie « " + selectedName + " »");
+            strategy.close();
+            strategy = BotStrategies.byName(selectedName);
+            game = newGame(strategy);
+        }
         gameView = new GameView(gameCanvas);
+        botScheduler = new BotScheduler(List.of(strategy));
 
         initializeGameLoop();
         setupKeyHandlers();
@@ -116,7 +169,7 @@ public class GameController implements Initializable {
         // Donne le focus clavier au conteneur racine pour capter les événements clavier
         root.requestFocus();
 
-        System.out.println("Game initialized with " + humanPlayerCount + " human players");
+        System.out.println("Game initialized with " + humanPlayerCount + " human players, seed " + game.getSeed());
 
         // Affiche le type de chaque joueur dans la console
         for (int i = 0; i < game.getPlayers().size(); i++) {
@@ -130,24 +183,66 @@ public class GameController implements Initializable {
     }
 
     /**
-     * Initialise et démarre la boucle d'animation qui met à jour le jeu à environ 60 FPS.
-     * À chaque frame, elle traite les entrées clavier, déplace les bots, met à jour le modèle, redessine la vue et actualise le statut.
+     * Retourne la stratégie imposée par {@link #BOT_STRATEGY_PROPERTY}, ou celle choisie dans l'écran de sélection
+     * si la propriété est absente, désigne une stratégie inconnue ou non configurée.
+     *
+     * @param selectedName Le nom de la stratégie choisie dans l'écran de sélection.
+     * @return La stratégie des bots.
+     */
+    private static BotStrategy botStrategy(String selectedName) {
+        String name = System.getProperty(BOT_STRATEGY_PROPERTY, selectedName);
+        try {
+            BotStrategy strategy = BotStrategies.byName(name);
+            if (strategy.isConfigured()) {
+                return strategy;
+            }
+            System.err.println("Stratégie de bot « " + name + " » non configurée, retour à « " + selectedName + " »");
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage() + ", retour à « " + selectedName + " »");
+        }
+        return BotStrategies.byName(selectedName);
+    }
+
+    /**
+     * Crée une partie de 4 joueurs dont {@link #humanPlayerCount} humains, les bots jouant selon une stratégie donnée.
+     *
+     * @param strategy La stratégie des bots.
+     * @return La nouvelle partie.
+     */
+    private Game newGame(BotStrategy strategy) {
+        return new Game(4, humanPlayerCount, new MatchStatisticsListener(), new GameClock(),
+                Collections.nCopies(4, strategy));
+    }
+
+    /**
+     * Initialise et démarre la boucle d'animation, en arrêtant celle de la partie précédente.
+     * Le jeu avance à pas fixe : chaque image joue autant de ticks que le temps écoulé depuis la précédente en contient,
+     * quelle que soit la cadence d'affichage. À chaque image, elle traite les entrées clavier, fait avancer les bots
+     * et le modèle tick par tick, puis redessine la vue et actualise le statut.
      */
     private void initializeGameLoop() {
+        if (gameLoop != null) {
+            gameLoop.stop();
+        }
         gameLoop = new AnimationTimer() {
-            private long lastUpdate = 0;
+            private long lastFrame = -1; // Instant de l'image précédente, -1 avant la première
+            private long accumulated; // Temps écoulé pas encore joué, en nanosecondes
 
             @Override
             public void handle(long now) {
-                // Frame toutes les ~16.67 ms (60 FPS)
-                if (now - lastUpdate >= 16_666_667) {
-                    handleInput();
+                if (lastFrame >= 0) {
+                    accumulated = Math.min(accumulated + now - lastFrame, MAX_TICKS_PER_FRAME * TICK_NANOS);
+                }
+                lastFrame = now;
+
+                handleInput();
+                while (accumulated >= TICK_NANOS) {
                     handleBots();
                     game.update();
-                    gameView.render(game);
-                    updateStatus();
-                    lastUpdate = now;
+                    accumulated -= TICK_NANOS;
                 }
+                gameView.render(game);
+                updateStatus();
             }
         };
         gameLoop.start();
@@ -180,7 +275,14 @@ public class GameController implements Initializable {
 
         // Redémarre la partie si R est pressée
         if (key == KeyCode.R) {
-            game.resetGame(humanPlayerCount);
+            try {
+                game.resetGame(humanPlayerCount);
+                System.out.println("Game reset, seed " + game.getSeed());
+            } catch (UncheckedIOException | IllegalStateException e) {
+                // Bot externe devenu indisponible : recréer la partie, avec repli sur une stratégie locale
+                System.err.println("Réinitialisation impossible : " + e.getMessage());
+                initializeGame();
+            }
         }
 
         // Retour au menu principal si ESC est pressé
@@ -248,23 +350,11 @@ public class GameController implements Initializable {
     }
 
     /**
-     * Demande à chaque bot de décider de son mouvement et de poser une bombe si nécessaire.
-     * Appelé à chaque frame de la boucle de jeu.
+     * Applique les décisions des bots calculées depuis la frame précédente et lance les suivantes.
+     * Les bots réfléchissent sur des fils de travail : la durée d'une frame ne dépend pas de leur stratégie.
      */
     private void handleBots() {
-        if (!game.isGameRunning()) return;
-
-        for (int i = 0; i < game.getPlayers().size(); i++) {
-            Player player = game.getPlayer(i);
-            if (player instanceof BotPlayer) {
-                BotPlayer bot = (BotPlayer) player;
-                bot.makeMove(game.getBoard(), game.getPlayers());
-
-                if (bot.wantsToPlaceBomb(game.getBoard(), game.getPlayers())) {
-                    game.placeBomb(i);
-                }
-            }
-        }
+        botScheduler.tick(game);
     }
 
     /**
@@ -311,6 +401,9 @@ public class GameController implements Initializable {
         if (gameLoop != null) {
             gameLoop.stop(); // Arrêter la boucle de jeu
         }
+        if (botScheduler != null) {
+            botScheduler.shutdown(); // Arrêter les fils de réflexion des bots
+        }
 
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/MainMenu.fxml"));
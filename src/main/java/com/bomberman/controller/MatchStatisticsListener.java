@@ -0,0 +1,39 @@
+package com.bomberman.controller;
+
+import com.bomberman.model.Game;
+import com.bomberman.model.GameListener;
+import com.bomberman.model.Player;
+
+/**
+ * Écouteur de partie qui enregistre les statistiques des matchs dans les préférences utilisateur.
+ * Incrémente le nombre de matchs joués au début de chaque match et le nombre de victoires du gagnant à la fin.
+ */
+public class MatchStatisticsListener implements GameListener {
+
+    /**
+     * Incrémente le compteur de matchs joués de chaque joueur.
+     *
+     * @param game Le jeu qui démarre.
+     */
+    @Override
+    public void onMatchStarted(Game game) {
+        AvatarController.incrementTotalMatch(AvatarController.TOTAL_MATCH_KEY1);
+        AvatarController.incrementTotalMatch(AvatarController.TOTAL_MATCH_KEY2);
+        AvatarController.incrementTotalMatch(AvatarController.TOTAL_MATCH_KEY3);
+        AvatarController.incrementTotalMatch(AvatarController.TOTAL_MATCH_KEY4);
+    }
+
+    /**
+     * Incrémente le compteur de victoires du gagnant, s'il y en a un.
+     *
+     * @param game Le jeu terminé.
+     * @param winner Le joueur gagnant, ou null en cas d'égalité.
+     */
+    @Override
+    public void onMatchEnded(Game game, Player winner) {
+        if (winner != null) {
+            System.out.println("Le gagnant est le joueur " + winner.getId());
+            AvatarController.incrementNbMatchGagner(winner.getId());
+        }
+    }
+}
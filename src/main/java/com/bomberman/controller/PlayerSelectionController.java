@@ -7,6 +7,7 @@ import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.RadioButton;
 import javafx.scene.control.ToggleGroup;
 import javafx.stage.Stage;
@@ -31,6 +32,9 @@ public class PlayerSelectionController {
     @FXML
     private RadioButton fourPlayersRadio; // Bouton radio pour quatre joueurs
 
+    @FXML
+    private CheckBox strongBotsCheckBox; // Case à cocher pour des bots forts (Monte Carlo)
+
     @FXML
     private Button startGameButton; // Bouton pour démarrer le jeu
 
@@ -70,6 +74,7 @@ public class PlayerSelectionController {
 
                 // Passer le nombre de joueurs humains au contrôleur de jeu
                 GameController gameController = loader.getController();
+                gameController.setStrongBots(strongBotsCheckBox.isSelected());
                 gameController.setHumanPlayerCount(humanPlayers);
 
                 Scene scene = new Scene(root, 850, 650);
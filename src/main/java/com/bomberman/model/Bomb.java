@@ -10,29 +10,57 @@ import com.bomberman.util.GameConstants;
 public class Bomb {
     private Position position; // Position de la bombe sur le plateau de jeu
     private Player owner; // Joueur ayant placé la bombe
-    private long placedTime; // Temps auquel la bombe a été placée
+    private GameClock clock; // Horloge de la partie
+    private long detonationTick; // Tick auquel la bombe explose
     private int explosionRange; // Portée de l'explosion de la bombe
+    int boardIndex = -1; // Indice de la bombe dans la liste du plateau, -1 si elle n'y est pas
 
     /**
      * Constructeur pour créer une nouvelle bombe.
      *
      * @param position La position où la bombe est placée.
      * @param owner Le joueur qui a placé la bombe.
+     * @param clock L'horloge de la partie, utilisée pour le compte à rebours.
      */
-    public Bomb(Position position, Player owner) {
+    public Bomb(Position position, Player owner, GameClock clock) {
         this.position = new Position(position);
         this.owner = owner;
-        this.placedTime = System.currentTimeMillis();
+        this.clock = clock;
+        this.detonationTick = clock.getTick() + GameClock.millisToTicks(GameConstants.BOMB_TIMER);
         this.explosionRange = owner.getExplosionRange();
     }
 
     /**
-     * Vérifie si la bombe doit exploser en fonction du temps écoulé.
+     * Constructeur de copie : crée une bombe identique rattachée à un autre joueur et une autre horloge.
+     *
+     * @param other La bombe à copier.
+     * @param owner Le joueur propriétaire de la copie.
+     * @param clock L'horloge de la copie.
+     */
+    Bomb(Bomb other, Player owner, GameClock clock) {
+        this.position = new Position(other.position);
+        this.owner = owner;
+        this.clock = clock;
+        this.detonationTick = other.detonationTick;
+        this.explosionRange = other.explosionRange;
+    }
+
+    /**
+     * Vérifie si la bombe doit exploser en fonction du temps de jeu écoulé.
      *
      * @return true si la bombe doit exploser, false sinon.
      */
     public boolean shouldExplode() {
-        return System.currentTimeMillis() - placedTime >= GameConstants.BOMB_TIMER;
+        return clock.getTick() >= detonationTick;
+    }
+
+    /**
+     * Retourne le tick auquel la bombe explose.
+     *
+     * @return Le tick d'explosion.
+     */
+    public long getDetonationTick() {
+        return detonationTick;
     }
 
     /**
@@ -44,6 +72,24 @@ public class Bomb {
         return new Position(position);
     }
 
+    /**
+     * Retourne la coordonnée x de la bombe, sans copier sa position.
+     *
+     * @return La coordonnée x.
+     */
+    public int getX() {
+        return position.getX();
+    }
+
+    /**
+     * Retourne la coordonnée y de la bombe, sans copier sa position.
+     *
+     * @return La coordonnée y.
+     */
+    public int getY() {
+        return position.getY();
+    }
+
     /**
      * Retourne le joueur propriétaire de la bombe.
      *
@@ -68,6 +114,6 @@ public class Bomb {
      * @return Le temps restant en millisecondes.
      */
     public long getTimeLeft() {
-        return Math.max(0, GameConstants.BOMB_TIMER - (System.currentTimeMillis() - placedTime));
+        return Math.max(0, GameClock.ticksToMillis(detonationTick - clock.getTick()));
     }
 }
@@ -0,0 +1,86 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Direction;
+
+/**
+ * Action décidée par un bot pour un tick : un déplacement éventuel et la pose éventuelle d'une bombe.
+ * Une action est immuable, ce qui permet de la calculer sur un autre fil puis de l'appliquer au jeu plus tard.
+ */
+public final class BotAction {
+
+    /**
+     * Action consistant à ne rien faire.
+     */
+    public static final BotAction NONE = new BotAction(null, false);
+
+    /**
+     * Action consistant à poser une bombe sans se déplacer.
+     */
+    public static final BotAction PLACE_BOMB = new BotAction(null, true);
+
+    private static final Direction[] DIRECTIONS = Direction.values(); // Directions, sans copie à chaque appel
+    private static final BotAction[] MOVES = new BotAction[DIRECTIONS.length]; // Actions de déplacement partagées
+
+    static {
+        for (Direction dir : DIRECTIONS) {
+            MOVES[dir.ordinal()] = new BotAction(dir, false);
+        }
+    }
+
+    private final Direction move; // Direction du déplacement, ou null pour rester sur place
+    private final boolean placeBomb; // Indique si une bombe est posée avant le déplacement
+
+    /**
+     * Constructeur pour créer une action.
+     *
+     * @param move La direction du déplacement, ou null pour rester sur place.
+     * @param placeBomb true pour poser une bombe avant le déplacement.
+     */
+    public BotAction(Direction move, boolean placeBomb) {
+        this.move = move;
+        this.placeBomb = placeBomb;
+    }
+
+    /**
+     * Retourne l'action de déplacement dans une direction, sans allocation.
+     *
+     * @param direction La direction, ou null pour rester sur place.
+     * @return L'action correspondante.
+     */
+    public static BotAction move(Direction direction) {
+        return direction == null ? NONE : MOVES[direction.ordinal()];
+    }
+
+    /**
+     * Applique l'action au jeu pour un joueur donné.
+     *
+     * @param game Le jeu.
+     * @param playerId L'identifiant du joueur.
+     */
+    public void applyTo(Game game, int playerId) {
+        if (placeBomb) {
+            game.placeBomb(playerId);
+        }
+        if (move != null) {
+            game.movePlayer(playerId, move);
+        }
+    }
+
+    /**
+     * Retourne la direction du déplacement.
+     *
+     * @return La direction, ou null si le joueur reste sur place.
+     */
+    public Direction getMove() {
+        return move;
+    }
+
+    /**
+     * Indique si l'action pose une bombe.
+     *
+     * @return true si une bombe est posée, false sinon.
+     */
+    public boolean isPlaceBomb() {
+        return placeBomb;
+    }
+}
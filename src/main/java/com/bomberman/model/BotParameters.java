@@ -0,0 +1,212 @@
+package com.bomberman.model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Poids utilisés par {@link BotPlayer} pour évaluer le danger et choisir une fuite.
+ * Les paramètres forment un vecteur de réels borné, que l'on peut optimiser automatiquement
+ * puis enregistrer dans un profil au format {@link Properties}.
+ * Les valeurs par défaut reproduisent le comportement historique du bot.
+ */
+public final class BotParameters {
+
+    /**
+     * Paramètres du bot, avec leur nom dans un profil, leur valeur par défaut et leurs bornes.
+     */
+    public enum Key {
+        /** Score de départ d'une cellule de fuite. */
+        ESCAPE_BASE("escape.base", 100, 0, 1000),
+        /** Délai avant explosion, en millisecondes, en deçà duquel une cellule de fuite est pénalisée. */
+        BLAST_HORIZON("blast.horizon", 3000, 0, 10000),
+        /** Pénalité par milliseconde d'écart entre le délai avant explosion et l'horizon. */
+        BLAST_WEIGHT("blast.weight", 0.1, 0, 1),
+        /** Bonus par cellule libre autour d'une cellule de fuite. */
+        OPEN_SPACE_BONUS("open.space.bonus", 20, 0, 200),
+        /** Délai avant explosion, en millisecondes, en deçà duquel le bot se considère en danger. */
+        DANGER_MILLIS("danger.millis", 1500, 0, 3000);
+
+        private final String property; // Nom du paramètre dans un profil
+        private final double defaultValue; // Valeur par défaut
+        private final double min; // Borne inférieure
+        private final double max; // Borne supérieure
+
+        Key(String property, double defaultValue, double min, double max) {
+            this.property = property;
+            this.defaultValue = defaultValue;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Retourne le nom du paramètre dans un profil.
+         *
+         * @return Le nom de la propriété.
+         */
+        public String getProperty() {
+            return property;
+        }
+
+        /**
+         * Retourne la borne inférieure du paramètre.
+         *
+         * @return La borne inférieure.
+         */
+        public double getMin() {
+            return min;
+        }
+
+        /**
+         * Retourne la borne supérieure du paramètre.
+         *
+         * @return La borne supérieure.
+         */
+        public double getMax() {
+            return max;
+        }
+    }
+
+    private static final Key[] KEYS = Key.values(); // Paramètres, dans l'ordre du vecteur
+
+    /** Paramètres historiques du bot. */
+    public static final BotParameters DEFAULTS = defaults();
+
+    private final double[] values; // Valeur de chaque paramètre, dans l'ordre de Key
+
+    /**
+     * Constructeur pour créer un jeu de paramètres à partir d'un vecteur.
+     * Chaque valeur est ramenée dans les bornes de son paramètre.
+     *
+     * @param values La valeur de chaque paramètre, dans l'ordre de {@link Key}.
+     * @throws IllegalArgumentException Si le vecteur n'a pas la bonne taille.
+     */
+    public BotParameters(double[] values) {
+        if (values.length != KEYS.length) {
+            throw new IllegalArgumentException("Attendu " + KEYS.length + " paramètres, reçu " + values.length);
+        }
+        this.values = new double[KEYS.length];
+        for (Key key : KEYS) {
+            this.values[key.ordinal()] = Math.max(key.min, Math.min(key.max, values[key.ordinal()]));
+        }
+    }
+
+    /**
+     * Crée le jeu de paramètres par défaut.
+     *
+     * @return Les paramètres par défaut.
+     */
+    private static BotParameters defaults() {
+        double[] values = new double[KEYS.length];
+        for (Key key : KEYS) {
+            values[key.ordinal()] = key.defaultValue;
+        }
+        return new BotParameters(values);
+    }
+
+    /**
+     * Retourne la valeur d'un paramètre.
+     *
+     * @param key Le paramètre.
+     * @return Sa valeur.
+     */
+    public double get(Key key) {
+        return values[key.ordinal()];
+    }
+
+    /**
+     * Retourne le vecteur des paramètres.
+     *
+     * @return Une copie du vecteur, dans l'ordre de {@link Key}.
+     */
+    public double[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * Lit un jeu de paramètres ; les paramètres absents prennent leur valeur par défaut.
+     *
+     * @param properties Les propriétés du profil.
+     * @return Les paramètres lus.
+     * @throws IllegalArgumentException Si une valeur n'est pas un nombre.
+     */
+    public static BotParameters fromProperties(Properties properties) {
+        double[] values = DEFAULTS.toArray();
+        for (Key key : KEYS) {
+            String value = properties.getProperty(key.property);
+            if (value == null) continue;
+            try {
+                values[key.ordinal()] = Double.parseDouble(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valeur invalide pour " + key.property + " : " + value, e);
+            }
+        }
+        return new BotParameters(values);
+    }
+
+    /**
+     * Convertit les paramètres en propriétés.
+     *
+     * @return Les propriétés du profil.
+     */
+    public Properties toProperties() {
+        Properties properties = new Properties();
+        for (Key key : KEYS) {
+            properties.setProperty(key.property, Double.toString(values[key.ordinal()]));
+        }
+        return properties;
+    }
+
+    /**
+     * Charge un profil de paramètres depuis un fichier.
+     *
+     * @param path Le chemin du profil.
+     * @return Les paramètres du profil.
+     * @throws IOException Si le fichier ne peut pas être lu.
+     */
+    public static BotParameters load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return fromProperties(properties);
+    }
+
+    /**
+     * Enregistre les paramètres dans un profil.
+     *
+     * @param path Le chemin du profil.
+     * @param comment Le commentaire placé en tête du fichier.
+     * @throws IOException Si le fichier ne peut pas être écrit.
+     */
+    public void store(Path path, String comment) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            toProperties().store(writer, comment);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof BotParameters other && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("BotParameters{");
+        for (Key key : KEYS) {
+            if (key.ordinal() > 0) sb.append(", ");
+            sb.append(key.property).append('=').append(values[key.ordinal()]);
+        }
+        return sb.append('}').toString();
+    }
+}
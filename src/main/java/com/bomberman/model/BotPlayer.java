@@ -10,11 +10,15 @@ import java.util.*;
  * Le bot prend des décisions automatiques pour se déplacer et poser des bombes.
  */
 public class BotPlayer extends Player {
-    private Random random; // Générateur de nombres aléatoires pour les mouvements
+    private SplittableRandom random; // Flux aléatoire du bot, fourni par la partie pour être reproductible
     private long lastActionTime; // Dernière fois que le bot a effectué une action
     private long lastBombTime; // Dernière fois que le bot a posé une bombe
-    private static final long ACTION_DELAY = 120; // Délai entre les actions du bot
-    private static final long BOMB_INTERVAL = 10000; // Intervalle de pose de bombe en millisecondes
+    public static final long ACTION_DELAY = 120; // Délai entre les actions du bot, en millisecondes
+    private static final long BOMB_INTERVAL = 3000; // Intervalle de pose de bombe en millisecondes
+    private static final int POWER_UP_RADIUS = 6; // Distance maximale à laquelle un bonus attire le bot
+    private final PathFinder pathFinder = new PathFinder(); // Champs de distances réutilisés d'un tick à l'autre
+    private final EscapePlanner escapePlanner = new EscapePlanner(); // Recherche de fuite avant la pose d'une bombe
+    private final BotParameters parameters; // Poids utilisés pour évaluer le danger et les fuites
 
     /**
      * Constructeur pour créer un nouveau joueur bot.
@@ -24,62 +28,160 @@ public class BotPlayer extends Player {
      * @param color La couleur du joueur.
      */
     public BotPlayer(int id, Position position, String color) {
+        this(id, position, color, BotParameters.DEFAULTS);
+    }
+
+    /**
+     * Constructeur pour créer un nouveau joueur bot utilisant des paramètres donnés.
+     *
+     * @param id L'identifiant du joueur.
+     * @param position La position initiale du joueur.
+     * @param color La couleur du joueur.
+     * @param parameters Les poids utilisés pour évaluer le danger et les fuites.
+     */
+    public BotPlayer(int id, Position position, String color, BotParameters parameters) {
         super(id, position, color);
-        this.random = new Random();
-        this.lastActionTime = 0;
-        this.lastBombTime = 0;
+        this.parameters = parameters;
+        this.random = new SplittableRandom();
+        this.lastActionTime = -ACTION_DELAY;
+        this.lastBombTime = -BOMB_INTERVAL;
     }
 
     /**
-     * Effectue un mouvement pour le bot en fonction de l'état du plateau de jeu.
+     * Décide de l'action du bot en fonction d'un état du jeu.
+     * La décision ne modifie ni le plateau ni les joueurs fournis : elle peut être calculée sur une copie
+     * du jeu, hors du fil d'affichage, puis appliquée au jeu réel avec {@link BotAction#applyTo(Game, int)}.
      *
-     * @param board Le plateau de jeu actuel.
-     * @param allPlayers La liste de tous les joueurs.
+     * @param board Le plateau de jeu, éventuellement une copie.
+     * @param allPlayers La liste de tous les joueurs, dans le même état que le plateau.
+     * @param self L'état du bot dans cette liste.
+     * @return L'action choisie, {@link BotAction#NONE} si le bot attend.
+     */
+    public BotAction decide(GameBoard board, List<Player> allPlayers, Player self) {
+        if (!self.isAlive() || !readyToAct(board)) return BotAction.NONE;
+
+        if (wantsToPlaceBomb(board, allPlayers, self)) {
+            return BotAction.PLACE_BOMB;
+        }
+        return BotAction.move(chooseMove(board, allPlayers, self));
+    }
+
+    /**
+     * Attribue au bot son flux aléatoire, tiré de la graine de la partie.
+     *
+     * @param random Le flux aléatoire du bot.
+     */
+    void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Retourne le flux aléatoire du bot, à utiliser pour tout tirage de ses décisions.
+     *
+     * @return Le flux aléatoire du bot.
      */
-    public void makeMove(GameBoard board, List<Player> allPlayers) {
-        if (!isAlive()) return;
+    protected final SplittableRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Indique si le délai entre deux actions sera écoulé à un instant donné, sans le faire repartir.
+     * Permet de ne demander une décision au bot que lorsqu'il peut effectivement agir.
+     *
+     * @param timeMillis Le temps de jeu, en millisecondes.
+     * @return true si le bot pourra agir à cet instant, false sinon.
+     */
+    public boolean isReadyToAct(long timeMillis) {
+        return timeMillis - lastActionTime >= ACTION_DELAY;
+    }
 
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastActionTime < ACTION_DELAY) return;
+    /**
+     * Vérifie si le délai entre deux actions est écoulé et, si c'est le cas, le fait repartir.
+     *
+     * @param board Le plateau de jeu, dont l'horloge donne le temps de jeu.
+     * @return true si le bot peut agir maintenant, false sinon.
+     */
+    protected boolean readyToAct(GameBoard board) {
+        long currentTime = board.getClock().getTimeMillis();
+        if (currentTime - lastActionTime < ACTION_DELAY) return false;
         lastActionTime = currentTime;
+        return true;
+    }
 
-        Position myPos = getPosition();
+    /**
+     * Choisit la direction du prochain déplacement du bot.
+     *
+     * @param board Le plateau de jeu.
+     * @param allPlayers La liste de tous les joueurs.
+     * @param self L'état du bot.
+     * @return La direction choisie, ou null si le bot reste sur place.
+     */
+    private Direction chooseMove(GameBoard board, List<Player> allPlayers, Player self) {
+        Position myPos = self.getPosition();
+        pathFinder.update(board, allPlayers, self);
 
-        // Priorité absolue : survivre aux explosions
+        // Priorité absolue : survivre aux explosions en rejoignant la cellule sûre la plus proche
         if (isInImmediateDanger(board, myPos)) {
-            Direction escapeDir = findBestEscapeRoute(board, myPos);
+            Direction escapeDir = pathFinder.nextStep(PathFinder.Target.SAFE_CELL, myPos.getX(), myPos.getY());
+            if (escapeDir == null) {
+                escapeDir = findBestEscapeRoute(board, myPos);
+            }
             if (escapeDir != null) {
-                move(escapeDir, board);
-                return;
+                return escapeDir;
             }
         }
 
-        // Mouvement aléatoire si pas en danger
-        moveRandomly(board);
+        // Se rapprocher d'un objectif par un chemin sûr
+        Direction goalDir = chooseGoalStep(myPos);
+        if (goalDir != null && isSafeMove(board, myPos.getNeighbor(goalDir))) {
+            return goalDir;
+        }
+
+        // Mouvement aléatoire si aucun objectif n'est accessible
+        return randomSafeDirection(board, myPos);
+    }
+
+    /**
+     * Choisit le premier pas vers l'objectif du bot : un bonus proche en priorité,
+     * sinon le mur destructible ou l'ennemi le plus proche.
+     *
+     * @param myPos La position du bot.
+     * @return La direction à suivre, ou null si le bot est déjà sur un objectif ou qu'aucun n'est accessible.
+     */
+    private Direction chooseGoalStep(Position myPos) {
+        int x = myPos.getX();
+        int y = myPos.getY();
+        if (pathFinder.getDistanceFrom(PathFinder.Target.POWER_UP, x, y) <= POWER_UP_RADIUS) {
+            return pathFinder.nextStep(PathFinder.Target.POWER_UP, x, y);
+        }
+
+        int wallDistance = pathFinder.getDistanceFrom(PathFinder.Target.DESTRUCTIBLE_WALL, x, y);
+        int enemyDistance = pathFinder.getDistanceFrom(PathFinder.Target.ENEMY, x, y);
+        PathFinder.Target target = enemyDistance < wallDistance ? PathFinder.Target.ENEMY : PathFinder.Target.DESTRUCTIBLE_WALL;
+        return pathFinder.nextStep(target, x, y);
     }
 
     /**
-     * Déplace le bot de manière aléatoire sur le plateau.
+     * Choisit une direction aléatoire parmi les déplacements possibles et sûrs.
      *
      * @param board Le plateau de jeu actuel.
+     * @param myPos La position du bot.
+     * @return La direction choisie, ou null si aucun déplacement n'est sûr.
      */
-    private void moveRandomly(GameBoard board) {
-        Position myPos = getPosition();
+    private Direction randomSafeDirection(GameBoard board, Position myPos) {
         List<Direction> possibleDirections = new ArrayList<>();
 
         // Collecter toutes les directions possibles et sûres
         for (Direction dir : Direction.values()) {
-            Position newPos = myPos.getNeighbor(dir);
-            if (board.canMoveTo(newPos) && isSafeMove(board, newPos)) {
+            if (board.canMoveTo(myPos.getX() + dir.getDeltaX(), myPos.getY() + dir.getDeltaY())
+                    && isSafeMove(board, myPos.getNeighbor(dir))) {
                 possibleDirections.add(dir);
             }
         }
 
         // Choisir une direction aléatoire parmi les possibles
-        if (!possibleDirections.isEmpty()) {
-            Direction randomDir = possibleDirections.get(random.nextInt(possibleDirections.size()));
-            move(randomDir, board);
-        }
+        if (possibleDirections.isEmpty()) return null;
+        return possibleDirections.get(random.nextInt(possibleDirections.size()));
     }
 
     // Méthodes d'esquive
@@ -93,18 +195,10 @@ public class BotPlayer extends Player {
      */
     private boolean isInImmediateDanger(GameBoard board, Position pos) {
         // Explosions actuelles
-        for (Explosion explosion : board.getExplosions()) {
-            if (explosion.getPositions().contains(pos)) return true;
-        }
+        if (board.isBurning(pos.getX(), pos.getY())) return true;
 
-        // Bombes sur le point d'exploser
-        for (Bomb bomb : board.getBombs()) {
-            if (bomb.getTimeLeft() <= 1500 && isInBombBlastZone(pos, bomb, board)) {
-                return true;
-            }
-        }
-
-        return false;
+        // Bombes sur le point d'exploser, d'après la carte des dangers partagée
+        return board.getDangerMap().getTimeToBlast(pos.getX(), pos.getY()) <= parameters.get(BotParameters.Key.DANGER_MILLIS);
     }
 
     /**
@@ -115,12 +209,11 @@ public class BotPlayer extends Player {
      * @return La direction optimale pour échapper au danger.
      */
     private Direction findBestEscapeRoute(GameBoard board, Position pos) {
-        Map<Direction, Integer> escapeScores = new HashMap<>();
+        Map<Direction, Double> escapeScores = new HashMap<>();
 
         for (Direction dir : Direction.values()) {
-            Position newPos = pos.getNeighbor(dir);
-            if (board.canMoveTo(newPos)) {
-                int score = calculateEscapeScore(board, newPos);
+            if (board.canMoveTo(pos.getX() + dir.getDeltaX(), pos.getY() + dir.getDeltaY())) {
+                double score = calculateEscapeScore(board, pos.getNeighbor(dir));
                 escapeScores.put(dir, score);
             }
         }
@@ -138,54 +231,29 @@ public class BotPlayer extends Player {
      * @param pos La position à évaluer.
      * @return Le score de la position.
      */
-    private int calculateEscapeScore(GameBoard board, Position pos) {
-        int score = 100;
-
-        // Pénalité pour chaque danger proche
-        for (Bomb bomb : board.getBombs()) {
-            if (isInBombBlastZone(pos, bomb, board)) {
-                score -= (3000 - bomb.getTimeLeft()) / 10; // Plus c'est proche, plus c'est dangereux
-            }
+    private double calculateEscapeScore(GameBoard board, Position pos) {
+        double score = parameters.get(BotParameters.Key.ESCAPE_BASE);
+
+        // Pénalité pour le premier danger qui atteindra la position
+        long timeToBlast = board.getDangerMap().getTimeToBlast(pos.getX(), pos.getY());
+        if (timeToBlast != DangerMap.SAFE) {
+            // Plus c'est proche, plus c'est dangereux
+            score -= (parameters.get(BotParameters.Key.BLAST_HORIZON) - timeToBlast)
+                    * parameters.get(BotParameters.Key.BLAST_WEIGHT);
         }
 
         // Bonus pour les espaces ouverts (plus de liberté de mouvement)
         int openSpaces = 0;
         for (Direction dir : Direction.values()) {
-            if (board.canMoveTo(pos.getNeighbor(dir))) {
+            if (board.canMoveTo(pos.getX() + dir.getDeltaX(), pos.getY() + dir.getDeltaY())) {
                 openSpaces++;
             }
         }
-        score += openSpaces * 20;
+        score += openSpaces * parameters.get(BotParameters.Key.OPEN_SPACE_BONUS);
 
         return score;
     }
 
-    /**
-     * Vérifie si une position est dans la zone d'explosion d'une bombe.
-     *
-     * @param pos La position à vérifier.
-     * @param bomb La bombe à considérer.
-     * @param board Le plateau de jeu.
-     * @return true si la position est dans la zone d'explosion, false sinon.
-     */
-    private boolean isInBombBlastZone(Position pos, Bomb bomb, GameBoard board) {
-        Position bombPos = bomb.getPosition();
-        if (pos.equals(bombPos)) return true;
-
-        for (Direction dir : Direction.values()) {
-            for (int i = 1; i <= bomb.getExplosionRange(); i++) {
-                Position checkPos = new Position(
-                        bombPos.getX() + dir.getDeltaX() * i,
-                        bombPos.getY() + dir.getDeltaY() * i
-                );
-
-                if (checkPos.equals(pos)) return true;
-                if (board.hasWall(checkPos) || board.hasDestructibleWall(checkPos)) break;
-            }
-        }
-        return false;
-    }
-
     /**
      * Vérifie si un mouvement vers une position est sûr.
      *
@@ -198,78 +266,61 @@ public class BotPlayer extends Player {
     }
 
     /**
-     * Vérifie si le bot peut s'échapper après avoir posé une bombe à une position donnée.
+     * Vérifie si le bot peut s'échapper après avoir posé une bombe à une position donnée,
+     * en tenant compte de toutes les mèches en attente et du délai entre ses déplacements.
      *
      * @param board Le plateau de jeu.
      * @param bombPos La position de la bombe.
+     * @param range La portée de la bombe.
      * @return true si le bot peut s'échapper, false sinon.
      */
-    private boolean canEscapeAfterBombAt(GameBoard board, Position bombPos) {
-        for (Direction dir : Direction.values()) {
-            Position escapePos = bombPos.getNeighbor(dir);
-            if (board.canMoveTo(escapePos) && !wouldBeInBlastZone(escapePos, bombPos)) {
-                return true;
-            }
-        }
-        return false;
+    private boolean canEscapeAfterBombAt(GameBoard board, Position bombPos, int range) {
+        return escapePlanner.canEscape(board, bombPos.getX(), bombPos.getY(), range, ACTION_DELAY);
     }
 
     /**
-     * Vérifie si une position serait dans la zone d'explosion d'une bombe.
+     * Détermine si le bot veut poser une bombe : une cible est adjacente et une fuite est garantie.
      *
-     * @param pos La position à vérifier.
-     * @param bombPos La position de la bombe.
-     * @return true si la position serait dans la zone d'explosion, false sinon.
+     * @param board Le plateau de jeu.
+     * @param allPlayers La liste de tous les joueurs.
+     * @param self L'état du bot.
+     * @return true si le bot veut poser une bombe, false sinon.
      */
-    private boolean wouldBeInBlastZone(Position pos, Position bombPos) {
-        if (pos.equals(bombPos)) return true;
+    private boolean wantsToPlaceBomb(GameBoard board, List<Player> allPlayers, Player self) {
+        if (!self.canPlaceBomb()) return false;
 
-        for (Direction dir : Direction.values()) {
-            for (int i = 1; i <= getExplosionRange(); i++) {
-                Position blastPos = new Position(
-                        bombPos.getX() + dir.getDeltaX() * i,
-                        bombPos.getY() + dir.getDeltaY() * i
-                );
-                if (blastPos.equals(pos)) return true;
-            }
-        }
-        return false;
+        long currentTime = board.getClock().getTimeMillis();
+
+        // Poser une bombe au plus toutes les 3 secondes
+        if (currentTime - lastBombTime < BOMB_INTERVAL) return false;
+
+        Position myPos = self.getPosition();
+        if (!hasAdjacentTarget(board, allPlayers, self, myPos)) return false;
+        if (!canEscapeAfterBombAt(board, myPos, self.getExplosionRange())) return false;
+
+        lastBombTime = currentTime;
+        return true;
     }
 
     /**
-     * Détermine si le bot veut poser une bombe.
+     * Vérifie s'il y a un mur destructible ou un ennemi à côté d'une position.
      *
      * @param board Le plateau de jeu.
      * @param allPlayers La liste de tous les joueurs.
-     * @return true si le bot veut poser une bombe, false sinon.
+     * @param self L'état du bot, exclu des ennemis.
+     * @param pos La position à examiner.
+     * @return true si une cible est adjacente, false sinon.
      */
-    public boolean wantsToPlaceBomb(GameBoard board, List<Player> allPlayers) {
-        if (!canPlaceBomb()) return false;
-
-        long currentTime = System.currentTimeMillis();
-
-        // Poser une bombe toutes les 10 secondes
-        if (currentTime - lastBombTime >= BOMB_INTERVAL) {
-            Position myPos = getPosition();
-
-            // Vérifier s'il y a un mur destructible ou un ennemi proche
-            for (Direction dir : Direction.values()) {
-                Position adjacent = myPos.getNeighbor(dir);
-
-                if (board.hasDestructibleWall(adjacent)) {
-                    lastBombTime = currentTime;
-                    return true;
-                }
-
-                for (Player p : allPlayers) {
-                    if (p != this && p.isAlive() && p.getPosition().equals(adjacent)) {
-                        lastBombTime = currentTime;
-                        return true;
-                    }
-                }
+    private boolean hasAdjacentTarget(GameBoard board, List<Player> allPlayers, Player self, Position pos) {
+        for (Direction dir : Direction.values()) {
+            Position adjacent = pos.getNeighbor(dir);
+
+            if (board.hasDestructibleWall(adjacent.getX(), adjacent.getY())) return true;
+
+            for (Player p : allPlayers) {
+                if (p.getId() != self.getId() && p.isAlive() && p.getPosition().equals(adjacent)) return true;
             }
         }
-
         return false;
     }
 }
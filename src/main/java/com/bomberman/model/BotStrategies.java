@@ -0,0 +1,61 @@
+package com.bomberman.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Registre des stratégies de bots disponibles, chargées une fois par {@link ServiceLoader}.
+ */
+public final class BotStrategies {
+
+    private static List<BotStrategy> available; // Stratégies découvertes, chargées au premier accès
+
+    /**
+     * Constructeur privé : classe utilitaire.
+     */
+    private BotStrategies() {
+    }
+
+    /**
+     * Retourne toutes les stratégies découvertes.
+     *
+     * @return Une liste non modifiable des stratégies.
+     */
+    public static synchronized List<BotStrategy> available() {
+        if (available == null) {
+            List<BotStrategy> loaded = new ArrayList<>();
+            for (BotStrategy strategy : ServiceLoader.load(BotStrategy.class, BotStrategy.class.getClassLoader())) {
+                loaded.add(strategy);
+            }
+            available = Collections.unmodifiableList(loaded);
+        }
+        return available;
+    }
+
+    /**
+     * Retourne la stratégie portant un nom donné.
+     *
+     * @param name Le nom de la stratégie.
+     * @return La stratégie.
+     * @throws IllegalArgumentException Si aucune stratégie ne porte ce nom.
+     */
+    public static BotStrategy byName(String name) {
+        for (BotStrategy strategy : available()) {
+            if (strategy.getName().equals(name)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Stratégie de bot inconnue : " + name);
+    }
+
+    /**
+     * Retourne la stratégie utilisée par défaut.
+     *
+     * @return La stratégie classique.
+     */
+    public static BotStrategy defaultStrategy() {
+        return byName(ClassicBotStrategy.NAME);
+    }
+}
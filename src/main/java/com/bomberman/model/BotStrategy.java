@@ -0,0 +1,48 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Position;
+
+/**
+ * Stratégie de jeu d'un bot, découverte par {@link java.util.ServiceLoader}.
+ * Une stratégie est une fabrique : elle crée, pour un emplacement de joueur, le bot qui jouera selon elle.
+ * Les implémentations sont déclarées dans {@code module-info.java} et doivent avoir un constructeur sans paramètre.
+ *
+ * @see BotStrategies
+ */
+public interface BotStrategy {
+
+    /**
+     * Retourne le nom unique de la stratégie, utilisé pour la choisir.
+     *
+     * @return Le nom de la stratégie.
+     */
+    String getName();
+
+    /**
+     * Crée un bot jouant selon cette stratégie.
+     *
+     * @param id L'identifiant du joueur.
+     * @param position La position initiale du joueur.
+     * @param color La couleur du joueur.
+     * @return Le nouveau bot.
+     */
+    BotPlayer createBot(int id, Position position, String color);
+
+    /**
+     * Indique si la stratégie peut créer des bots dans la configuration actuelle.
+     * Les outils qui font jouer toutes les stratégies disponibles ignorent celles qui ne le peuvent pas.
+     *
+     * @return true si la stratégie est utilisable, false sinon.
+     */
+    default boolean isConfigured() {
+        return true;
+    }
+
+    /**
+     * Libère les ressources partagées par les bots de la stratégie, par exemple la connexion à un bot externe.
+     * Les bots déjà créés cessent alors de jouer ; une stratégie fermée peut encore créer des bots,
+     * ses ressources étant rouvertes au besoin.
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,23 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Position;
+
+/**
+ * Stratégie classique : déplacements guidés par les champs de distances et fuite des explosions,
+ * voir {@link BotPlayer}.
+ */
+public class ClassicBotStrategy implements BotStrategy {
+
+    /** Nom de la stratégie. */
+    public static final String NAME = "classique";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public BotPlayer createBot(int id, Position position, String color) {
+        return new BotPlayer(id, position, color);
+    }
+}
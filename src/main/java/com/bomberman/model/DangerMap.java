@@ -0,0 +1,204 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Direction;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Carte des dangers du plateau de jeu, partagée par tous les bots.
+ * Pour chaque cellule, elle indique le premier tick auquel une bombe posée l'atteindra,
+ * en tenant compte de la portée des bombes, des murs et des réactions en chaîne.
+ * <p>
+ * Les ticks étant absolus, la carte ne dépend que des bombes et des murs : le plateau ne la recalcule
+ * que lorsque ceux-ci changent, et chaque bot la consulte ensuite en temps constant.
+ */
+public class DangerMap {
+
+    /**
+     * Valeur indiquant qu'aucune bombe n'atteint une cellule.
+     */
+    public static final long SAFE = Long.MAX_VALUE;
+
+    private static final Direction[] DIRECTIONS = Direction.values(); // Directions, sans copie à chaque appel
+
+    private final GameBoard board; // Plateau dont la carte décrit les dangers
+    private final long[] blastTick; // Premier tick d'explosion atteignant chaque cellule, SAFE sinon
+    private long[] bombTicks = new long[16]; // Tick d'explosion effectif de chaque bombe, chaînes comprises
+    private int[] heap = new int[16]; // Tas minimal des bombes non traitées, ordonné par tick d'explosion
+    private int[] heapPosition = new int[16]; // Position de chaque bombe dans le tas, -1 une fois traitée
+    private int heapSize; // Nombre de bombes restant dans le tas
+
+    /**
+     * Constructeur pour créer la carte des dangers d'un plateau.
+     *
+     * @param board Le plateau de jeu.
+     */
+    DangerMap(GameBoard board) {
+        this.board = board;
+        this.blastTick = new long[board.getWidth() * board.getHeight()];
+        Arrays.fill(blastTick, SAFE);
+    }
+
+    /**
+     * Recalcule la carte à partir des bombes du plateau.
+     * Les bombes sont traitées par tick d'explosion croissant : une bombe atteinte par une explosion
+     * plus précoce hérite de son tick, comme lors d'une réaction en chaîne. Un tas minimal indexé
+     * fournit la prochaine bombe, ce qui rend le calcul quasi linéaire en nombre de bombes.
+     */
+    void recompute() {
+        Arrays.fill(blastTick, SAFE);
+        List<Bomb> bombs = board.bombList();
+        int count = bombs.size();
+        if (bombTicks.length < count) {
+            bombTicks = new long[Math.max(count, bombTicks.length * 2)];
+            heap = new int[bombTicks.length];
+            heapPosition = new int[bombTicks.length];
+        }
+        for (int i = 0; i < count; i++) {
+            bombTicks[i] = bombs.get(i).getDetonationTick();
+            heap[i] = i;
+            heapPosition[i] = i;
+        }
+        heapSize = count;
+        for (int i = count / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+
+        while (heapSize > 0) {
+            // Bombe non traitée explosant la première
+            int next = heap[0];
+            heapPosition[next] = -1;
+            heapSize--;
+            if (heapSize > 0) {
+                place(heap[heapSize], 0);
+                siftDown(0);
+            }
+            propagate(bombs.get(next), bombTicks[next]);
+        }
+    }
+
+    /**
+     * Fait descendre une bombe dans le tas tant qu'un de ses enfants explose avant elle.
+     *
+     * @param position La position de la bombe dans le tas.
+     */
+    private void siftDown(int position) {
+        int bomb = heap[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && bombTicks[heap[child + 1]] < bombTicks[heap[child]]) {
+                child++;
+            }
+            if (bombTicks[heap[child]] >= bombTicks[bomb]) break;
+            place(heap[child], position);
+            position = child;
+        }
+        place(bomb, position);
+    }
+
+    /**
+     * Fait remonter une bombe dans le tas après que son tick d'explosion a été avancé.
+     *
+     * @param position La position de la bombe dans le tas.
+     */
+    private void siftUp(int position) {
+        int bomb = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (bombTicks[heap[parent]] <= bombTicks[bomb]) break;
+            place(heap[parent], position);
+            position = parent;
+        }
+        place(bomb, position);
+    }
+
+    /**
+     * Range une bombe à une position du tas.
+     *
+     * @param bomb L'indice de la bombe.
+     * @param position La position dans le tas.
+     */
+    private void place(int bomb, int position) {
+        heap[position] = bomb;
+        heapPosition[bomb] = position;
+    }
+
+    /**
+     * Reporte sur la carte l'explosion d'une bombe et avance le tick des bombes qu'elle atteint.
+     *
+     * @param bomb La bombe qui explose.
+     * @param tick Le tick auquel elle explose.
+     */
+    private void propagate(Bomb bomb, long tick) {
+        int centerX = bomb.getX();
+        int centerY = bomb.getY();
+        mark(centerX, centerY, tick);
+
+        for (Direction dir : DIRECTIONS) {
+            for (int i = 1; i <= bomb.getExplosionRange(); i++) {
+                int x = centerX + dir.getDeltaX() * i;
+                int y = centerY + dir.getDeltaY() * i;
+
+                if (board.hasWall(x, y)) {
+                    if (board.hasDestructibleWall(x, y)) {
+                        mark(x, y, tick);
+                    }
+                    break;
+                }
+
+                mark(x, y, tick);
+
+                Bomb reached = board.getBomb(x, y);
+                if (reached != null) {
+                    int index = reached.boardIndex;
+                    if (heapPosition[index] >= 0 && tick < bombTicks[index]) {
+                        bombTicks[index] = tick;
+                        siftUp(heapPosition[index]);
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retient le tick d'explosion le plus précoce pour une cellule.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @param tick Le tick d'explosion.
+     */
+    private void mark(int x, int y, long tick) {
+        int i = board.index(x, y);
+        if (tick < blastTick[i]) {
+            blastTick[i] = tick;
+        }
+    }
+
+    /**
+     * Retourne le premier tick auquel une bombe posée atteindra une cellule.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return Le tick d'explosion, ou {@link #SAFE} si aucune bombe n'atteint la cellule.
+     */
+    public long getBlastTick(int x, int y) {
+        if (!board.isValidPosition(x, y)) return SAFE;
+        return blastTick[board.index(x, y)];
+    }
+
+    /**
+     * Retourne le temps restant avant qu'une bombe n'atteigne une cellule.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return Le temps restant en millisecondes, ou {@link #SAFE} si aucune bombe n'atteint la cellule.
+     */
+    public long getTimeToBlast(int x, int y) {
+        long tick = getBlastTick(x, y);
+        if (tick == SAFE) return SAFE;
+        return GameClock.ticksToMillis(Math.max(0, tick - board.getClock().getTick()));
+    }
+}
@@ -0,0 +1,260 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Direction;
+import com.bomberman.util.GameConstants;
+
+import java.util.Arrays;
+
+/**
+ * Recherche dans l'espace et le temps d'un chemin de fuite avant la pose d'une bombe.
+ * L'ensemble des cellules qu'un joueur peut occuper est propagé pas à pas, chaque pas durant le délai
+ * entre deux déplacements : à chaque pas, une cellule n'est gardée que si aucune flamme ne la couvre
+ * pendant toute sa durée, en tenant compte des flammes en cours, de toutes les mèches en attente
+ * (réactions en chaîne comprises) et de la bombe envisagée.
+ * <p>
+ * Les ensembles de cellules sont des bitsets indexés comme le plateau : un pas coûte quelques opérations
+ * par mot de 64 cellules. La recherche s'arrête au-delà d'un budget fixe d'opérations, ce qui borne
+ * son coût par appel quel que soit l'encombrement du plateau.
+ */
+public class EscapePlanner {
+
+    /**
+     * Nombre maximal d'opérations sur les mots des bitsets pour une recherche.
+     */
+    public static final int WORD_BUDGET = 8192;
+
+    private static final Direction[] DIRECTIONS = Direction.values(); // Directions, sans copie à chaque appel
+
+    private GameBoard board; // Plateau sur lequel la recherche est effectuée
+    private long[] frontier = new long[0]; // Cellules occupables au pas courant
+    private long[] next = new long[0]; // Cellules occupables au pas suivant
+    private long[] walkable = new long[0]; // Cellules libres, cellule de départ comprise
+    private long[] safe = new long[0]; // Cellules hors des flammes pendant le pas en cours
+    private long[] permanent = new long[0]; // Cellules qu'aucune flamme n'atteindra
+    private int[] fireCells = new int[0]; // Cellule de chaque intervalle de flammes connu
+    private long[] fireStart = new long[0]; // Premier tick de chaque intervalle de flammes
+    private long[] fireEnd = new long[0]; // Tick de fin (exclu) de chaque intervalle de flammes
+    private int fireCount; // Nombre d'intervalles de flammes connus
+    private int cellCount; // Nombre de cellules du plateau pour lequel les tableaux sont dimensionnés
+
+    /**
+     * Associe le planificateur à un plateau, en réutilisant les tableaux si ses dimensions n'ont pas changé.
+     *
+     * @param board Le plateau de jeu.
+     */
+    private void bind(GameBoard board) {
+        this.board = board;
+        int size = board.getWidth() * board.getHeight();
+        if (cellCount != size) {
+            cellCount = size;
+            int words = (size + 63) >>> 6;
+            frontier = new long[words];
+            next = new long[words];
+            walkable = new long[words];
+            safe = new long[words];
+            permanent = new long[words];
+            // Au plus trois intervalles par cellule : flammes en cours, danger connu et bombe envisagée
+            fireCells = new int[size * 3];
+            fireStart = new long[size * 3];
+            fireEnd = new long[size * 3];
+        }
+    }
+
+    /**
+     * Vérifie qu'un joueur posant maintenant une bombe dans sa cellule peut se mettre à l'abri.
+     *
+     * @param board Le plateau de jeu.
+     * @param bombX La coordonnée x de la bombe, qui est aussi celle du joueur.
+     * @param bombY La coordonnée y de la bombe, qui est aussi celle du joueur.
+     * @param range La portée de la bombe.
+     * @param stepMillis Le délai minimal entre deux déplacements du joueur, en millisecondes.
+     * @return true si un chemin sûr existe, false sinon ou si le budget de recherche est épuisé.
+     */
+    public boolean canEscape(GameBoard board, int bombX, int bombY, int range, long stepMillis) {
+        bind(board);
+        long now = board.getClock().getTick();
+        long stepTicks = Math.max(1, GameClock.millisToTicks(stepMillis));
+        long duration = GameClock.millisToTicks(GameConstants.EXPLOSION_DURATION);
+        int start = board.index(bombX, bombY);
+
+        long lastFire = collectFires(bombX, bombY, range, now, duration);
+        buildStaticMasks(start);
+
+        // Pas 0 : le joueur est sur sa bombe
+        Arrays.fill(frontier, 0);
+        frontier[start >>> 6] |= 1L << start;
+        int words = frontier.length;
+        int budget = WORD_BUDGET;
+        long horizon = (lastFire - now + stepTicks - 1) / stepTicks + 1;
+
+        for (long k = 0; k <= horizon; k++) {
+            if (k > 0) {
+                budget -= words * 6;
+                if (budget < 0) return false;
+                expand();
+            }
+            buildSafeMask(now + k * stepTicks, now + (k + 1) * stepTicks);
+
+            boolean alive = false;
+            for (int w = 0; w < words; w++) {
+                frontier[w] &= safe[w];
+                if (frontier[w] != 0) alive = true;
+                if ((frontier[w] & permanent[w]) != 0) return true;
+            }
+            if (!alive) return false;
+        }
+        // Toutes les flammes connues sont éteintes et le joueur est toujours vivant
+        return true;
+    }
+
+    /**
+     * Recense les intervalles de flammes à venir : flammes en cours, explosions prévues par la carte des dangers
+     * et explosion de la bombe envisagée, qui explose plus tôt si une autre explosion l'atteint.
+     *
+     * @param bombX La coordonnée x de la bombe envisagée.
+     * @param bombY La coordonnée y de la bombe envisagée.
+     * @param range La portée de la bombe envisagée.
+     * @param now Le tick courant.
+     * @param duration La durée d'une explosion en ticks.
+     * @return Le dernier tick de flammes connu.
+     */
+    private long collectFires(int bombX, int bombY, int range, long now, long duration) {
+        DangerMap danger = board.getDangerMap();
+        int width = board.getWidth();
+        int height = board.getHeight();
+        fireCount = 0;
+        long lastFire = now;
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                long burningUntil = board.getBurningUntil(x, y);
+                if (burningUntil > now) {
+                    lastFire = Math.max(lastFire, addFire(board.index(x, y), now, burningUntil));
+                }
+                long blast = danger.getBlastTick(x, y);
+                if (blast != DangerMap.SAFE) {
+                    lastFire = Math.max(lastFire, addFire(board.index(x, y), blast, blast + duration));
+                }
+            }
+        }
+
+        long bombBlast = Math.min(now + GameClock.millisToTicks(GameConstants.BOMB_TIMER), danger.getBlastTick(bombX, bombY));
+        lastFire = Math.max(lastFire, addFire(board.index(bombX, bombY), bombBlast, bombBlast + duration));
+        for (Direction dir : DIRECTIONS) {
+            for (int i = 1; i <= range; i++) {
+                int x = bombX + dir.getDeltaX() * i;
+                int y = bombY + dir.getDeltaY() * i;
+                if (board.hasWall(x, y)) {
+                    if (board.hasDestructibleWall(x, y)) {
+                        addFire(board.index(x, y), bombBlast, bombBlast + duration);
+                    }
+                    break;
+                }
+                addFire(board.index(x, y), bombBlast, bombBlast + duration);
+                if (board.hasBomb(x, y)) break;
+            }
+        }
+        return lastFire;
+    }
+
+    /**
+     * Ajoute un intervalle de flammes.
+     *
+     * @param cell L'indice de la cellule en flammes.
+     * @param from Le premier tick de flammes.
+     * @param until Le tick de fin (exclu) des flammes.
+     * @return Le tick de fin de l'intervalle.
+     */
+    private long addFire(int cell, long from, long until) {
+        fireCells[fireCount] = cell;
+        fireStart[fireCount] = from;
+        fireEnd[fireCount] = until;
+        fireCount++;
+        return until;
+    }
+
+    /**
+     * Construit les masques des cellules libres et des cellules qu'aucune flamme n'atteindra.
+     *
+     * @param start L'indice de la cellule de départ, praticable bien qu'elle porte la bombe.
+     */
+    private void buildStaticMasks(int start) {
+        Arrays.fill(walkable, 0);
+        int width = board.getWidth();
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < width; x++) {
+                if (board.canMoveTo(x, y)) {
+                    int i = y * width + x;
+                    walkable[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+        walkable[start >>> 6] |= 1L << start;
+
+        System.arraycopy(walkable, 0, permanent, 0, walkable.length);
+        for (int f = 0; f < fireCount; f++) {
+            int i = fireCells[f];
+            permanent[i >>> 6] &= ~(1L << i);
+        }
+    }
+
+    /**
+     * Construit le masque des cellules qu'aucune flamme ne couvre pendant un intervalle de ticks.
+     *
+     * @param from Le premier tick de l'intervalle.
+     * @param until Le tick de fin (exclu) de l'intervalle.
+     */
+    private void buildSafeMask(long from, long until) {
+        Arrays.fill(safe, -1L);
+        for (int f = 0; f < fireCount; f++) {
+            if (fireStart[f] < until && fireEnd[f] > from) {
+                int i = fireCells[f];
+                safe[i >>> 6] &= ~(1L << i);
+            }
+        }
+    }
+
+    /**
+     * Étend la frontière d'un pas : rester sur place ou passer dans une cellule voisine praticable.
+     * Les décalages d'une ligne à l'autre sont sans effet car les bords du plateau sont des murs.
+     */
+    private void expand() {
+        int width = board.getWidth();
+        int words = frontier.length;
+        for (int w = 0; w < words; w++) {
+            next[w] = frontier[w]
+                    | shiftedWord(frontier, w, 1)
+                    | shiftedWord(frontier, w, -1)
+                    | shiftedWord(frontier, w, width)
+                    | shiftedWord(frontier, w, -width);
+            next[w] &= walkable[w];
+        }
+        long[] swap = frontier;
+        frontier = next;
+        next = swap;
+    }
+
+    /**
+     * Retourne le mot d'indice w du bitset décalé de n bits vers les indices croissants (n négatif : décroissants).
+     *
+     * @param bits Le bitset.
+     * @param w L'indice du mot.
+     * @param n Le décalage en bits.
+     * @return Le mot décalé.
+     */
+    private static long shiftedWord(long[] bits, int w, int n) {
+        if (n >= 0) {
+            int q = n >>> 6;
+            int r = n & 63;
+            long high = w - q >= 0 ? bits[w - q] << r : 0;
+            long low = r != 0 && w - q - 1 >= 0 ? bits[w - q - 1] >>> (64 - r) : 0;
+            return high | low;
+        }
+        int m = -n;
+        int q = m >>> 6;
+        int r = m & 63;
+        long low = w + q < bits.length ? bits[w + q] >>> r : 0;
+        long high = r != 0 && w + q + 1 < bits.length ? bits[w + q + 1] << (64 - r) : 0;
+        return low | high;
+    }
+}
@@ -1,5 +1,6 @@
 package com.bomberman.model;
 
+import com.bomberman.util.Direction;
 import com.bomberman.util.Position;
 import com.bomberman.util.GameConstants;
 
@@ -8,6 +9,10 @@ import java.util.*;
 /**
  * Représente une explosion dans le jeu Bomberman.
  * Gère les positions et les types d'explosion, ainsi que leur durée.
+ * <p>
+ * Une explosion est codée par sa cellule centrale et la longueur de ses quatre branches :
+ * l'appartenance d'une cellule, son type et le parcours des cellules se calculent sans allocation,
+ * et le plateau peut recycler les explosions terminées.
  */
 public class Explosion {
 
@@ -21,61 +26,132 @@ public class Explosion {
         END // Fin de l'explosion
     }
 
-    private Map<Position, ExplosionType> explosionTypes; // Types d'explosion associés à chaque position
-    private long startTime; // Temps de début de l'explosion
-    private Position centerPosition; // Position centrale de l'explosion
+    private static final Direction[] DIRECTIONS = Direction.values(); // Ordre de parcours des branches
+
+    private GameClock clock; // Horloge de la partie
+    private long startTick; // Tick de début de l'explosion
+    private int centerX; // Coordonnée x du centre de l'explosion
+    private int centerY; // Coordonnée y du centre de l'explosion
+    private int upLength; // Longueur de la branche vers le haut
+    private int downLength; // Longueur de la branche vers le bas
+    private int leftLength; // Longueur de la branche vers la gauche
+    private int rightLength; // Longueur de la branche vers la droite
+    int boardIndex = -1; // Indice de l'explosion dans la liste du plateau, -1 si elle n'y est pas
 
     /**
      * Constructeur pour créer une nouvelle explosion.
+     * Les positions alignées avec le centre déterminent la longueur de chaque branche.
      *
      * @param positions Liste des positions affectées par l'explosion.
      * @param center Position centrale de l'explosion.
+     * @param clock L'horloge de la partie, utilisée pour la durée de l'explosion.
      */
-    public Explosion(List<Position> positions, Position center) {
-        this.explosionTypes = new HashMap<>();
-        this.startTime = System.currentTimeMillis();
-        this.centerPosition = center;
+    public Explosion(List<Position> positions, Position center, GameClock clock) {
+        this(clock);
+        start(center.getX(), center.getY());
+        for (Position pos : positions) {
+            int deltaX = pos.getX() - centerX;
+            int deltaY = pos.getY() - centerY;
+            if (deltaX == 0 && deltaY < 0) {
+                upLength = Math.max(upLength, -deltaY);
+            } else if (deltaX == 0 && deltaY > 0) {
+                downLength = Math.max(downLength, deltaY);
+            } else if (deltaY == 0 && deltaX < 0) {
+                leftLength = Math.max(leftLength, -deltaX);
+            } else if (deltaY == 0 && deltaX > 0) {
+                rightLength = Math.max(rightLength, deltaX);
+            }
+        }
+    }
 
-        categorizeExplosionPositions(positions, center);
+    /**
+     * Constructeur pour créer une explosion vide, destinée à être (ré)initialisée par {@link #start(int, int)}.
+     *
+     * @param clock L'horloge de la partie.
+     */
+    Explosion(GameClock clock) {
+        this.clock = clock;
     }
 
     /**
-     * Catégorise les positions de l'explosion en différents types.
+     * Constructeur de copie : crée une explosion identique rythmée par une autre horloge.
      *
-     * @param positions Liste des positions à catégoriser.
-     * @param center Position centrale de l'explosion.
+     * @param other L'explosion à copier.
+     * @param clock L'horloge de la copie.
      */
-    private void categorizeExplosionPositions(List<Position> positions, Position center) {
-        for (Position pos : positions) {
-            if (pos.equals(center)) {
-                // Position centrale
-                explosionTypes.put(pos, ExplosionType.CENTER);
-            } else {
-                // Déterminer la direction par rapport au centre
-                int deltaX = pos.getX() - center.getX();
-                int deltaY = pos.getY() - center.getY();
-
-                if (deltaX == 0 && deltaY != 0) {
-                    // Explosion verticale (haut/bas)
-                    explosionTypes.put(pos, ExplosionType.VERTICAL);
-                } else if (deltaY == 0 && deltaX != 0) {
-                    // Explosion horizontale (gauche/droite)
-                    explosionTypes.put(pos, ExplosionType.HORIZONTAL);
-                } else {
-                    // Position de fin d'explosion (normalement ne devrait pas arriver)
-                    explosionTypes.put(pos, ExplosionType.END);
-                }
-            }
+    Explosion(Explosion other, GameClock clock) {
+        this.clock = clock;
+        this.startTick = other.startTick;
+        this.centerX = other.centerX;
+        this.centerY = other.centerY;
+        this.upLength = other.upLength;
+        this.downLength = other.downLength;
+        this.leftLength = other.leftLength;
+        this.rightLength = other.rightLength;
+    }
+
+    /**
+     * (Ré)initialise l'explosion au tick courant, réduite à sa cellule centrale.
+     *
+     * @param x La coordonnée x du centre.
+     * @param y La coordonnée y du centre.
+     */
+    void start(int x, int y) {
+        this.centerX = x;
+        this.centerY = y;
+        this.startTick = clock.getTick();
+        this.upLength = 0;
+        this.downLength = 0;
+        this.leftLength = 0;
+        this.rightLength = 0;
+    }
+
+    /**
+     * Définit la longueur d'une branche de l'explosion.
+     *
+     * @param direction La direction de la branche.
+     * @param length Le nombre de cellules touchées dans cette direction, centre exclu.
+     */
+    void setArmLength(Direction direction, int length) {
+        switch (direction) {
+            case UP -> upLength = length;
+            case DOWN -> downLength = length;
+            case LEFT -> leftLength = length;
+            case RIGHT -> rightLength = length;
         }
     }
 
+    /**
+     * Retourne la longueur d'une branche de l'explosion.
+     *
+     * @param direction La direction de la branche.
+     * @return Le nombre de cellules touchées dans cette direction, centre exclu.
+     */
+    public int getArmLength(Direction direction) {
+        return switch (direction) {
+            case UP -> upLength;
+            case DOWN -> downLength;
+            case LEFT -> leftLength;
+            case RIGHT -> rightLength;
+        };
+    }
+
     /**
      * Vérifie si l'explosion est terminée.
      *
      * @return true si l'explosion est terminée, false sinon.
      */
     public boolean isFinished() {
-        return System.currentTimeMillis() - startTime >= GameConstants.EXPLOSION_DURATION;
+        return clock.getTick() >= getEndTick();
+    }
+
+    /**
+     * Retourne le tick auquel l'explosion se termine.
+     *
+     * @return Le tick de fin de l'explosion.
+     */
+    public long getEndTick() {
+        return startTick + GameClock.millisToTicks(GameConstants.EXPLOSION_DURATION);
     }
 
     /**
@@ -84,27 +160,122 @@ public class Explosion {
      * @return true si l'explosion est sur le point de se terminer, false sinon.
      */
     public boolean isAboutToFinish() {
-        long elapsed = System.currentTimeMillis() - startTime;
+        long elapsed = GameClock.ticksToMillis(clock.getTick() - startTick);
         return elapsed >= GameConstants.EXPLOSION_DURATION - 200; // 200ms avant la fin
     }
 
+    /**
+     * Retourne le nombre de cellules touchées par l'explosion.
+     *
+     * @return Le nombre de cellules, centre compris.
+     */
+    public int size() {
+        return 1 + upLength + downLength + leftLength + rightLength;
+    }
+
+    /**
+     * Retourne la direction de la branche contenant la i-ème cellule touchée.
+     * Les cellules sont numérotées à partir du centre (indice 0), puis branche par branche
+     * dans l'ordre des {@link Direction}.
+     *
+     * @param i L'indice de la cellule, entre 1 et {@link #size()} exclu.
+     * @return La direction de la branche.
+     */
+    private Direction armOf(int i) {
+        int remaining = i - 1;
+        for (Direction dir : DIRECTIONS) {
+            int length = getArmLength(dir);
+            if (remaining < length) return dir;
+            remaining -= length;
+        }
+        throw new IndexOutOfBoundsException(i);
+    }
+
+    /**
+     * Retourne la distance au centre de la i-ème cellule touchée.
+     *
+     * @param i L'indice de la cellule, entre 0 et {@link #size()} exclu.
+     * @return La distance au centre (0 pour le centre).
+     */
+    private int distanceOf(int i) {
+        int remaining = i - 1;
+        for (Direction dir : DIRECTIONS) {
+            int length = getArmLength(dir);
+            if (remaining < length) return remaining + 1;
+            remaining -= length;
+        }
+        return 0;
+    }
+
+    /**
+     * Retourne la coordonnée x de la i-ème cellule touchée.
+     *
+     * @param i L'indice de la cellule, entre 0 et {@link #size()} exclu.
+     * @return La coordonnée x.
+     */
+    public int getX(int i) {
+        if (i == 0) return centerX;
+        return centerX + armOf(i).getDeltaX() * distanceOf(i);
+    }
+
+    /**
+     * Retourne la coordonnée y de la i-ème cellule touchée.
+     *
+     * @param i L'indice de la cellule, entre 0 et {@link #size()} exclu.
+     * @return La coordonnée y.
+     */
+    public int getY(int i) {
+        if (i == 0) return centerY;
+        return centerY + armOf(i).getDeltaY() * distanceOf(i);
+    }
+
+    /**
+     * Retourne le type d'explosion de la i-ème cellule touchée.
+     *
+     * @param i L'indice de la cellule, entre 0 et {@link #size()} exclu.
+     * @return Le type d'explosion.
+     */
+    public ExplosionType getType(int i) {
+        if (i == 0) return ExplosionType.CENTER;
+        Direction dir = armOf(i);
+        return dir.getDeltaX() == 0 ? ExplosionType.VERTICAL : ExplosionType.HORIZONTAL;
+    }
+
     /**
      * Retourne la liste des positions affectées par l'explosion.
      *
      * @return Liste des positions.
      */
     public List<Position> getPositions() {
-        return new ArrayList<>(explosionTypes.keySet());
+        int size = size();
+        List<Position> positions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            positions.add(new Position(getX(i), getY(i)));
+        }
+        return positions;
     }
 
     /**
      * Retourne le type d'explosion à une position donnée.
      *
      * @param position La position à vérifier.
-     * @return Le type d'explosion à cette position.
+     * @return Le type d'explosion à cette position, ou {@link ExplosionType#END} si elle n'est pas touchée.
      */
     public ExplosionType getExplosionType(Position position) {
-        return explosionTypes.getOrDefault(position, ExplosionType.END);
+        return getExplosionType(position.getX(), position.getY());
+    }
+
+    /**
+     * Retourne le type d'explosion dans une cellule donnée, calculé à partir du centre et des branches.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return Le type d'explosion dans cette cellule, ou {@link ExplosionType#END} si elle n'est pas touchée.
+     */
+    public ExplosionType getExplosionType(int x, int y) {
+        if (!contains(x, y)) return ExplosionType.END;
+        if (x == centerX && y == centerY) return ExplosionType.CENTER;
+        return x == centerX ? ExplosionType.VERTICAL : ExplosionType.HORIZONTAL;
     }
 
     /**
@@ -113,7 +284,11 @@ public class Explosion {
      * @return Carte des types d'explosion.
      */
     public Map<Position, ExplosionType> getAllExplosionTypes() {
-        return new HashMap<>(explosionTypes);
+        Map<Position, ExplosionType> explosionTypes = new HashMap<>();
+        for (int i = 0; i < size(); i++) {
+            explosionTypes.put(new Position(getX(i), getY(i)), getType(i));
+        }
+        return explosionTypes;
     }
 
     /**
@@ -123,7 +298,26 @@ public class Explosion {
      * @return true si la position est affectée, false sinon.
      */
     public boolean contains(Position position) {
-        return explosionTypes.containsKey(position);
+        return contains(position.getX(), position.getY());
+    }
+
+    /**
+     * Vérifie si une cellule est affectée par l'explosion, par un simple calcul sur les branches.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true si la cellule est affectée, false sinon.
+     */
+    public boolean contains(int x, int y) {
+        int deltaX = x - centerX;
+        int deltaY = y - centerY;
+        if (deltaX == 0) {
+            return deltaY <= 0 ? -deltaY <= upLength : deltaY <= downLength;
+        }
+        if (deltaY == 0) {
+            return deltaX < 0 ? -deltaX <= leftLength : deltaX <= rightLength;
+        }
+        return false;
     }
 
     /**
@@ -132,6 +326,6 @@ public class Explosion {
      * @return La position centrale.
      */
     public Position getCenterPosition() {
-        return new Position(centerPosition);
+        return new Position(centerX, centerY);
     }
 }
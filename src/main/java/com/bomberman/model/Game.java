@@ -1,51 +1,204 @@
 package com.bomberman.model;
 
-import com.bomberman.controller.AvatarController;
 import com.bomberman.util.*;
-import javafx.animation.PauseTransition;
-import javafx.event.ActionEvent;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Node;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
-import javafx.stage.Stage;
-import javafx.util.Duration;
-
-import java.io.IOException;
+
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Représente le jeu Bomberman.
  * Gère le plateau de jeu, les joueurs, et les règles du jeu.
+ * Le modèle ne dépend pas de JavaFX : les résultats des matchs sont transmis à un {@link GameListener},
+ * ce qui permet de simuler des parties sans interface graphique.
  */
 public class Game {
+    private static final Direction[] DIRECTIONS = Direction.values(); // Directions, sans copie à chaque appel
+
     private GameBoard board; // Le plateau de jeu
     private List<Player> players; // Liste des joueurs
     private boolean gameRunning; // Indique si le jeu est en cours
     private Player winner; // Le joueur gagnant
-    private Stage primaryStage; // La scène principale du jeu
     private int humanPlayerCount; // Nombre de joueurs humains
+    private GameListener listener; // Écouteur notifié du début et de la fin des matchs
+    private GameClock clock; // Horloge de simulation, avancée d'un tick à chaque mise à jour
+    private List<BotStrategy> botStrategies; // Stratégie de chaque emplacement de joueur, null pour la stratégie par défaut
+    private long seed; // Graine de la partie en cours, dont découle tout son aléa
+    private final List<Bomb> bombsToExplode = new ArrayList<>(); // File réutilisée des bombes à faire exploser
+    private final List<Explosion> cascadeExplosions = new ArrayList<>(); // Explosions de la réaction en chaîne en cours
 
     /**
-     * Constructeur pour initialiser un nouveau jeu.
+     * Constructeur pour initialiser un nouveau jeu rythmé par une horloge donnée.
      *
      * @param totalPlayers Le nombre total de joueurs.
      * @param humanPlayers Le nombre de joueurs humains.
+     * @param listener L'écouteur notifié du début et de la fin des matchs.
+     * @param clock L'horloge de simulation de la partie.
      */
-    public Game(int totalPlayers, int humanPlayers) {
+    public Game(int totalPlayers, int humanPlayers, GameListener listener, GameClock clock) {
+        this(totalPlayers, humanPlayers, listener, clock, false);
+    }
+
+    /**
+     * Constructeur pour initialiser un nouveau jeu en choisissant le niveau des bots.
+     *
+     * @param totalPlayers Le nombre total de joueurs.
+     * @param humanPlayers Le nombre de joueurs humains.
+     * @param listener L'écouteur notifié du début et de la fin des matchs.
+     * @param clock L'horloge de simulation de la partie.
+     * @param strongBots true pour des bots {@link MonteCarloBotPlayer}, false pour des bots classiques.
+     */
+    public Game(int totalPlayers, int humanPlayers, GameListener listener, GameClock clock, boolean strongBots) {
+        this(totalPlayers, humanPlayers, listener, clock, strongBots
+                ? Collections.nCopies(GameConstants.MAX_PLAYERS, BotStrategies.byName(MonteCarloBotStrategy.NAME))
+                : List.of());
+    }
+
+    /**
+     * Constructeur pour initialiser un nouveau jeu en choisissant la stratégie de chaque bot.
+     *
+     * @param totalPlayers Le nombre total de joueurs.
+     * @param humanPlayers Le nombre de joueurs humains.
+     * @param listener L'écouteur notifié du début et de la fin des matchs.
+     * @param clock L'horloge de simulation de la partie.
+     * @param botStrategies La stratégie de chaque emplacement de joueur, indexée par identifiant ;
+     *                      un emplacement absent ou null utilise {@link BotStrategies#defaultStrategy()}.
+     */
+    public Game(int totalPlayers, int humanPlayers, GameListener listener, GameClock clock,
+                List<BotStrategy> botStrategies) {
+        this(totalPlayers, humanPlayers, listener, clock, botStrategies, newSeed());
+    }
+
+    /**
+     * Constructeur pour initialiser un nouveau jeu dont tout l'aléa découle d'une graine,
+     * découpée comme dans {@link #resetGame(int, long)} : une même graine rejoue la même partie.
+     *
+     * @param totalPlayers Le nombre total de joueurs.
+     * @param humanPlayers Le nombre de joueurs humains.
+     * @param listener L'écouteur notifié du début et de la fin des matchs.
+     * @param clock L'horloge de simulation de la partie.
+     * @param botStrategies La stratégie de chaque emplacement de joueur, indexée par identifiant ;
+     *                      un emplacement absent ou null utilise {@link BotStrategies#defaultStrategy()}.
+     * @param seed La graine de la partie.
+     */
+    public Game(int totalPlayers, int humanPlayers, GameListener listener, GameClock clock,
+                List<BotStrategy> botStrategies, long seed) {
+        this.botStrategies = new ArrayList<>(botStrategies);
         this.humanPlayerCount = humanPlayers;
-        board = new GameBoard();
+        this.listener = listener != null ? listener : GameListener.NONE;
+        this.clock = clock;
+        this.seed = seed;
+        SplittableRandom random = new SplittableRandom(seed);
+        board = new GameBoard(clock, random);
         players = new ArrayList<>();
         gameRunning = true;
         winner = null;
 
-        initializePlayers(totalPlayers, humanPlayers);
+        initializePlayers(totalPlayers, humanPlayers, random);
+
+        this.listener.onMatchStarted(this);
+    }
+
+    /**
+     * Constructeur pour initialiser un nouveau jeu notifiant un écouteur.
+     *
+     * @param totalPlayers Le nombre total de joueurs.
+     * @param humanPlayers Le nombre de joueurs humains.
+     * @param listener L'écouteur notifié du début et de la fin des matchs.
+     */
+    public Game(int totalPlayers, int humanPlayers, GameListener listener) {
+        this(totalPlayers, humanPlayers, listener, new GameClock());
+    }
 
-        // Incrémenter les compteurs de matchs
-        AvatarController.incrementTotalMatch(AvatarController.TOTAL_MATCH_KEY1);
-        AvatarController.incrementTotalMatch(AvatarController.TOTAL_MATCH_KEY2);
-        AvatarController.incrementTotalMatch(AvatarController.TOTAL_MATCH_KEY3);
-        AvatarController.incrementTotalMatch(AvatarController.TOTAL_MATCH_KEY4);
+    /**
+     * Constructeur pour initialiser un nouveau jeu sans écouteur.
+     *
+     * @param totalPlayers Le nombre total de joueurs.
+     * @param humanPlayers Le nombre de joueurs humains.
+     */
+    public Game(int totalPlayers, int humanPlayers) {
+        this(totalPlayers, humanPlayers, GameListener.NONE);
+    }
+
+    /**
+     * Constructeur de simulation : crée un jeu en cours à partir d'un plateau et de joueurs existants,
+     * sans écouteur ni initialisation.
+     *
+     * @param board Le plateau de jeu.
+     * @param players Les joueurs, indexés par identifiant.
+     * @param clock L'horloge du plateau.
+     */
+    private Game(GameBoard board, List<Player> players, GameClock clock) {
+        this.board = board;
+        this.players = players;
+        this.clock = clock;
+        this.listener = GameListener.NONE;
+        this.gameRunning = true;
+        this.botStrategies = List.of();
+    }
+
+    /**
+     * Crée un jeu indépendant dans le même état qu'un plateau et des joueurs donnés.
+     * Les joueurs copiés sont de simples {@link Player} : la copie sert à simuler la suite de la partie,
+     * les décisions de chaque joueur étant prises par l'appelant.
+     *
+     * @param board Le plateau à copier.
+     * @param players Les joueurs à copier, indexés par identifiant.
+     * @param dropRandom Le flux des bonus de la copie, distinct de celui de l'original.
+     * @return La copie du jeu.
+     */
+    public static Game copyOf(GameBoard board, List<Player> players, SplittableRandom dropRandom) {
+        GameClock clock = new GameClock(board.getClock().getTick());
+        List<Player> copiedPlayers = new ArrayList<>(players.size());
+        for (int i = 0; i < players.size(); i++) {
+            copiedPlayers.add(new Player(players.get(i)));
+        }
+        return new Game(new GameBoard(board, clock, copiedPlayers, dropRandom), copiedPlayers, clock);
+    }
+
+    /**
+     * Crée une copie indépendante du jeu, par exemple pour y jouer des simulations.
+     *
+     * @param dropRandom Le flux des bonus de la copie, distinct de celui de l'original.
+     * @return La copie du jeu.
+     */
+    public Game copy(SplittableRandom dropRandom) {
+        Game copy = copyOf(board, players, dropRandom);
+        copy.seed = seed;
+        copy.gameRunning = gameRunning;
+        copy.humanPlayerCount = humanPlayerCount;
+        copy.winner = winner != null ? copy.players.get(winner.getId()) : null;
+        return copy;
+    }
+
+    /**
+     * Fige l'état de la partie dans un instantané immuable, lisible depuis d'autres fils.
+     * Seules les parties du plateau modifiées depuis l'instantané précédent sont recopiées.
+     * Doit être appelée depuis le fil qui fait avancer le jeu.
+     *
+     * @return L'instantané de la partie.
+     */
+    public GameSnapshot snapshot() {
+        return new GameSnapshot(this);
+    }
+
+    /**
+     * Crée un jeu restauré depuis un instantané.
+     *
+     * @param board Le plateau restauré.
+     * @param players Les joueurs restaurés, indexés par identifiant.
+     * @param clock L'horloge du plateau.
+     * @param gameRunning Indique si la partie était en cours.
+     * @param humanPlayerCount Le nombre de joueurs humains.
+     * @param winnerId L'identifiant du gagnant, ou -1.
+     * @return Le jeu restauré.
+     */
+    static Game restore(GameBoard board, List<Player> players, GameClock clock,
+                        boolean gameRunning, int humanPlayerCount, int winnerId) {
+        Game game = new Game(board, players, clock);
+        game.gameRunning = gameRunning;
+        game.humanPlayerCount = humanPlayerCount;
+        game.winner = winnerId >= 0 ? players.get(winnerId) : null;
+        return game;
     }
 
     /**
@@ -62,8 +215,9 @@ public class Game {
      *
      * @param totalPlayers Le nombre total de joueurs.
      * @param humanPlayers Le nombre de joueurs humains.
+     * @param random Le générateur dont est tiré le flux de chaque bot.
      */
-    private void initializePlayers(int totalPlayers, int humanPlayers) {
+    private void initializePlayers(int totalPlayers, int humanPlayers, SplittableRandom random) {
         Position[] startPositions = {
                 new Position(1, 1),
                 new Position(GameConstants.BOARD_WIDTH - 2, 1),
@@ -81,19 +235,21 @@ public class Game {
 
         // Créer les bots pour compléter
         for (int i = actualHumanPlayers; i < actualTotalPlayers; i++) {
-            players.add(new BotPlayer(i, startPositions[i], GameConstants.PLAYER_COLORS[i]));
+            BotPlayer bot = strategyFor(i).createBot(i, startPositions[i], GameConstants.PLAYER_COLORS[i]);
+            bot.setRandom(random.split());
+            players.add(bot);
         }
     }
 
     /**
-     * Constructeur pour initialiser un nouveau jeu avec une scène principale.
+     * Retourne la stratégie choisie pour un emplacement de joueur.
      *
-     * @param numPlayers Le nombre total de joueurs.
-     * @param stage La scène principale du jeu.
+     * @param slot L'identifiant du joueur.
+     * @return La stratégie de l'emplacement, ou la stratégie par défaut.
      */
-    public Game(int numPlayers, Stage stage) {
-        this(numPlayers);
-        this.primaryStage = stage;
+    private BotStrategy strategyFor(int slot) {
+        BotStrategy strategy = slot < botStrategies.size() ? botStrategies.get(slot) : null;
+        return strategy != null ? strategy : BotStrategies.defaultStrategy();
     }
 
     /**
@@ -108,7 +264,13 @@ public class Game {
         if (playerId >= 0 && playerId < players.size()) {
             Player player = players.get(playerId);
             if (player != null && player.isAlive()) {
+                int oldX = player.getX();
+                int oldY = player.getY();
                 player.move(direction, board);
+                if (player.getX() != oldX || player.getY() != oldY) {
+                    board.markCellChanged(oldX, oldY);
+                    board.markCellChanged(player.getX(), player.getY());
+                }
                 checkPowerUpCollection(player);
             }
         }
@@ -125,7 +287,7 @@ public class Game {
         if (playerId >= 0 && playerId < players.size()) {
             Player player = players.get(playerId);
             if (player != null && player.isAlive() && player.canPlaceBomb()) {
-                Bomb bomb = new Bomb(player.getPosition(), player);
+                Bomb bomb = new Bomb(player.getPosition(), player, clock);
                 board.placeBomb(bomb);
                 player.placeBomb();
             }
@@ -133,23 +295,20 @@ public class Game {
     }
 
     /**
-     * Met à jour l'état du jeu.
+     * Met à jour l'état du jeu en avançant l'horloge d'un tick.
+     * Le rythme de la partie dépend uniquement du nombre d'appels : l'appeler en boucle accélère la simulation,
+     * cesser de l'appeler la met en pause.
      */
     public void update() {
         if (!gameRunning) return;
 
-        // Vérifier les bombes qui doivent exploser
-        List<Bomb> bombsToExplode = new ArrayList<>();
-        for (Bomb bomb : board.getBombs()) {
-            if (bomb.shouldExplode()) {
-                bombsToExplode.add(bomb);
-            }
-        }
+        clock.advance();
 
-        // Faire exploser les bombes
-        for (Bomb bomb : bombsToExplode) {
-            explodeBomb(bomb);
-        }
+        // Récupérer uniquement les bombes dont la mèche arrive à son terme
+        board.collectDueBombs(bombsToExplode);
+
+        // Faire exploser les bombes, y compris celles atteintes par réaction en chaîne
+        resolveDetonations();
 
         // Nettoyer les explosions finies
         board.removeFinishedExplosions();
@@ -162,55 +321,101 @@ public class Game {
     }
 
     /**
-     * Fait exploser une bombe et gère les conséquences.
-     *
-     * @param bomb La bombe à faire exploser.
+     * Résout en une seule passe les explosions du tick courant.
+     * Les bombes arrivées à échéance forment une file à laquelle s'ajoutent les bombes atteintes par une explosion ;
+     * chaque cellule n'est mise en file qu'une fois par tick, si bien que le coût reste proportionnel
+     * au nombre de cellules touchées, quelle que soit la longueur de la chaîne.
+     * Les bombes ne sont retirées et les murs détruits qu'une fois la chaîne résolue,
+     * pour que toutes les explosions du tick voient le même plateau.
      */
-    private void explodeBomb(Bomb bomb) {
-        board.removeBomb(bomb.getPosition());
-        bomb.getOwner().bombExploded();
+    private void resolveDetonations() {
+        if (bombsToExplode.isEmpty()) return;
 
-        List<Position> explosionPositions = calculateExplosionPositions(bomb);
-        // Passer la position centrale de la bombe pour catégoriser les explosions
-        board.addExplosion(new Explosion(explosionPositions, bomb.getPosition()));
+        for (int i = 0; i < bombsToExplode.size(); i++) {
+            Bomb bomb = bombsToExplode.get(i);
+            board.markDetonation(bomb.getX(), bomb.getY());
+        }
 
-        // Détruire les murs destructibles
-        for (Position pos : explosionPositions) {
-            if (board.hasDestructibleWall(pos)) {
-                board.destroyWall(pos);
+        // La file grandit pendant le parcours lorsque des bombes sont atteintes
+        for (int i = 0; i < bombsToExplode.size(); i++) {
+            explodeBomb(bombsToExplode.get(i));
+        }
+
+        for (int i = 0; i < bombsToExplode.size(); i++) {
+            Bomb bomb = bombsToExplode.get(i);
+            board.removeBomb(bomb.getX(), bomb.getY());
+            bomb.getOwner().bombExploded();
+        }
+
+        // Seule l'extrémité d'une branche peut être un mur destructible
+        for (int i = 0; i < cascadeExplosions.size(); i++) {
+            Explosion explosion = cascadeExplosions.get(i);
+            for (Direction dir : DIRECTIONS) {
+                int length = explosion.getArmLength(dir);
+                if (length == 0) continue;
+                int x = explosion.getX(0) + dir.getDeltaX() * length;
+                int y = explosion.getY(0) + dir.getDeltaY() * length;
+                if (board.hasDestructibleWall(x, y)) {
+                    board.destroyWall(x, y);
+                }
             }
         }
+
+        bombsToExplode.clear();
+        cascadeExplosions.clear();
     }
 
     /**
-     * Calcule les positions affectées par l'explosion d'une bombe.
+     * Fait exploser une bombe : calcule son explosion et la place sur le plateau.
+     * Les bombes atteintes sont ajoutées à la file des bombes à faire exploser.
+     *
+     * @param bomb La bombe à faire exploser.
+     */
+    private void explodeBomb(Bomb bomb) {
+        // L'explosion est recyclée parmi les explosions terminées du plateau
+        Explosion explosion = board.obtainExplosion();
+        explosion.start(bomb.getX(), bomb.getY());
+        calculateExplosionPositions(bomb, explosion);
+        board.addExplosion(explosion);
+        cascadeExplosions.add(explosion);
+    }
+
+    /**
+     * Calcule la longueur des branches de l'explosion d'une bombe.
      *
      * @param bomb La bombe.
-     * @return La liste des positions affectées par l'explosion.
+     * @param explosion L'explosion dont les branches sont à définir.
      */
-    private List<Position> calculateExplosionPositions(Bomb bomb) {
-        List<Position> positions = new ArrayList<>();
-        Position center = bomb.getPosition();
-        positions.add(center);
+    private void calculateExplosionPositions(Bomb bomb, Explosion explosion) {
+        int centerX = bomb.getX();
+        int centerY = bomb.getY();
 
-        // Explosion dans les 4 directions
-        for (Direction dir : Direction.values()) {
+        // Explosion dans les 4 directions : seule la longueur de chaque branche est retenue
+        for (Direction dir : DIRECTIONS) {
+            int length = 0;
             for (int i = 1; i <= bomb.getExplosionRange(); i++) {
-                Position pos = new Position(center.getX() + dir.getDeltaX() * i,
-                        center.getY() + dir.getDeltaY() * i);
+                int x = centerX + dir.getDeltaX() * i;
+                int y = centerY + dir.getDeltaY() * i;
 
-                if (!board.isValidPosition(pos) || board.hasWall(pos)) {
-                    if (board.hasDestructibleWall(pos)) {
-                        positions.add(pos);
+                if (board.hasWall(x, y)) {
+                    if (board.hasDestructibleWall(x, y)) {
+                        length = i;
                     }
                     break;
                 }
 
-                positions.add(pos);
+                length = i;
+
+                // Une bombe arrête l'explosion et explose à son tour dans le même tick
+                if (board.hasBomb(x, y)) {
+                    if (board.markDetonation(x, y)) {
+                        bombsToExplode.add(board.getBomb(x, y));
+                    }
+                    break;
+                }
             }
+            explosion.setArmLength(dir, length);
         }
-
-        return positions;
     }
 
     /**
@@ -229,14 +434,11 @@ public class Game {
      * Vérifie si des joueurs sont morts dans les explosions.
      */
     private void checkPlayerDeaths() {
-        for (Player player : players) {
-            if (player.isAlive()) {
-                for (Explosion explosion : board.getExplosions()) {
-                    if (explosion.contains(player.getPosition())) {
-                        player.kill();
-                        break;
-                    }
-                }
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (player.isAlive() && board.isBurning(player.getX(), player.getY())) {
+                player.kill();
+                board.markCellChanged(player.getX(), player.getY());
             }
         }
     }
@@ -245,39 +447,22 @@ public class Game {
      * Vérifie les conditions de victoire.
      */
     private void checkWinCondition() {
-        List<Player> alivePlayers = players.stream()
-                .filter(Player::isAlive)
-                .toList();
-
-        if (alivePlayers.size() <= 1) {
-            gameRunning = false;
-            if (alivePlayers.size() == 1) {
-                winner = alivePlayers.get(0);
-                System.out.println("Le gagnant est le joueur " + winner.getId());
-                AvatarController.incrementNbMatchGagner(winner.getId());
+        int aliveCount = 0;
+        Player lastAlive = null;
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (player.isAlive()) {
+                aliveCount++;
+                lastAlive = player;
             }
         }
-    }
-
-    /**
-     * Retourne au menu principal.
-     */
-    private void returnToMainMenu() {
-        if (primaryStage != null) {
-            try {
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/MainMenu.fxml"));
-                Parent root = loader.load();
-                Scene scene = new Scene(root, 800, 600);
-                scene.getStylesheets().add(getClass().getResource("/css/MainMenu.css").toExternalForm());
 
-                primaryStage.setScene(scene);
-                primaryStage.setResizable(false);
-
-                // Focus sur la scène pour les événements clavier
-                scene.getRoot().requestFocus();
-            } catch (IOException e) {
-                e.printStackTrace();
+        if (aliveCount <= 1) {
+            gameRunning = false;
+            if (aliveCount == 1) {
+                winner = lastAlive;
             }
+            listener.onMatchEnded(this, winner);
         }
     }
 
@@ -289,25 +474,49 @@ public class Game {
     }
 
     /**
-     * Réinitialise le jeu avec un nombre spécifique de joueurs humains.
+     * Réinitialise le jeu avec un nombre spécifique de joueurs humains, sur une nouvelle graine tirée au hasard
+     * et conservée par {@link #getSeed()}.
      *
      * @param humanPlayers Le nombre de joueurs humains.
      */
     public void resetGame(int humanPlayers) {
+        resetGame(humanPlayers, newSeed());
+    }
+
+    /**
+     * Réinitialise le jeu sur une carte déterminée par une graine, en réutilisant le plateau existant.
+     * Destinée aux simulations qui enchaînent des parties sur le même objet.
+     * <p>
+     * Tout l'aléa de la partie découle de la graine : elle est découpée, dans cet ordre, en un flux pour la carte,
+     * un flux pour les bonus puis un flux par bot, de sorte qu'une même graine rejoue la même partie
+     * et que la carte ne dépende pas du nombre de bots.
+     *
+     * @param humanPlayers Le nombre de joueurs humains.
+     * @param mapSeed La graine de la partie.
+     */
+    public void resetGame(int humanPlayers, long mapSeed) {
+        SplittableRandom random = new SplittableRandom(mapSeed);
+        this.seed = mapSeed;
         this.humanPlayerCount = humanPlayers;
-        board = new GameBoard();
+        clock.reset();
+        board.reset(random.split(), random.split());
         gameRunning = true;
         winner = null;
 
-        // Réinitialiser les joueurs avec le bon nombre de joueurs humains
         players.clear();
-        initializePlayers(4, humanPlayers); // Toujours 4 joueurs au total
+        initializePlayers(4, humanPlayers, random); // Toujours 4 joueurs au total
 
-        // Incrémenter les compteurs de matchs
-        AvatarController.incrementTotalMatch(AvatarController.TOTAL_MATCH_KEY1);
-        AvatarController.incrementTotalMatch(AvatarController.TOTAL_MATCH_KEY2);
-        AvatarController.incrementTotalMatch(AvatarController.TOTAL_MATCH_KEY3);
-        AvatarController.incrementTotalMatch(AvatarController.TOTAL_MATCH_KEY4);
+        listener.onMatchStarted(this);
+    }
+
+    /**
+     * Choisit la stratégie de chaque emplacement de bot pour les prochaines réinitialisations.
+     *
+     * @param botStrategies La stratégie de chaque emplacement de joueur, indexée par identifiant ;
+     *                      un emplacement absent ou null utilise {@link BotStrategies#defaultStrategy()}.
+     */
+    public void setBotStrategies(List<BotStrategy> botStrategies) {
+        this.botStrategies = new ArrayList<>(botStrategies);
     }
 
     /**
@@ -319,6 +528,15 @@ public class Game {
         return board;
     }
 
+    /**
+     * Retourne l'horloge de simulation de la partie.
+     *
+     * @return L'horloge de la partie.
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
     /**
      * Retourne la liste des joueurs.
      *
@@ -347,12 +565,12 @@ public class Game {
     }
 
     /**
-     * Définit la scène principale du jeu.
+     * Définit l'écouteur notifié du début et de la fin des matchs.
      *
-     * @param stage La scène principale.
+     * @param listener Le nouvel écouteur, ou null pour ne plus être notifié.
      */
-    public void setPrimaryStage(Stage stage) {
-        this.primaryStage = stage;
+    public void setGameListener(GameListener listener) {
+        this.listener = listener != null ? listener : GameListener.NONE;
     }
 
     /**
@@ -377,6 +595,25 @@ public class Game {
         return null;
     }
 
+    /**
+     * Retourne la graine de la partie en cours : la passer à {@link #resetGame(int, long)} rejoue la même partie,
+     * à actions des joueurs humains égales.
+     *
+     * @return La graine de la partie.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Tire la graine d'une nouvelle partie.
+     *
+     * @return Une graine aléatoire.
+     */
+    private static long newSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
     /**
      * Retourne le nombre total de joueurs.
      *
@@ -8,48 +8,297 @@ import java.util.*;
 /**
  * Représente le plateau de jeu pour le jeu Bomberman.
  * Gère les murs, les bombes, les bonus et les explosions sur le plateau.
+ * <p>
+ * Le contenu de chaque cellule est codé sur un octet dans un tableau indexé par {@code y * largeur + x} :
+ * les bits 0-1 donnent le type de mur, le bit 2 la présence d'une bombe et les bits 3-5 le type de bonus.
+ * Les tests d'occupation sont ainsi de simples lectures de tableau ; les méthodes prenant une {@link Position}
+ * sont conservées comme façade au-dessus de cette représentation.
  */
 public class GameBoard {
-    private Wall[][] walls; // Tableau de murs sur le plateau
-    private Map<Position, Bomb> bombs; // Map des bombes placées sur le plateau
-    private Map<Position, PowerUp> powerUps; // Map des bonus sur le plateau
+
+    /** Cellule vide. */
+    public static final byte CELL_EMPTY = 0;
+
+    /** Bit indiquant un mur indestructible. */
+    public static final byte CELL_WALL = 1;
+
+    /** Bit indiquant un mur destructible. */
+    public static final byte CELL_DESTRUCTIBLE_WALL = 2;
+
+    /** Bit indiquant la présence d'une bombe. */
+    public static final byte CELL_BOMB = 4;
+
+    /** Masque des bits de mur. */
+    public static final byte WALL_MASK = CELL_WALL | CELL_DESTRUCTIBLE_WALL;
+
+    /** Masque des bits qui empêchent un joueur d'entrer dans la cellule. */
+    public static final byte BLOCKING_MASK = WALL_MASK | CELL_BOMB;
+
+    private static final int POWER_UP_SHIFT = 3; // Position des bits du bonus (type + 1, 0 si aucun)
+    private static final int POWER_UP_MASK = 0b111 << POWER_UP_SHIFT; // Masque des bits du bonus
+    private static final PowerUp.Type[] POWER_UP_TYPES = PowerUp.Type.values(); // Types de bonus par indice
+    private static final int BOMB_WHEEL_SLOTS = 256; // Cases de la roue des mèches (plus que la durée d'une mèche)
+    private static final int EXPLOSION_WHEEL_SLOTS = 64; // Cases de la roue des explosions (plus que leur durée)
+    static final int CHUNK_SHIFT = 4; // Les instantanés découpent le plateau en tranches de 16 cellules
+
+    private final int width; // Largeur du plateau en cellules
+    private final int height; // Hauteur du plateau en cellules
+    private byte[] cells; // Contenu codé de chaque cellule
+    private Bomb[] bombGrid; // Bombe présente dans chaque cellule, ou null
+    private long[] burningUntil; // Tick jusqu'auquel (exclu) chaque cellule est en flammes
+    private long[] detonationStamp; // Dernier tick où la bombe de chaque cellule a été mise en file d'explosion
+    private List<Bomb> bombs; // Liste des bombes placées sur le plateau
     private List<Explosion> explosions; // Liste des explosions sur le plateau
+    private List<Bomb> bombView; // Vue en lecture seule de la liste des bombes, créée au premier appel
+    private List<Explosion> explosionView; // Vue en lecture seule de la liste des explosions, créée au premier appel
+    private Deque<Explosion> explosionPool; // Explosions terminées prêtes à être réutilisées
+    private TimerWheel<Bomb> bombFuses; // Bombes programmées selon leur tick d'explosion
+    private TimerWheel<Explosion> explosionExpiries; // Explosions programmées selon leur tick de fin
+    private final List<Explosion> expiredExplosions = new ArrayList<>(); // Tampon réutilisé des explosions échues
+    private GameClock clock; // Horloge de la partie
+    private SplittableRandom dropRandom; // Flux aléatoire des bonus laissés par les murs détruits
+    private DangerMap dangerMap; // Carte des dangers partagée par les bots
+    private boolean[] dirtyChunks; // Tranches modifiées depuis le dernier instantané
+    private byte[][] sharedCellChunks; // Tranches de cellules du dernier instantané, partagées avec lui
+    private long[][] sharedBurningChunks; // Tranches de flammes du dernier instantané, partagées avec lui
+    private long[] changedCells; // Cellules à redessiner depuis le dernier relevé de l'affichage, un bit par cellule
+    private boolean dangerMapStale = true; // Indique si les bombes ou les murs ont changé depuis le dernier calcul
+    private long wallRevision; // Compteur incrémenté à chaque changement des murs destructibles
 
     /**
-     * Constructeur pour initialiser un nouveau plateau de jeu.
+     * Constructeur pour initialiser un nouveau plateau de jeu avec sa propre horloge.
      */
     public GameBoard() {
-        walls = new Wall[GameConstants.BOARD_WIDTH][GameConstants.BOARD_HEIGHT];
-        bombs = new HashMap<>();
-        powerUps = new HashMap<>();
+        this(new GameClock());
+    }
+
+    /**
+     * Constructeur pour initialiser un nouveau plateau de jeu rythmé par une horloge donnée.
+     *
+     * @param clock L'horloge de la partie.
+     */
+    public GameBoard(GameClock clock) {
+        this(GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT, clock);
+    }
+
+    /**
+     * Constructeur pour initialiser un plateau de jeu de dimensions données.
+     *
+     * @param width La largeur du plateau en cellules.
+     * @param height La hauteur du plateau en cellules.
+     * @param clock L'horloge de la partie.
+     */
+    public GameBoard(int width, int height, GameClock clock) {
+        this(width, height, clock, new SplittableRandom());
+    }
+
+    /**
+     * Constructeur pour initialiser un plateau de taille standard dont les murs et les bonus dépendent d'une graine,
+     * de sorte qu'une même graine donne toujours la même carte et les mêmes bonus.
+     *
+     * @param clock L'horloge de la partie.
+     * @param mapSeed La graine de la carte.
+     */
+    public GameBoard(GameClock clock, long mapSeed) {
+        this(GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT, clock, new SplittableRandom(mapSeed));
+    }
+
+    /**
+     * Constructeur pour initialiser un plateau de taille standard à partir du générateur d'une partie,
+     * dont il tire le flux de la carte puis celui des bonus.
+     *
+     * @param clock L'horloge de la partie.
+     * @param random Le générateur de la partie.
+     */
+    GameBoard(GameClock clock, SplittableRandom random) {
+        this(GameConstants.BOARD_WIDTH, GameConstants.BOARD_HEIGHT, clock, random);
+    }
+
+    /**
+     * Constructeur commun des nouveaux plateaux.
+     *
+     * @param width La largeur du plateau.
+     * @param height La hauteur du plateau.
+     * @param clock L'horloge de la partie.
+     * @param random Le générateur dont sont tirés le flux de la carte puis celui des bonus.
+     */
+    private GameBoard(int width, int height, GameClock clock, SplittableRandom random) {
+        this.width = width;
+        this.height = height;
+        this.clock = clock;
+        cells = new byte[width * height];
+        bombGrid = new Bomb[width * height];
+        burningUntil = new long[width * height];
+        dirtyChunks = newDirtyChunks(width * height);
+        changedCells = newChangedCells(width * height);
+        detonationStamp = new long[width * height];
+        Arrays.fill(detonationStamp, -1);
+        bombs = new ArrayList<>();
         explosions = new ArrayList<>();
-        initializeWalls();
+        explosionPool = new ArrayDeque<>();
+        bombFuses = new TimerWheel<>(BOMB_WHEEL_SLOTS, Bomb::getDetonationTick, clock.getTick());
+        explosionExpiries = new TimerWheel<>(EXPLOSION_WHEEL_SLOTS, Explosion::getEndTick, clock.getTick());
+        dangerMap = new DangerMap(this);
+        initializeWalls(random.split());
+        dropRandom = random.split();
+    }
+
+    /**
+     * Constructeur de copie : crée un plateau indépendant dans le même état qu'un autre.
+     * Les bombes sont rattachées aux joueurs de même identifiant dans la liste fournie,
+     * de sorte que la copie puisse être simulée sans toucher à l'original. La copie tire ses bonus
+     * d'un flux fourni par l'appelant, sans consommer celui de l'original.
+     *
+     * @param other Le plateau à copier.
+     * @param clock L'horloge de la copie, au même tick que celle de l'original.
+     * @param players Les joueurs de la copie, indexés par identifiant.
+     * @param dropRandom Le flux des bonus de la copie.
+     */
+    public GameBoard(GameBoard other, GameClock clock, List<Player> players, SplittableRandom dropRandom) {
+        this.width = other.width;
+        this.height = other.height;
+        this.clock = clock;
+        this.dropRandom = dropRandom;
+        cells = other.cells.clone();
+        bombGrid = new Bomb[width * height];
+        burningUntil = other.burningUntil.clone();
+        dirtyChunks = newDirtyChunks(width * height);
+        changedCells = newChangedCells(width * height);
+        detonationStamp = other.detonationStamp.clone();
+        bombs = new ArrayList<>(other.bombs.size());
+        explosions = new ArrayList<>(other.explosions.size());
+        explosionPool = new ArrayDeque<>();
+        bombFuses = new TimerWheel<>(BOMB_WHEEL_SLOTS, Bomb::getDetonationTick, clock.getTick());
+        explosionExpiries = new TimerWheel<>(EXPLOSION_WHEEL_SLOTS, Explosion::getEndTick, clock.getTick());
+        dangerMap = new DangerMap(this);
+
+        for (int i = 0; i < other.bombs.size(); i++) {
+            Bomb bomb = other.bombs.get(i);
+            placeBomb(new Bomb(bomb, players.get(bomb.getOwner().getId()), clock));
+        }
+        for (int i = 0; i < other.explosions.size(); i++) {
+            addExplosion(new Explosion(other.explosions.get(i), clock));
+        }
+    }
+
+    /**
+     * Constructeur de restauration : crée un plateau indépendant dans l'état figé par un instantané.
+     *
+     * @param snapshot L'instantané à restaurer.
+     * @param clock L'horloge du plateau, au tick de l'instantané.
+     * @param players Les joueurs du plateau, indexés par identifiant.
+     * @param dropRandom Le flux des bonus du plateau.
+     */
+    GameBoard(GameSnapshot snapshot, GameClock clock, List<Player> players, SplittableRandom dropRandom) {
+        this(snapshot.getWidth(), snapshot.getHeight(), snapshot.cellChunks(), snapshot.burningChunks(), clock,
+                dropRandom);
+        for (Bomb bomb : snapshot.getBombs()) {
+            placeBomb(new Bomb(bomb, players.get(bomb.getOwner().getId()), clock));
+        }
+        for (Explosion explosion : snapshot.getExplosions()) {
+            addExplosion(new Explosion(explosion, clock));
+        }
+    }
+
+    /**
+     * Crée un plateau sans bombe ni explosion à partir de tranches de cellules et de flammes.
+     *
+     * @param width La largeur du plateau.
+     * @param height La hauteur du plateau.
+     * @param cellChunks Les tranches de cellules, recopiées.
+     * @param burningChunks Les tranches de flammes, recopiées.
+     * @param clock L'horloge du plateau.
+     * @param dropRandom Le flux des bonus du plateau.
+     */
+    private GameBoard(int width, int height, byte[][] cellChunks, long[][] burningChunks, GameClock clock,
+                      SplittableRandom dropRandom) {
+        this.width = width;
+        this.height = height;
+        this.clock = clock;
+        this.dropRandom = dropRandom;
+        cells = new byte[width * height];
+        burningUntil = new long[width * height];
+        for (int c = 0; c < cellChunks.length; c++) {
+            System.arraycopy(cellChunks[c], 0, cells, c << CHUNK_SHIFT, cellChunks[c].length);
+            System.arraycopy(burningChunks[c], 0, burningUntil, c << CHUNK_SHIFT, burningChunks[c].length);
+        }
+        bombGrid = new Bomb[width * height];
+        dirtyChunks = newDirtyChunks(width * height);
+        changedCells = newChangedCells(width * height);
+        detonationStamp = new long[width * height];
+        Arrays.fill(detonationStamp, -1);
+        bombs = new ArrayList<>();
+        explosions = new ArrayList<>();
+        explosionPool = new ArrayDeque<>();
+        bombFuses = new TimerWheel<>(BOMB_WHEEL_SLOTS, Bomb::getDetonationTick, clock.getTick());
+        explosionExpiries = new TimerWheel<>(EXPLOSION_WHEEL_SLOTS, Explosion::getEndTick, clock.getTick());
+        dangerMap = new DangerMap(this);
+    }
+
+    /**
+     * Remet le plateau dans l'état d'une nouvelle partie sans réallouer ses tableaux,
+     * par exemple pour enchaîner des parties simulées. L'horloge doit avoir été remise à zéro.
+     *
+     * @param mapSeed La graine de la nouvelle carte et de ses bonus.
+     */
+    public void reset(long mapSeed) {
+        SplittableRandom random = new SplittableRandom(mapSeed);
+        reset(random.split(), random.split());
+    }
+
+    /**
+     * Remet le plateau dans l'état d'une nouvelle partie à partir de flux aléatoires fournis par la partie.
+     *
+     * @param mapRandom Le flux qui place les murs destructibles.
+     * @param dropRandom Le flux des bonus laissés par les murs détruits.
+     */
+    void reset(SplittableRandom mapRandom, SplittableRandom dropRandom) {
+        Arrays.fill(cells, CELL_EMPTY);
+        Arrays.fill(bombGrid, null);
+        Arrays.fill(burningUntil, 0);
+        Arrays.fill(detonationStamp, -1);
+        Arrays.fill(dirtyChunks, true);
+        Arrays.fill(changedCells, -1L);
+        bombs.clear();
+        for (int i = 0; i < explosions.size(); i++) {
+            Explosion explosion = explosions.get(i);
+            explosion.boardIndex = -1;
+            explosionPool.addFirst(explosion);
+        }
+        explosions.clear();
+        bombFuses.clear(clock.getTick());
+        explosionExpiries.clear(clock.getTick());
+        dangerMapStale = true;
+        wallRevision++;
+        this.dropRandom = dropRandom;
+        initializeWalls(mapRandom);
     }
 
     /**
      * Initialise les murs sur le plateau.
      * Place des murs indestructibles sur les bords et en damier, et des murs destructibles aléatoirement.
+     *
+     * @param random Le générateur qui place les murs destructibles.
      */
-    private void initializeWalls() {
+    private void initializeWalls(SplittableRandom random) {
         // Murs indestructibles sur les bords et en damier
-        for (int x = 0; x < GameConstants.BOARD_WIDTH; x++) {
-            for (int y = 0; y < GameConstants.BOARD_HEIGHT; y++) {
-                if (x == 0 || x == GameConstants.BOARD_WIDTH - 1 ||
-                        y == 0 || y == GameConstants.BOARD_HEIGHT - 1 ||
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (x == 0 || x == width - 1 ||
+                        y == 0 || y == height - 1 ||
                         (x % 2 == 0 && y % 2 == 0)) {
-                    walls[x][y] = new Wall(new Position(x, y), false);
+                    cells[index(x, y)] = CELL_WALL;
                 }
             }
         }
 
         // Murs destructibles aléatoirement
-        Random random = new Random();
-        for (int x = 1; x < GameConstants.BOARD_WIDTH - 1; x++) {
-            for (int y = 1; y < GameConstants.BOARD_HEIGHT - 1; y++) {
-                if (walls[x][y] == null && random.nextDouble() < 0.4) {
+        for (int x = 1; x < width - 1; x++) {
+            for (int y = 1; y < height - 1; y++) {
+                if (cells[index(x, y)] == CELL_EMPTY && random.nextDouble() < 0.4) {
                     // Ne pas placer de murs près des positions de départ des joueurs
                     if (!isNearStartPosition(x, y)) {
-                        walls[x][y] = new Wall(new Position(x, y), true);
+                        cells[index(x, y)] = CELL_DESTRUCTIBLE_WALL;
                     }
                 }
             }
@@ -64,19 +313,52 @@ public class GameBoard {
      * @return true si la position est proche d'une position de départ, false sinon.
      */
     private boolean isNearStartPosition(int x, int y) {
-        Position[] startPositions = {
-                new Position(1, 1),
-                new Position(GameConstants.BOARD_WIDTH - 2, 1),
-                new Position(1, GameConstants.BOARD_HEIGHT - 2),
-                new Position(GameConstants.BOARD_WIDTH - 2, GameConstants.BOARD_HEIGHT - 2)
-        };
-
-        for (Position start : startPositions) {
-            if (Math.abs(x - start.getX()) <= 1 && Math.abs(y - start.getY()) <= 1) {
-                return true;
-            }
-        }
-        return false;
+        boolean nearLeft = x <= 2;
+        boolean nearRight = x >= width - 3;
+        boolean nearTop = y <= 2;
+        boolean nearBottom = y >= height - 3;
+        return (nearLeft || nearRight) && (nearTop || nearBottom);
+    }
+
+    /**
+     * Retourne l'indice d'une cellule dans les tableaux du plateau.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return L'indice {@code y * largeur + x}.
+     */
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    /**
+     * Retourne la largeur du plateau.
+     *
+     * @return La largeur en cellules.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Retourne la hauteur du plateau.
+     *
+     * @return La hauteur en cellules.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Retourne le contenu codé d'une cellule.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return Le contenu codé, ou {@link #CELL_WALL} hors du plateau.
+     */
+    public byte getCell(int x, int y) {
+        if (!isValidPosition(x, y)) return CELL_WALL;
+        return cells[index(x, y)];
     }
 
     /**
@@ -86,10 +368,18 @@ public class GameBoard {
      * @return true si le joueur peut se déplacer vers cette position, false sinon.
      */
     public boolean canMoveTo(Position position) {
-        if (!isValidPosition(position)) return false;
-        if (hasWall(position)) return false;
-        if (hasBomb(position)) return false;
-        return true;
+        return canMoveTo(position.getX(), position.getY());
+    }
+
+    /**
+     * Vérifie si un joueur peut se déplacer vers une cellule donnée.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true si la cellule est sur le plateau et ne contient ni mur ni bombe, false sinon.
+     */
+    public boolean canMoveTo(int x, int y) {
+        return isValidPosition(x, y) && (cells[index(x, y)] & BLOCKING_MASK) == 0;
     }
 
     /**
@@ -99,10 +389,18 @@ public class GameBoard {
      * @return true si la position est valide, false sinon.
      */
     public boolean isValidPosition(Position position) {
-        int x = position.getX();
-        int y = position.getY();
-        return x >= 0 && x < GameConstants.BOARD_WIDTH &&
-                y >= 0 && y < GameConstants.BOARD_HEIGHT;
+        return isValidPosition(position.getX(), position.getY());
+    }
+
+    /**
+     * Vérifie si des coordonnées sont valides sur le plateau.
+     *
+     * @param x La coordonnée x.
+     * @param y La coordonnée y.
+     * @return true si les coordonnées sont sur le plateau, false sinon.
+     */
+    public boolean isValidPosition(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
     }
 
     /**
@@ -112,8 +410,19 @@ public class GameBoard {
      * @return true s'il y a un mur, false sinon.
      */
     public boolean hasWall(Position position) {
-        if (!isValidPosition(position)) return true;
-        return walls[position.getX()][position.getY()] != null;
+        return hasWall(position.getX(), position.getY());
+    }
+
+    /**
+     * Vérifie s'il y a un mur dans une cellule donnée.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true s'il y a un mur ou si la cellule est hors du plateau, false sinon.
+     */
+    public boolean hasWall(int x, int y) {
+        if (!isValidPosition(x, y)) return true;
+        return (cells[index(x, y)] & WALL_MASK) != 0;
     }
 
     /**
@@ -123,9 +432,19 @@ public class GameBoard {
      * @return true s'il y a un mur destructible, false sinon.
      */
     public boolean hasDestructibleWall(Position position) {
-        if (!hasWall(position)) return false;
-        Wall wall = walls[position.getX()][position.getY()];
-        return wall.isDestructible();
+        return hasDestructibleWall(position.getX(), position.getY());
+    }
+
+    /**
+     * Vérifie s'il y a un mur destructible dans une cellule donnée.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true s'il y a un mur destructible, false sinon.
+     */
+    public boolean hasDestructibleWall(int x, int y) {
+        if (!isValidPosition(x, y)) return false;
+        return (cells[index(x, y)] & CELL_DESTRUCTIBLE_WALL) != 0;
     }
 
     /**
@@ -134,14 +453,28 @@ public class GameBoard {
      * @param position La position du mur à détruire.
      */
     public void destroyWall(Position position) {
-        if (hasDestructibleWall(position)) {
+        destroyWall(position.getX(), position.getY());
+    }
+
+    /**
+     * Détruit un mur dans une cellule donnée et peut laisser un bonus.
+     *
+     * @param x La coordonnée x du mur.
+     * @param y La coordonnée y du mur.
+     */
+    public void destroyWall(int x, int y) {
+        if (hasDestructibleWall(x, y)) {
+            int i = index(x, y);
+            cells[i] &= ~CELL_DESTRUCTIBLE_WALL;
+            markChanged(i);
+            dangerMapStale = true;
+            wallRevision++;
+
             // Chance de laisser un bonus
-            if (new Random().nextDouble() < 0.3) {
-                PowerUp.Type[] types = PowerUp.Type.values();
-                PowerUp.Type randomType = types[new Random().nextInt(types.length)];
-                powerUps.put(position, new PowerUp(position, randomType));
+            if (dropRandom.nextDouble() < 0.3) {
+                int type = dropRandom.nextInt(POWER_UP_TYPES.length);
+                cells[i] = (byte) ((cells[i] & ~POWER_UP_MASK) | ((type + 1) << POWER_UP_SHIFT));
             }
-            walls[position.getX()][position.getY()] = null;
         }
     }
 
@@ -152,16 +485,51 @@ public class GameBoard {
      * @return true s'il y a une bombe, false sinon.
      */
     public boolean hasBomb(Position position) {
-        return bombs.containsKey(position);
+        return hasBomb(position.getX(), position.getY());
+    }
+
+    /**
+     * Vérifie s'il y a une bombe dans une cellule donnée.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true s'il y a une bombe, false sinon.
+     */
+    public boolean hasBomb(int x, int y) {
+        return isValidPosition(x, y) && (cells[index(x, y)] & CELL_BOMB) != 0;
+    }
+
+    /**
+     * Retourne la bombe présente dans une cellule donnée.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return La bombe, ou null s'il n'y en a pas.
+     */
+    public Bomb getBomb(int x, int y) {
+        if (!isValidPosition(x, y)) return null;
+        return bombGrid[index(x, y)];
     }
 
     /**
      * Place une bombe sur le plateau.
+     * Une bombe déjà présente dans la même cellule est remplacée.
      *
      * @param bomb La bombe à placer.
      */
     public void placeBomb(Bomb bomb) {
-        bombs.put(bomb.getPosition(), bomb);
+        Position pos = bomb.getPosition();
+        int i = index(pos.getX(), pos.getY());
+        if (bombGrid[i] != null) {
+            detachBomb(bombGrid[i]);
+        }
+        bombGrid[i] = bomb;
+        cells[i] |= CELL_BOMB;
+        markChanged(i);
+        bomb.boardIndex = bombs.size();
+        bombs.add(bomb);
+        bombFuses.schedule(bomb);
+        dangerMapStale = true;
     }
 
     /**
@@ -170,7 +538,74 @@ public class GameBoard {
      * @param position La position de la bombe à retirer.
      */
     public void removeBomb(Position position) {
-        bombs.remove(position);
+        removeBomb(position.getX(), position.getY());
+    }
+
+    /**
+     * Retire la bombe d'une cellule donnée.
+     *
+     * @param x La coordonnée x de la bombe.
+     * @param y La coordonnée y de la bombe.
+     */
+    public void removeBomb(int x, int y) {
+        if (!isValidPosition(x, y)) return;
+        int i = index(x, y);
+        if (bombGrid[i] != null) {
+            detachBomb(bombGrid[i]);
+            bombGrid[i] = null;
+            cells[i] &= ~CELL_BOMB;
+            markChanged(i);
+            dangerMapStale = true;
+        }
+    }
+
+    /**
+     * Retire une bombe de la liste des bombes et de la roue des mèches.
+     * La dernière bombe de la liste prend sa place, ce qui évite de décaler les autres.
+     *
+     * @param bomb La bombe à retirer.
+     */
+    private void detachBomb(Bomb bomb) {
+        int last = bombs.size() - 1;
+        Bomb moved = bombs.get(last);
+        bombs.set(bomb.boardIndex, moved);
+        moved.boardIndex = bomb.boardIndex;
+        bombs.remove(last);
+        bomb.boardIndex = -1;
+        bombFuses.cancel(bomb);
+    }
+
+    /**
+     * Ajoute à une liste les bombes dont la mèche arrive à son terme au tick courant.
+     * Seules les bombes échues sont examinées, quel que soit le nombre de bombes sur le plateau.
+     *
+     * @param due La liste recevant les bombes à faire exploser.
+     */
+    void collectDueBombs(List<Bomb> due) {
+        bombFuses.advanceTo(clock.getTick(), due);
+    }
+
+    /**
+     * Retourne le type de bonus présent dans une cellule, sans le ramasser.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return Le type de bonus, ou null s'il n'y en a pas.
+     */
+    public PowerUp.Type getPowerUpType(int x, int y) {
+        if (!isValidPosition(x, y)) return null;
+        return powerUpTypeOf(cells[index(x, y)]);
+    }
+
+    /**
+     * Décode le type de bonus contenu dans une cellule.
+     *
+     * @param cell Le contenu codé de la cellule.
+     * @return Le type de bonus, ou null si la cellule n'en contient pas.
+     */
+    static PowerUp.Type powerUpTypeOf(byte cell) {
+        int code = (cell & POWER_UP_MASK) >> POWER_UP_SHIFT;
+        return code == 0 ? null : POWER_UP_TYPES[code - 1];
     }
 
     /**
@@ -180,7 +615,12 @@ public class GameBoard {
      * @return Le bonus à cette position, ou null s'il n'y a pas de bonus.
      */
     public PowerUp getPowerUp(Position position) {
-        return powerUps.remove(position);
+        PowerUp.Type type = getPowerUpType(position.getX(), position.getY());
+        if (type == null) return null;
+        int i = index(position.getX(), position.getY());
+        cells[i] &= ~POWER_UP_MASK;
+        markChanged(i);
+        return new PowerUp(position, type);
     }
 
     /**
@@ -189,14 +629,104 @@ public class GameBoard {
      * @param explosion L'explosion à ajouter.
      */
     public void addExplosion(Explosion explosion) {
+        long endTick = explosion.getEndTick();
+        for (int i = 0; i < explosion.size(); i++) {
+            int x = explosion.getX(i);
+            int y = explosion.getY(i);
+            if (isValidPosition(x, y)) {
+                int cell = index(x, y);
+                burningUntil[cell] = Math.max(burningUntil[cell], endTick);
+                markChanged(cell);
+            }
+        }
+
+        explosion.boardIndex = explosions.size();
         explosions.add(explosion);
+        explosionExpiries.schedule(explosion);
     }
 
     /**
-     * Retire les explosions terminées du plateau.
+     * Vérifie si une position est actuellement en flammes.
+     *
+     * @param position La position à vérifier.
+     * @return true si une explosion en cours touche cette position, false sinon.
+     */
+    public boolean isBurning(Position position) {
+        return isBurning(position.getX(), position.getY());
+    }
+
+    /**
+     * Vérifie si une cellule est actuellement en flammes.
+     * Une seule lecture de tableau suffit, quel que soit le nombre d'explosions qui se chevauchent.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true si une explosion en cours touche cette cellule, false sinon.
+     */
+    public boolean isBurning(int x, int y) {
+        return isValidPosition(x, y) && burningUntil[index(x, y)] > clock.getTick();
+    }
+
+    /**
+     * Retourne le tick jusqu'auquel (exclu) une cellule reste en flammes.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return Le tick de fin des flammes, dans le passé si la cellule ne brûle pas.
+     */
+    public long getBurningUntil(int x, int y) {
+        if (!isValidPosition(x, y)) return 0;
+        return burningUntil[index(x, y)];
+    }
+
+    /**
+     * Marque la bombe d'une cellule comme devant exploser au tick courant.
+     * Une cellule n'est marquée qu'une fois par tick, ce qui garantit qu'une bombe atteinte
+     * par plusieurs explosions d'une même réaction en chaîne n'est traitée qu'une seule fois.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true si la cellule n'avait pas encore été marquée à ce tick, false sinon.
+     */
+    boolean markDetonation(int x, int y) {
+        int i = index(x, y);
+        long tick = clock.getTick();
+        if (detonationStamp[i] == tick) return false;
+        detonationStamp[i] = tick;
+        return true;
+    }
+
+    /**
+     * Fournit une explosion vide, recyclée si possible parmi les explosions terminées.
+     * L'explosion doit être initialisée puis ajoutée au plateau par {@link #addExplosion(Explosion)}.
+     *
+     * @return Une explosion réutilisable.
+     */
+    Explosion obtainExplosion() {
+        Explosion explosion = explosionPool.pollFirst();
+        return explosion != null ? explosion : new Explosion(clock);
+    }
+
+    /**
+     * Retire les explosions terminées du plateau et les conserve pour être réutilisées.
+     * Seules les explosions arrivées à échéance au tick courant sont examinées.
      */
     public void removeFinishedExplosions() {
-        explosions.removeIf(Explosion::isFinished);
+        explosionExpiries.advanceTo(clock.getTick(), expiredExplosions);
+        for (int i = 0; i < expiredExplosions.size(); i++) {
+            Explosion explosion = expiredExplosions.get(i);
+            for (int c = 0; c < explosion.size(); c++) {
+                markCellChanged(explosion.getX(c), explosion.getY(c));
+            }
+            int last = explosions.size() - 1;
+            Explosion moved = explosions.get(last);
+            explosions.set(explosion.boardIndex, moved);
+            moved.boardIndex = explosion.boardIndex;
+            explosions.remove(last);
+            explosion.boardIndex = -1;
+            explosionPool.addFirst(explosion);
+        }
+        expiredExplosions.clear();
     }
 
     /**
@@ -206,8 +736,17 @@ public class GameBoard {
      * @return Le mur à cette position, ou null s'il n'y a pas de mur.
      */
     public Wall getWall(Position position) {
-        if (!isValidPosition(position)) return null;
-        return walls[position.getX()][position.getY()];
+        if (!isValidPosition(position) || !hasWall(position)) return null;
+        return new Wall(position, hasDestructibleWall(position));
+    }
+
+    /**
+     * Retourne l'horloge de la partie.
+     *
+     * @return L'horloge de la partie.
+     */
+    public GameClock getClock() {
+        return clock;
     }
 
     /**
@@ -216,7 +755,182 @@ public class GameBoard {
      * @return Une collection de bombes.
      */
     public Collection<Bomb> getBombs() {
-        return new ArrayList<>(bombs.values());
+        return new ArrayList<>(bombs);
+    }
+
+    /**
+     * Retourne une vue en lecture seule des bombes du plateau, sans copie, pour l'affichage.
+     * La vue suit les bombes posées et retirées ; elle ne doit être parcourue que par le fil qui fait avancer la partie.
+     *
+     * @return Les bombes du plateau, non modifiables.
+     */
+    public List<Bomb> getBombView() {
+        if (bombView == null) {
+            bombView = Collections.unmodifiableList(bombs);
+        }
+        return bombView;
+    }
+
+    /**
+     * Retourne la liste interne des bombes, sans copie, pour la boucle de mise à jour du jeu.
+     *
+     * @return La liste des bombes du plateau, à ne pas modifier.
+     */
+    List<Bomb> bombList() {
+        return bombs;
+    }
+
+    /**
+     * Crée le tableau des tranches modifiées, toutes marquées pour le premier instantané.
+     *
+     * @param cellCount Le nombre de cellules du plateau.
+     * @return Le tableau des tranches modifiées.
+     */
+    private static boolean[] newDirtyChunks(int cellCount) {
+        boolean[] dirty = new boolean[(cellCount + (1 << CHUNK_SHIFT) - 1) >>> CHUNK_SHIFT];
+        Arrays.fill(dirty, true);
+        return dirty;
+    }
+
+    /**
+     * Crée l'ensemble des cellules à redessiner, toutes marquées pour le premier affichage.
+     *
+     * @param cellCount Le nombre de cellules du plateau.
+     * @return L'ensemble des cellules à redessiner, un bit par cellule.
+     */
+    private static long[] newChangedCells(int cellCount) {
+        long[] changed = new long[(cellCount + 63) >>> 6];
+        Arrays.fill(changed, -1L);
+        return changed;
+    }
+
+    /**
+     * Marque une cellule comme modifiée depuis le dernier instantané et depuis le dernier affichage.
+     *
+     * @param cell L'indice de la cellule.
+     */
+    private void markChanged(int cell) {
+        dirtyChunks[cell >>> CHUNK_SHIFT] = true;
+        changedCells[cell >>> 6] |= 1L << cell;
+    }
+
+    /**
+     * Signale qu'une cellule doit être redessinée sans que son contenu ait changé,
+     * par exemple quand un joueur y entre ou en sort, ou qu'une explosion s'y termine.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     */
+    public void markCellChanged(int x, int y) {
+        if (!isValidPosition(x, y)) return;
+        int cell = index(x, y);
+        changedCells[cell >>> 6] |= 1L << cell;
+    }
+
+    /**
+     * Vérifie si une cellule a changé depuis le dernier appel à {@link #clearChangedCells()}.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true si la cellule doit être redessinée, false sinon.
+     */
+    public boolean isCellChanged(int x, int y) {
+        if (!isValidPosition(x, y)) return false;
+        int cell = index(x, y);
+        return (changedCells[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Retourne la prochaine cellule changée depuis le dernier appel à {@link #clearChangedCells()}.
+     * Les cellules sont parcourues par indice {@code y * largeur + x}, à la manière de {@link BitSet#nextSetBit(int)}.
+     *
+     * @param from L'indice à partir duquel chercher, inclus.
+     * @return L'indice de la prochaine cellule changée, ou -1 s'il n'y en a plus.
+     */
+    public int nextChangedCell(int from) {
+        int word = from >>> 6;
+        if (from < 0 || word >= changedCells.length) return -1;
+        long bits = changedCells[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                int cell = (word << 6) + Long.numberOfTrailingZeros(bits);
+                return cell < cells.length ? cell : -1;
+            }
+            if (++word == changedCells.length) return -1;
+            bits = changedCells[word];
+        }
+    }
+
+    /**
+     * Oublie les cellules changées, une fois l'affichage à jour.
+     */
+    public void clearChangedCells() {
+        Arrays.fill(changedCells, 0L);
+    }
+
+    /**
+     * Met à jour les tranches partagées avec les instantanés : seules les tranches modifiées depuis
+     * le dernier instantané sont recopiées, les autres restent partagées.
+     * Les tableaux de tranches retournés ensuite ne sont plus jamais modifiés.
+     */
+    private void refreshSharedChunks() {
+        int chunkCount = dirtyChunks.length;
+        byte[][] cellChunks = sharedCellChunks == null ? new byte[chunkCount][] : sharedCellChunks.clone();
+        long[][] burningChunks = sharedBurningChunks == null ? new long[chunkCount][] : sharedBurningChunks.clone();
+        for (int c = 0; c < chunkCount; c++) {
+            if (dirtyChunks[c]) {
+                int from = c << CHUNK_SHIFT;
+                int to = Math.min(cells.length, from + (1 << CHUNK_SHIFT));
+                cellChunks[c] = Arrays.copyOfRange(cells, from, to);
+                burningChunks[c] = Arrays.copyOfRange(burningUntil, from, to);
+                dirtyChunks[c] = false;
+            }
+        }
+        sharedCellChunks = cellChunks;
+        sharedBurningChunks = burningChunks;
+    }
+
+    /**
+     * Retourne les tranches de cellules pour un nouvel instantané.
+     *
+     * @return Les tranches de cellules, à ne pas modifier.
+     */
+    byte[][] snapshotCellChunks() {
+        refreshSharedChunks();
+        return sharedCellChunks;
+    }
+
+    /**
+     * Retourne les tranches de flammes du dernier instantané, après {@link #snapshotCellChunks()}.
+     *
+     * @return Les tranches de flammes, à ne pas modifier.
+     */
+    long[][] snapshotBurningChunks() {
+        return sharedBurningChunks;
+    }
+
+    /**
+     * Retourne la révision des murs destructibles, qui change à chaque mur détruit et à chaque remise à zéro.
+     * Permet à l'affichage de ne redessiner les murs que lorsqu'ils ont changé.
+     *
+     * @return La révision des murs.
+     */
+    public long getWallRevision() {
+        return wallRevision;
+    }
+
+    /**
+     * Retourne la carte des dangers du plateau, recalculée seulement si les bombes ou les murs ont changé.
+     * Tous les bots consultent la même carte au lieu d'examiner chacun toutes les bombes.
+     *
+     * @return La carte des dangers.
+     */
+    public DangerMap getDangerMap() {
+        if (dangerMapStale) {
+            dangerMap.recompute();
+            dangerMapStale = false;
+        }
+        return dangerMap;
     }
 
     /**
@@ -225,7 +939,16 @@ public class GameBoard {
      * @return Une collection de bonus.
      */
     public Collection<PowerUp> getPowerUps() {
-        return new ArrayList<>(powerUps.values());
+        List<PowerUp> result = new ArrayList<>();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                PowerUp.Type type = getPowerUpType(x, y);
+                if (type != null) {
+                    result.add(new PowerUp(new Position(x, y), type));
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -236,4 +959,17 @@ public class GameBoard {
     public List<Explosion> getExplosions() {
         return new ArrayList<>(explosions);
     }
+
+    /**
+     * Retourne une vue en lecture seule des explosions du plateau, sans copie, pour l'affichage.
+     * Comme {@link #getBombView()}, elle ne doit être parcourue que par le fil qui fait avancer la partie.
+     *
+     * @return Les explosions du plateau, non modifiables.
+     */
+    public List<Explosion> getExplosionView() {
+        if (explosionView == null) {
+            explosionView = Collections.unmodifiableList(explosions);
+        }
+        return explosionView;
+    }
 }
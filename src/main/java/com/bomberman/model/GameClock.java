@@ -0,0 +1,89 @@
+package com.bomberman.model;
+
+import com.bomberman.util.GameConstants;
+
+/**
+ * Horloge de simulation du jeu Bomberman.
+ * Le temps de jeu avance d'un tick à chaque mise à jour du jeu, indépendamment de l'horloge système.
+ * Une partie peut ainsi être accélérée, mise en pause ou ralentie sans que son déroulement ne change.
+ */
+public class GameClock {
+    private long tick; // Nombre de ticks écoulés depuis le début de la partie
+
+    /**
+     * Constructeur pour créer une horloge démarrant au tick 0.
+     */
+    public GameClock() {
+        this(0);
+    }
+
+    /**
+     * Constructeur pour créer une horloge démarrant à un tick donné.
+     *
+     * @param tick Le tick de départ.
+     */
+    public GameClock(long tick) {
+        this.tick = tick;
+    }
+
+    /**
+     * Retourne le tick courant.
+     *
+     * @return Le nombre de ticks écoulés.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Avance l'horloge d'un tick.
+     */
+    public void advance() {
+        tick++;
+    }
+
+    /**
+     * Avance l'horloge d'un nombre de ticks donné.
+     *
+     * @param ticks Le nombre de ticks à ajouter.
+     */
+    public void advance(long ticks) {
+        tick += ticks;
+    }
+
+    /**
+     * Remet l'horloge au tick 0.
+     */
+    public void reset() {
+        tick = 0;
+    }
+
+    /**
+     * Retourne le temps de jeu écoulé en millisecondes.
+     *
+     * @return Le temps de jeu en millisecondes.
+     */
+    public long getTimeMillis() {
+        return ticksToMillis(tick);
+    }
+
+    /**
+     * Convertit une durée en millisecondes en nombre de ticks, arrondi au tick supérieur.
+     *
+     * @param millis La durée en millisecondes.
+     * @return Le nombre de ticks correspondant.
+     */
+    public static long millisToTicks(long millis) {
+        return (millis * GameConstants.TICKS_PER_SECOND + 999) / 1000;
+    }
+
+    /**
+     * Convertit un nombre de ticks en durée en millisecondes.
+     *
+     * @param ticks Le nombre de ticks.
+     * @return La durée en millisecondes.
+     */
+    public static long ticksToMillis(long ticks) {
+        return ticks * 1000 / GameConstants.TICKS_PER_SECOND;
+    }
+}
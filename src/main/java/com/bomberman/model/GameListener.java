@@ -0,0 +1,30 @@
+package com.bomberman.model;
+
+/**
+ * Écouteur des événements d'une partie de Bomberman.
+ * Permet à l'interface graphique (ou à un simulateur sans interface) de réagir au début
+ * et à la fin d'un match sans que le modèle ne dépende de JavaFX ou des préférences utilisateur.
+ */
+public interface GameListener {
+
+    /** Écouteur qui ignore tous les événements, utilisé par défaut. */
+    GameListener NONE = new GameListener() {
+    };
+
+    /**
+     * Appelé lorsqu'un match commence (création du jeu ou réinitialisation).
+     *
+     * @param game Le jeu qui démarre.
+     */
+    default void onMatchStarted(Game game) {
+    }
+
+    /**
+     * Appelé lorsqu'un match se termine.
+     *
+     * @param game Le jeu terminé.
+     * @param winner Le joueur gagnant, ou null en cas d'égalité.
+     */
+    default void onMatchEnded(Game game, Player winner) {
+    }
+}
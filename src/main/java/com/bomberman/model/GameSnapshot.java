@@ -0,0 +1,264 @@
+package com.bomberman.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Vue immuable de l'état complet d'une partie à un tick donné.
+ * Les cellules du plateau sont stockées par tranches : un instantané ne recopie que les tranches modifiées
+ * depuis le précédent et partage les autres avec lui, ce qui rend sa création proportionnelle aux changements.
+ * Bombes, explosions et joueurs, peu nombreux, sont copiés et rattachés à une horloge figée.
+ * <p>
+ * Un instantané peut être lu depuis n'importe quel fil sans synchronisation, par exemple par les bots,
+ * et restauré en un jeu indépendant avec {@link #toGame()} pour une recherche ou un retour en arrière.
+ * Les lecteurs qui ne modifient pas le jeu partagent plutôt un seul jeu restauré, obtenu avec {@link #view()}.
+ */
+public final class GameSnapshot {
+
+    private final long tick; // Tick de la partie au moment de l'instantané
+    private final int width; // Largeur du plateau en cellules
+    private final int height; // Hauteur du plateau en cellules
+    private final byte[][] cellChunks; // Tranches du contenu codé des cellules, jamais modifiées
+    private final long[][] burningChunks; // Tranches des ticks de fin de flammes, jamais modifiées
+    private final List<Player> players; // Copies des joueurs, indexées par identifiant
+    private final List<Bomb> bombs; // Copies des bombes
+    private final List<Explosion> explosions; // Copies des explosions
+    private final boolean gameRunning; // Indique si la partie était en cours
+    private final int winnerId; // Identifiant du gagnant, ou -1
+    private final int humanPlayerCount; // Nombre de joueurs humains
+    private Game view; // Jeu restauré partagé en lecture, construit au premier appel de view()
+
+    /**
+     * Constructeur pour figer l'état d'une partie.
+     *
+     * @param game La partie.
+     */
+    GameSnapshot(Game game) {
+        GameBoard board = game.getBoard();
+        GameClock frozen = new GameClock(game.getClock().getTick());
+        this.tick = frozen.getTick();
+        this.width = board.getWidth();
+        this.height = board.getHeight();
+        this.cellChunks = board.snapshotCellChunks();
+        this.burningChunks = board.snapshotBurningChunks();
+
+        List<Player> livePlayers = game.getPlayers();
+        List<Player> copiedPlayers = new ArrayList<>(livePlayers.size());
+        for (Player player : livePlayers) {
+            copiedPlayers.add(new Player(player));
+        }
+        Collection<Bomb> liveBombs = board.getBombs();
+        List<Bomb> copiedBombs = new ArrayList<>(liveBombs.size());
+        for (Bomb bomb : liveBombs) {
+            copiedBombs.add(new Bomb(bomb, copiedPlayers.get(bomb.getOwner().getId()), frozen));
+        }
+        List<Explosion> liveExplosions = board.getExplosions();
+        List<Explosion> copiedExplosions = new ArrayList<>(liveExplosions.size());
+        for (Explosion explosion : liveExplosions) {
+            copiedExplosions.add(new Explosion(explosion, frozen));
+        }
+        this.players = Collections.unmodifiableList(copiedPlayers);
+        this.bombs = Collections.unmodifiableList(copiedBombs);
+        this.explosions = Collections.unmodifiableList(copiedExplosions);
+        this.gameRunning = game.isGameRunning();
+        this.winnerId = game.getWinner() != null ? game.getWinner().getId() : -1;
+        this.humanPlayerCount = game.getHumanPlayerCount();
+    }
+
+    /**
+     * Restaure un jeu indépendant dans l'état de l'instantané.
+     * Le jeu restauré n'a pas d'écouteur et ses joueurs sont de simples {@link Player}.
+     *
+     * @param dropRandom Le flux des bonus du jeu restauré.
+     * @return Le jeu restauré.
+     */
+    public Game toGame(SplittableRandom dropRandom) {
+        GameClock clock = new GameClock(tick);
+        List<Player> restoredPlayers = new ArrayList<>(players.size());
+        for (Player player : players) {
+            restoredPlayers.add(new Player(player));
+        }
+        GameBoard board = new GameBoard(this, clock, restoredPlayers, dropRandom);
+        return Game.restore(board, restoredPlayers, clock, gameRunning, humanPlayerCount, winnerId);
+    }
+
+    /**
+     * Retourne un jeu restauré dans l'état de l'instantané, construit une seule fois et partagé par tous les appelants.
+     * Sa carte des dangers est calculée avant d'être partagée ; il peut ensuite être lu depuis plusieurs fils
+     * à la fois, mais ne doit pas être modifié.
+     *
+     * @return Le jeu restauré partagé.
+     */
+    public synchronized Game view() {
+        if (view == null) {
+            // Le jeu partagé n'avance jamais : son flux des bonus n'est pas lu
+            Game game = toGame(new SplittableRandom(tick));
+            game.getBoard().getDangerMap();
+            view = game;
+        }
+        return view;
+    }
+
+    /**
+     * Retourne le contenu codé d'une cellule, comme {@link GameBoard#getCell(int, int)}.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return Le contenu codé de la cellule, ou {@link GameBoard#CELL_WALL} hors du plateau.
+     */
+    public byte getCell(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return GameBoard.CELL_WALL;
+        int i = y * width + x;
+        return cellChunks[i >>> GameBoard.CHUNK_SHIFT][i & ((1 << GameBoard.CHUNK_SHIFT) - 1)];
+    }
+
+    /**
+     * Vérifie si une cellule contient un mur, destructible ou non.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true si la cellule contient un mur, false sinon.
+     */
+    public boolean hasWall(int x, int y) {
+        return (getCell(x, y) & GameBoard.WALL_MASK) != 0;
+    }
+
+    /**
+     * Vérifie si une cellule contient un mur destructible.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true si la cellule contient un mur destructible, false sinon.
+     */
+    public boolean hasDestructibleWall(int x, int y) {
+        return (getCell(x, y) & GameBoard.CELL_DESTRUCTIBLE_WALL) != 0;
+    }
+
+    /**
+     * Vérifie si une cellule contient une bombe.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true si la cellule contient une bombe, false sinon.
+     */
+    public boolean hasBomb(int x, int y) {
+        return (getCell(x, y) & GameBoard.CELL_BOMB) != 0;
+    }
+
+    /**
+     * Retourne le type de bonus d'une cellule.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return Le type de bonus, ou null si la cellule n'en contient pas.
+     */
+    public PowerUp.Type getPowerUpType(int x, int y) {
+        return GameBoard.powerUpTypeOf(getCell(x, y));
+    }
+
+    /**
+     * Vérifie si une cellule était en flammes au tick de l'instantané.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true si la cellule était en flammes, false sinon.
+     */
+    public boolean isBurning(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return false;
+        int i = y * width + x;
+        return burningChunks[i >>> GameBoard.CHUNK_SHIFT][i & ((1 << GameBoard.CHUNK_SHIFT) - 1)] > tick;
+    }
+
+    /**
+     * Retourne le tick de la partie au moment de l'instantané.
+     *
+     * @return Le tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Retourne la largeur du plateau.
+     *
+     * @return La largeur en cellules.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Retourne la hauteur du plateau.
+     *
+     * @return La hauteur en cellules.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Retourne les joueurs, indexés par identifiant.
+     *
+     * @return Une liste non modifiable des copies des joueurs.
+     */
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Retourne les bombes présentes sur le plateau.
+     *
+     * @return Une liste non modifiable des copies des bombes.
+     */
+    public List<Bomb> getBombs() {
+        return bombs;
+    }
+
+    /**
+     * Retourne les explosions en cours.
+     *
+     * @return Une liste non modifiable des copies des explosions.
+     */
+    public List<Explosion> getExplosions() {
+        return explosions;
+    }
+
+    /**
+     * Vérifie si la partie était en cours.
+     *
+     * @return true si la partie était en cours, false sinon.
+     */
+    public boolean isGameRunning() {
+        return gameRunning;
+    }
+
+    /**
+     * Retourne l'identifiant du gagnant.
+     *
+     * @return L'identifiant du gagnant, ou -1 s'il n'y en a pas.
+     */
+    public int getWinnerId() {
+        return winnerId;
+    }
+
+    /**
+     * Retourne les tranches de cellules, partagées avec d'autres instantanés.
+     *
+     * @return Les tranches de cellules, à ne pas modifier.
+     */
+    byte[][] cellChunks() {
+        return cellChunks;
+    }
+
+    /**
+     * Retourne les tranches de flammes, partagées avec d'autres instantanés.
+     *
+     * @return Les tranches de flammes, à ne pas modifier.
+     */
+    long[][] burningChunks() {
+        return burningChunks;
+    }
+}
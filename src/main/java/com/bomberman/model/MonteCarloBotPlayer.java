@@ -0,0 +1,136 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Direction;
+import com.bomberman.util.GameConstants;
+import com.bomberman.util.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Bot de haut niveau qui choisit ses actions par recherche Monte Carlo.
+ * Chaque action candidate (rester, se déplacer, poser une bombe) est évaluée par de nombreuses simulations
+ * courtes de la suite de la partie ; les simulations sont réparties par la règle UCB1 sur les candidats
+ * les plus prometteurs et lancées en parallèle sur tous les processeurs disponibles.
+ */
+public class MonteCarloBotPlayer extends BotPlayer {
+
+    private static final int ROLLOUTS_PER_WORKER = 24; // Nombre de simulations par fil et par décision
+    private static final int HORIZON_TICKS = 3 * GameConstants.TICKS_PER_SECOND; // Durée simulée après chaque action
+    private static final double EXPLORATION = Math.sqrt(2); // Coefficient d'exploration de UCB1
+
+    private final int workers; // Nombre de fils de recherche
+
+    /**
+     * Constructeur pour créer un bot Monte Carlo.
+     *
+     * @param id L'identifiant du joueur.
+     * @param position La position initiale du joueur.
+     * @param color La couleur du joueur.
+     */
+    public MonteCarloBotPlayer(int id, Position position, String color) {
+        super(id, position, color);
+        this.workers = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Décide de l'action du bot en évaluant chaque candidat par simulations.
+     *
+     * @param board Le plateau de jeu, éventuellement une copie, qui n'est pas modifié.
+     * @param allPlayers La liste de tous les joueurs, dans le même état que le plateau.
+     * @param self L'état du bot dans cette liste.
+     * @return L'action dont le score moyen est le meilleur.
+     */
+    @Override
+    public BotAction decide(GameBoard board, List<Player> allPlayers, Player self) {
+        if (!self.isAlive() || !readyToAct(board)) return BotAction.NONE;
+
+        BotAction[] candidates = candidates(board, self);
+        if (candidates.length == 1) return candidates[0];
+
+        // La racine n'est jamais simulée : chaque simulation en tire une copie avec son propre flux des bonus
+        Game root = Game.copyOf(board, allPlayers, getRandom().split());
+        int selfId = self.getId();
+        SplittableRandom[] randoms = new SplittableRandom[workers];
+        for (int w = 0; w < workers; w++) {
+            randoms[w] = getRandom().split();
+        }
+
+        // Parallélisation à la racine : chaque fil mène sa propre recherche, les statistiques sont ensuite cumulées
+        double[][] results = IntStream.range(0, workers).parallel()
+                .mapToObj(w -> search(root, selfId, candidates, randoms[w]))
+                .toArray(double[][]::new);
+
+        int best = 0;
+        double bestMean = -1;
+        for (int c = 0; c < candidates.length; c++) {
+            double total = 0;
+            double visits = 0;
+            for (double[] result : results) {
+                total += result[2 * c];
+                visits += result[2 * c + 1];
+            }
+            double mean = visits > 0 ? total / visits : 0;
+            if (mean > bestMean) {
+                bestMean = mean;
+                best = c;
+            }
+        }
+        return candidates[best];
+    }
+
+    /**
+     * Liste les actions possibles du bot : rester, se déplacer vers une cellule libre ou poser une bombe.
+     *
+     * @param board Le plateau de jeu.
+     * @param self L'état du bot.
+     * @return Les actions candidates.
+     */
+    private static BotAction[] candidates(GameBoard board, Player self) {
+        List<BotAction> actions = new ArrayList<>();
+        actions.add(BotAction.NONE);
+        for (Direction dir : Direction.values()) {
+            if (board.canMoveTo(self.getX() + dir.getDeltaX(), self.getY() + dir.getDeltaY())) {
+                actions.add(BotAction.move(dir));
+            }
+        }
+        if (self.canPlaceBomb() && !board.hasBomb(self.getX(), self.getY())) {
+            actions.add(BotAction.PLACE_BOMB);
+        }
+        return actions.toArray(new BotAction[0]);
+    }
+
+    /**
+     * Répartit les simulations d'un fil entre les candidats selon la règle UCB1.
+     *
+     * @param root Le jeu de départ, partagé en lecture seule.
+     * @param selfId L'identifiant du bot.
+     * @param candidates Les actions candidates.
+     * @param random Le générateur aléatoire du fil.
+     * @return Pour chaque candidat, la somme des scores puis le nombre de simulations.
+     */
+    private static double[] search(Game root, int selfId, BotAction[] candidates, SplittableRandom random) {
+        RolloutEngine engine = new RolloutEngine(HORIZON_TICKS);
+        double[] stats = new double[2 * candidates.length];
+
+        for (int n = 0; n < ROLLOUTS_PER_WORKER; n++) {
+            int chosen = 0;
+            double bestBound = Double.NEGATIVE_INFINITY;
+            for (int c = 0; c < candidates.length; c++) {
+                double visits = stats[2 * c + 1];
+                double bound = visits == 0
+                        ? Double.POSITIVE_INFINITY
+                        : stats[2 * c] / visits + EXPLORATION * Math.sqrt(Math.log(n) / visits);
+                if (bound > bestBound) {
+                    bestBound = bound;
+                    chosen = c;
+                }
+            }
+            stats[2 * chosen] += engine.run(root, selfId, candidates[chosen], random);
+            stats[2 * chosen + 1]++;
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,22 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Position;
+
+/**
+ * Stratégie de recherche Monte Carlo, voir {@link MonteCarloBotPlayer}.
+ */
+public class MonteCarloBotStrategy implements BotStrategy {
+
+    /** Nom de la stratégie. */
+    public static final String NAME = "montecarlo";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public BotPlayer createBot(int id, Position position, String color) {
+        return new MonteCarloBotPlayer(id, position, color);
+    }
+}
@@ -0,0 +1,208 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Direction;
+
+import java.util.List;
+
+/**
+ * Service de recherche de chemin pour les bots, construit sur le plateau de jeu.
+ * Calcule par parcours en largeur multi-sources des champs de distances vers différentes cibles
+ * (cellules sûres, murs destructibles, ennemis, bonus) : le bot n'a plus qu'à descendre le champ
+ * pour suivre un plus court chemin.
+ * <p>
+ * Les champs et la file du parcours sont des tableaux d'entiers alloués une fois par plateau
+ * et réutilisés à chaque tick, de sorte que la recherche n'alloue pas de mémoire.
+ */
+public class PathFinder {
+
+    /**
+     * Distance indiquant qu'aucune cible n'est atteignable.
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * Cibles pour lesquelles un champ de distances est calculé.
+     */
+    public enum Target {
+        SAFE_CELL, // Cellule qu'aucune explosion n'atteint
+        DESTRUCTIBLE_WALL, // Cellule voisine d'un mur destructible, d'où poser une bombe
+        ENEMY, // Cellule occupée par un autre joueur vivant
+        POWER_UP // Cellule contenant un bonus
+    }
+
+    private static final Direction[] DIRECTIONS = Direction.values(); // Directions, sans copie à chaque appel
+    private static final Target[] TARGETS = Target.values(); // Cibles, sans copie à chaque appel
+
+    private GameBoard board; // Plateau sur lequel les champs sont calculés
+    private int[][] fields = new int[TARGETS.length][0]; // Champ de distances de chaque cible
+    private int[] queue = new int[0]; // File du parcours en largeur
+
+    /**
+     * Associe le service à un plateau, en réutilisant les tableaux si ses dimensions n'ont pas changé.
+     *
+     * @param board Le plateau de jeu.
+     */
+    private void bind(GameBoard board) {
+        this.board = board;
+        int size = board.getWidth() * board.getHeight();
+        if (queue.length != size) {
+            for (int t = 0; t < fields.length; t++) {
+                fields[t] = new int[size];
+            }
+            queue = new int[size];
+        }
+    }
+
+    /**
+     * Recalcule tous les champs de distances pour un joueur.
+     *
+     * @param board Le plateau de jeu.
+     * @param players La liste de tous les joueurs.
+     * @param self Le joueur pour lequel les champs sont calculés, exclu des ennemis.
+     */
+    public void update(GameBoard board, List<Player> players, Player self) {
+        bind(board);
+        DangerMap danger = board.getDangerMap();
+        int width = board.getWidth();
+
+        for (Target target : TARGETS) {
+            int[] field = fields[target.ordinal()];
+            int tail = 0;
+            for (int y = 0; y < board.getHeight(); y++) {
+                for (int x = 0; x < width; x++) {
+                    int i = y * width + x;
+                    field[i] = UNREACHABLE;
+                    boolean source = switch (target) {
+                        case SAFE_CELL -> isWalkable(x, y) && danger.getBlastTick(x, y) == DangerMap.SAFE;
+                        case DESTRUCTIBLE_WALL -> isWalkable(x, y) && isNextToDestructibleWall(x, y);
+                        case POWER_UP -> isWalkable(x, y) && board.getPowerUpType(x, y) != null;
+                        case ENEMY -> false;
+                    };
+                    if (source) {
+                        field[i] = 0;
+                        queue[tail++] = i;
+                    }
+                }
+            }
+            if (target == Target.ENEMY) {
+                for (int p = 0; p < players.size(); p++) {
+                    Player player = players.get(p);
+                    if (player == self || !player.isAlive()) continue;
+                    int i = board.index(player.getX(), player.getY());
+                    if (field[i] != 0) {
+                        field[i] = 0;
+                        queue[tail++] = i;
+                    }
+                }
+            }
+            spread(field, tail);
+        }
+    }
+
+    /**
+     * Propage un champ de distances depuis les sources placées en tête de file.
+     *
+     * @param field Le champ à compléter.
+     * @param tail Le nombre de sources dans la file.
+     */
+    private void spread(int[] field, int tail) {
+        int width = board.getWidth();
+        int head = 0;
+        while (head < tail) {
+            int i = queue[head++];
+            int x = i % width;
+            int y = i / width;
+            int next = field[i] + 1;
+            for (Direction dir : DIRECTIONS) {
+                int nx = x + dir.getDeltaX();
+                int ny = y + dir.getDeltaY();
+                if (!isWalkable(nx, ny)) continue;
+                int j = ny * width + nx;
+                if (field[j] > next) {
+                    field[j] = next;
+                    queue[tail++] = j;
+                }
+            }
+        }
+    }
+
+    /**
+     * Vérifie si une cellule peut être traversée : libre et hors des flammes.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true si la cellule peut être traversée, false sinon.
+     */
+    private boolean isWalkable(int x, int y) {
+        return board.canMoveTo(x, y) && !board.isBurning(x, y);
+    }
+
+    /**
+     * Vérifie si une cellule est voisine d'un mur destructible.
+     *
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true si un mur destructible est adjacent, false sinon.
+     */
+    private boolean isNextToDestructibleWall(int x, int y) {
+        for (Direction dir : DIRECTIONS) {
+            if (board.hasDestructibleWall(x + dir.getDeltaX(), y + dir.getDeltaY())) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retourne la distance d'une cellule à la cible la plus proche.
+     *
+     * @param target Le type de cible.
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return La distance en cellules, ou {@link #UNREACHABLE} si aucune cible n'est atteignable.
+     */
+    public int getDistance(Target target, int x, int y) {
+        if (!board.isValidPosition(x, y)) return UNREACHABLE;
+        return fields[target.ordinal()][board.index(x, y)];
+    }
+
+    /**
+     * Retourne la distance à la cible la plus proche en passant par une cellule voisine.
+     * La cellule de départ n'a pas à être libre : un joueur peut se tenir sur sa propre bombe.
+     *
+     * @param target Le type de cible.
+     * @param x La coordonnée x de la cellule de départ.
+     * @param y La coordonnée y de la cellule de départ.
+     * @return La distance en cellules, ou {@link #UNREACHABLE} si aucune cible n'est atteignable.
+     */
+    public int getDistanceFrom(Target target, int x, int y) {
+        int best = getDistance(target, x, y);
+        for (Direction dir : DIRECTIONS) {
+            int distance = getDistance(target, x + dir.getDeltaX(), y + dir.getDeltaY());
+            if (distance != UNREACHABLE && distance + 1 < best) {
+                best = distance + 1;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Retourne la direction du premier pas vers la cible la plus proche.
+     *
+     * @param target Le type de cible.
+     * @param x La coordonnée x de la cellule de départ.
+     * @param y La coordonnée y de la cellule de départ.
+     * @return La direction à suivre, ou null si la cellule est déjà une cible ou qu'aucune n'est atteignable.
+     */
+    public Direction nextStep(Target target, int x, int y) {
+        int best = getDistance(target, x, y);
+        if (best == 0) return null;
+        Direction bestDir = null;
+        for (Direction dir : DIRECTIONS) {
+            int distance = getDistance(target, x + dir.getDeltaX(), y + dir.getDeltaY());
+            if (distance < best) {
+                best = distance;
+                bestDir = dir;
+            }
+        }
+        return bestDir;
+    }
+}
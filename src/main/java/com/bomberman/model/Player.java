@@ -33,6 +33,21 @@ public class Player {
         this.color = color;
     }
 
+    /**
+     * Constructeur de copie : crée un joueur dans le même état qu'un autre.
+     *
+     * @param other Le joueur à copier.
+     */
+    public Player(Player other) {
+        this.id = other.id;
+        this.position = new Position(other.position);
+        this.alive = other.alive;
+        this.bombCount = other.bombCount;
+        this.maxBombs = other.maxBombs;
+        this.explosionRange = other.explosionRange;
+        this.color = other.color;
+    }
+
     /**
      * Vérifie si le joueur peut placer une bombe.
      *
@@ -69,9 +84,10 @@ public class Player {
     public void move(Direction direction, GameBoard board) {
         if (!alive) return;
 
-        Position newPosition = position.getNeighbor(direction);
-        if (board.canMoveTo(newPosition)) {
-            position = newPosition;
+        int newX = position.getX() + direction.getDeltaX();
+        int newY = position.getY() + direction.getDeltaY();
+        if (board.canMoveTo(newX, newY)) {
+            position.move(direction);
         }
     }
 
@@ -100,6 +116,24 @@ public class Player {
         return new Position(position);
     }
 
+    /**
+     * Retourne la coordonnée x du joueur, sans copier sa position.
+     *
+     * @return La coordonnée x.
+     */
+    public int getX() {
+        return position.getX();
+    }
+
+    /**
+     * Retourne la coordonnée y du joueur, sans copier sa position.
+     *
+     * @return La coordonnée y.
+     */
+    public int getY() {
+        return position.getY();
+    }
+
     /**
      * Vérifie si le joueur est en vie.
      *
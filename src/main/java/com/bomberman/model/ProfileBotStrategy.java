@@ -0,0 +1,52 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Position;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Stratégie classique dont les poids sont lus dans un profil, par exemple produit par l'optimiseur de paramètres.
+ * Le chemin du profil est donné par la propriété système {@value #PROFILE_PROPERTY} ;
+ * sans profil lisible, les paramètres par défaut sont utilisés.
+ */
+public class ProfileBotStrategy implements BotStrategy {
+
+    /** Nom de la stratégie. */
+    public static final String NAME = "profil";
+
+    /** Propriété système donnant le chemin du profil. */
+    public static final String PROFILE_PROPERTY = "bomberman.bot.profile";
+
+    private BotParameters parameters; // Paramètres du profil, lus à la première création d'un bot
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public BotPlayer createBot(int id, Position position, String color) {
+        return new BotPlayer(id, position, color, parameters());
+    }
+
+    /**
+     * Retourne les paramètres du profil, lus une seule fois.
+     *
+     * @return Les paramètres du profil, ou les paramètres par défaut.
+     */
+    private synchronized BotParameters parameters() {
+        if (parameters == null) {
+            parameters = BotParameters.DEFAULTS;
+            String path = System.getProperty(PROFILE_PROPERTY);
+            if (path != null) {
+                try {
+                    parameters = BotParameters.load(Path.of(path));
+                } catch (IOException | IllegalArgumentException e) {
+                    System.err.println("Impossible de charger le profil de bot " + path + " : " + e.getMessage());
+                }
+            }
+        }
+        return parameters;
+    }
+}
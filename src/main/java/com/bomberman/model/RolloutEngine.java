@@ -0,0 +1,157 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Direction;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Moteur de simulation rapide utilisé par les bots Monte Carlo.
+ * Une simulation copie le jeu, applique une action au joueur évalué, puis fait avancer la partie
+ * tick après tick sans interface graphique, chaque joueur suivant une politique aléatoire prudente.
+ * <p>
+ * Un moteur n'est pas partagé entre fils : chaque fil de recherche utilise le sien.
+ */
+public class RolloutEngine {
+
+    private static final Direction[] DIRECTIONS = Direction.values(); // Directions, sans copie à chaque appel
+    private static final long DANGER_MILLIS = 1000; // En deçà de ce délai avant explosion, une cellule est évitée
+    private static final int BOMB_ODDS = 8; // Une chance sur BOMB_ODDS de poser une bombe près d'une cible
+
+    private final int horizonTicks; // Nombre de ticks simulés après l'action évaluée
+    private final long actionTicks; // Nombre de ticks entre deux décisions d'un joueur simulé
+    private final Direction[] choices = new Direction[DIRECTIONS.length + 1]; // Tampon des déplacements possibles
+
+    /**
+     * Constructeur pour créer un moteur de simulation.
+     *
+     * @param horizonTicks Le nombre de ticks simulés après l'action évaluée.
+     */
+    public RolloutEngine(int horizonTicks) {
+        this.horizonTicks = horizonTicks;
+        this.actionTicks = Math.max(1, GameClock.millisToTicks(BotPlayer.ACTION_DELAY));
+    }
+
+    /**
+     * Simule la suite de la partie après une action et évalue le résultat pour un joueur.
+     *
+     * @param root Le jeu de départ, qui n'est pas modifié.
+     * @param selfId L'identifiant du joueur évalué.
+     * @param first L'action évaluée, appliquée au joueur avant la simulation.
+     * @param random Le générateur aléatoire de la simulation.
+     * @return Le score entre 0 (mort) et 1 (seul survivant).
+     */
+    public double run(Game root, int selfId, BotAction first, SplittableRandom random) {
+        Game game = root.copy(random.split());
+        first.applyTo(game, selfId);
+        int enemiesAtStart = aliveEnemies(game.getPlayers(), selfId);
+
+        for (int t = 1; t <= horizonTicks && game.isGameRunning(); t++) {
+            game.update();
+            if (t % actionTicks == 0) {
+                List<Player> players = game.getPlayers();
+                for (int i = 0; i < players.size(); i++) {
+                    if (players.get(i).isAlive()) {
+                        playRandomly(game, i, random);
+                    }
+                }
+            }
+        }
+
+        Player self = game.getPlayer(selfId);
+        if (!self.isAlive()) return 0;
+        if (enemiesAtStart == 0) return 1;
+        int killed = enemiesAtStart - aliveEnemies(game.getPlayers(), selfId);
+        return 0.5 + 0.5 * killed / enemiesAtStart;
+    }
+
+    /**
+     * Fait jouer un joueur selon la politique de simulation : poser parfois une bombe près d'une cible,
+     * puis se déplacer au hasard en évitant les flammes et les explosions imminentes.
+     *
+     * @param game Le jeu simulé.
+     * @param playerId L'identifiant du joueur.
+     * @param random Le générateur aléatoire de la simulation.
+     */
+    private void playRandomly(Game game, int playerId, SplittableRandom random) {
+        GameBoard board = game.getBoard();
+        Player player = game.getPlayer(playerId);
+        int x = player.getX();
+        int y = player.getY();
+
+        if (player.canPlaceBomb() && random.nextInt(BOMB_ODDS) == 0 && isNextToTarget(game, playerId, x, y)) {
+            game.placeBomb(playerId);
+        }
+
+        DangerMap danger = board.getDangerMap();
+        int count = 0;
+        if (isSafe(board, danger, x, y)) {
+            choices[count++] = null;
+        }
+        for (Direction dir : DIRECTIONS) {
+            int nx = x + dir.getDeltaX();
+            int ny = y + dir.getDeltaY();
+            if (board.canMoveTo(nx, ny) && isSafe(board, danger, nx, ny)) {
+                choices[count++] = dir;
+            }
+        }
+        if (count == 0) return;
+
+        Direction choice = choices[random.nextInt(count)];
+        if (choice != null) {
+            game.movePlayer(playerId, choice);
+        }
+    }
+
+    /**
+     * Vérifie si une cellule est hors des flammes et d'une explosion imminente.
+     *
+     * @param board Le plateau simulé.
+     * @param danger La carte des dangers du plateau.
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true si la cellule est sûre pour le moment, false sinon.
+     */
+    private static boolean isSafe(GameBoard board, DangerMap danger, int x, int y) {
+        return !board.isBurning(x, y) && danger.getTimeToBlast(x, y) > DANGER_MILLIS;
+    }
+
+    /**
+     * Vérifie si un mur destructible ou un ennemi vivant est adjacent à une cellule.
+     *
+     * @param game Le jeu simulé.
+     * @param playerId L'identifiant du joueur.
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return true si une cible est adjacente, false sinon.
+     */
+    private static boolean isNextToTarget(Game game, int playerId, int x, int y) {
+        GameBoard board = game.getBoard();
+        List<Player> players = game.getPlayers();
+        for (Direction dir : DIRECTIONS) {
+            int nx = x + dir.getDeltaX();
+            int ny = y + dir.getDeltaY();
+            if (board.hasDestructibleWall(nx, ny)) return true;
+            for (int i = 0; i < players.size(); i++) {
+                Player other = players.get(i);
+                if (i != playerId && other.isAlive() && other.getX() == nx && other.getY() == ny) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compte les adversaires encore en vie.
+     *
+     * @param players Les joueurs.
+     * @param selfId L'identifiant du joueur évalué.
+     * @return Le nombre d'adversaires vivants.
+     */
+    private static int aliveEnemies(List<Player> players, int selfId) {
+        int count = 0;
+        for (int i = 0; i < players.size(); i++) {
+            if (i != selfId && players.get(i).isAlive()) count++;
+        }
+        return count;
+    }
+}
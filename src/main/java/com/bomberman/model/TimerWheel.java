@@ -0,0 +1,197 @@
+package com.bomberman.model;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Roue de temporisation hachée indexée par tick de jeu.
+ * Chaque élément est rangé dans la case correspondant à son tick d'échéance modulo le nombre de cases,
+ * de sorte qu'avancer d'un tick ne parcourt que les éléments de la case courante,
+ * quel que soit le nombre total d'éléments programmés.
+ * <p>
+ * Les cases sont des listes chaînées dont les maillons sont recyclés : une fois la roue utilisée,
+ * programmer et retirer des éléments n'alloue plus de mémoire.
+ *
+ * @param <T> Le type des éléments programmés (bombes, explosions...).
+ */
+public class TimerWheel<T> {
+
+    /**
+     * Maillon d'une case de la roue.
+     *
+     * @param <T> Le type de l'élément programmé.
+     */
+    private static final class Node<T> {
+        T item; // Élément programmé
+        long due; // Tick d'échéance de l'élément
+        Node<T> next; // Maillon suivant dans la case (ou dans la réserve)
+    }
+
+    private final Node<T>[] heads; // Premier maillon de chaque case
+    private final Node<T>[] tails; // Dernier maillon de chaque case
+    private final int mask; // Masque pour calculer la case d'un tick (nombre de cases - 1)
+    private final ToLongFunction<T> dueTickOf; // Fonction donnant le tick d'échéance d'un élément
+    private Node<T> freeNodes; // Réserve de maillons recyclés
+    private long lastTick; // Dernier tick traité
+    private int size; // Nombre d'éléments programmés
+
+    /**
+     * Constructeur pour créer une roue de temporisation.
+     *
+     * @param slotCount Le nombre de cases, arrondi à la puissance de deux supérieure.
+     * @param dueTickOf La fonction donnant le tick d'échéance d'un élément.
+     * @param startTick Le tick à partir duquel la roue avance.
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(int slotCount, ToLongFunction<T> dueTickOf, long startTick) {
+        int capacity = Integer.highestOneBit(Math.max(1, slotCount - 1)) << 1;
+        this.heads = (Node<T>[]) new Node[capacity];
+        this.tails = (Node<T>[]) new Node[capacity];
+        this.mask = capacity - 1;
+        this.dueTickOf = dueTickOf;
+        this.lastTick = startTick;
+    }
+
+    /**
+     * Programme un élément pour son tick d'échéance.
+     * Un élément déjà échu sera rendu au prochain appel à {@link #advanceTo(long, List)}.
+     *
+     * @param item L'élément à programmer.
+     */
+    public void schedule(T item) {
+        Node<T> node = freeNodes;
+        if (node != null) {
+            freeNodes = node.next;
+        } else {
+            node = new Node<>();
+        }
+        node.item = item;
+        node.due = Math.max(dueTickOf.applyAsLong(item), lastTick + 1);
+        node.next = null;
+
+        int slot = (int) (node.due & mask);
+        if (tails[slot] == null) {
+            heads[slot] = node;
+        } else {
+            tails[slot].next = node;
+        }
+        tails[slot] = node;
+        size++;
+    }
+
+    /**
+     * Annule la programmation d'un élément.
+     *
+     * @param item L'élément à retirer.
+     * @return true si l'élément était programmé, false sinon.
+     */
+    public boolean cancel(T item) {
+        int slot = (int) (Math.max(dueTickOf.applyAsLong(item), lastTick + 1) & mask);
+        Node<T> previous = null;
+        for (Node<T> node = heads[slot]; node != null; previous = node, node = node.next) {
+            if (node.item == item) {
+                unlink(slot, previous, node);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Avance la roue jusqu'à un tick donné et ajoute à une liste les éléments arrivés à échéance,
+     * dans l'ordre de leur programmation pour un même tick.
+     *
+     * @param tick Le tick courant.
+     * @param due La liste recevant les éléments échus.
+     */
+    public void advanceTo(long tick, List<T> due) {
+        if (tick <= lastTick) return;
+
+        if (tick - lastTick > mask) {
+            // Saut plus long qu'un tour de roue : chaque case est examinée une seule fois
+            for (int slot = 0; slot <= mask; slot++) {
+                drainSlot(slot, tick, due);
+            }
+        } else {
+            for (long t = lastTick + 1; t <= tick; t++) {
+                drainSlot((int) (t & mask), tick, due);
+            }
+        }
+        lastTick = tick;
+    }
+
+    /**
+     * Retire d'une case les éléments échus, les éléments d'un tour de roue ultérieur restant en place.
+     *
+     * @param slot L'indice de la case.
+     * @param tick Le tick courant.
+     * @param due La liste recevant les éléments échus.
+     */
+    private void drainSlot(int slot, long tick, List<T> due) {
+        Node<T> previous = null;
+        Node<T> node = heads[slot];
+        while (node != null) {
+            Node<T> next = node.next;
+            if (node.due <= tick) {
+                due.add(node.item);
+                unlink(slot, previous, node);
+            } else {
+                previous = node;
+            }
+            node = next;
+        }
+    }
+
+    /**
+     * Retire un maillon de sa case et le remet dans la réserve.
+     *
+     * @param slot L'indice de la case.
+     * @param previous Le maillon précédent, ou null s'il s'agit du premier.
+     * @param node Le maillon à retirer.
+     */
+    private void unlink(int slot, Node<T> previous, Node<T> node) {
+        if (previous == null) {
+            heads[slot] = node.next;
+        } else {
+            previous.next = node.next;
+        }
+        if (tails[slot] == node) {
+            tails[slot] = previous;
+        }
+        node.item = null;
+        node.next = freeNodes;
+        freeNodes = node;
+        size--;
+    }
+
+    /**
+     * Retire tous les éléments programmés et fait repartir la roue d'un tick donné.
+     * Les maillons sont conservés dans la réserve pour être réutilisés.
+     *
+     * @param startTick Le tick à partir duquel la roue avance.
+     */
+    public void clear(long startTick) {
+        for (int slot = 0; slot <= mask; slot++) {
+            for (Node<T> node = heads[slot]; node != null; ) {
+                Node<T> next = node.next;
+                node.item = null;
+                node.next = freeNodes;
+                freeNodes = node;
+                node = next;
+            }
+            heads[slot] = null;
+            tails[slot] = null;
+        }
+        size = 0;
+        lastTick = startTick;
+    }
+
+    /**
+     * Retourne le nombre d'éléments programmés.
+     *
+     * @return Le nombre d'éléments en attente.
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,230 @@
+package com.bomberman.remote;
+
+import com.bomberman.model.BotAction;
+import com.bomberman.model.GameBoard;
+import com.bomberman.model.Player;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Connexion à un bot externe, processus lancé par le jeu ou serveur local, selon {@link BotProtocol}.
+ * Une même connexion sert plusieurs joueurs, éventuellement dans plusieurs parties : les demandes
+ * en attente sont regroupées en un seul lot à chaque envoi, de sorte que le coût d'un aller-retour
+ * est partagé entre toutes les décisions en cours au lieu d'être payé par chacune.
+ * <p>
+ * Un fil envoie les lots et un autre lit les réponses ; les demandes peuvent être faites depuis n'importe quel fil.
+ */
+public class BotConnection implements Closeable {
+
+    private final InputStream input; // Flux brut des réponses, fermé pour débloquer la lecture
+    private final BufferedReader in; // Réponses du bot
+    private final Writer out; // Demandes envoyées au bot
+    private final Closeable resource; // Processus ou socket à fermer avec la connexion
+    private final BlockingQueue<String> outgoing = new LinkedBlockingQueue<>(); // Demandes en attente d'envoi
+    private final Map<Long, CompletableFuture<BotAction>> pending = new ConcurrentHashMap<>(); // Demandes sans réponse
+    private final AtomicLong nextRequestId = new AtomicLong(); // Identifiant de la prochaine demande
+    private final Thread writer; // Fil d'envoi des lots
+    private final Thread reader; // Fil de lecture des réponses
+    private volatile boolean closed; // Indique si la connexion est fermée
+
+    /**
+     * Constructeur pour créer une connexion sur des flux existants.
+     *
+     * @param input Le flux des réponses du bot.
+     * @param output Le flux des demandes envoyées au bot.
+     * @param resource La ressource à fermer avec la connexion, ou null.
+     */
+    public BotConnection(InputStream input, OutputStream output, Closeable resource) {
+        this.input = input;
+        this.in = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.out = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.resource = resource;
+        this.writer = new Thread(this::writeLoop, "bot-connection-writer");
+        this.reader = new Thread(this::readLoop, "bot-connection-reader");
+        writer.setDaemon(true);
+        reader.setDaemon(true);
+        writer.start();
+        reader.start();
+    }
+
+    /**
+     * Lance un bot externe dont les demandes arrivent sur l'entrée standard et les réponses sur la sortie standard.
+     * La sortie d'erreur du bot est redirigée vers celle du jeu.
+     *
+     * @param command La commande du bot et ses arguments.
+     * @return La connexion au bot.
+     * @throws IOException Si le processus ne peut pas être lancé.
+     */
+    public static BotConnection launch(List<String> command) throws IOException {
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        return new BotConnection(process.getInputStream(), process.getOutputStream(), process::destroy);
+    }
+
+    /**
+     * Se connecte à un bot externe qui écoute sur un port.
+     *
+     * @param host L'hôte du bot.
+     * @param port Le port du bot.
+     * @return La connexion au bot.
+     * @throws IOException Si la connexion échoue.
+     */
+    public static BotConnection connect(String host, int port) throws IOException {
+        Socket socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        return new BotConnection(socket.getInputStream(), socket.getOutputStream(), socket);
+    }
+
+    /**
+     * Demande une décision au bot et attend sa réponse au plus un délai donné.
+     *
+     * @param board Le plateau de jeu.
+     * @param players Les joueurs, indexés par identifiant.
+     * @param self Le joueur qui doit décider.
+     * @param timeoutMillis Le délai maximal d'attente, en millisecondes.
+     * @return L'action du bot, ou {@link BotAction#NONE} si elle n'arrive pas à temps ou si la connexion est fermée.
+     */
+    public BotAction decide(GameBoard board, List<Player> players, Player self, long timeoutMillis) {
+        if (closed) return BotAction.NONE;
+
+        long id = nextRequestId.getAndIncrement();
+        StringBuilder request = new StringBuilder(512);
+        BotProtocol.writeState(request, id, board, players, self);
+        CompletableFuture<BotAction> answer = new CompletableFuture<>();
+        pending.put(id, answer);
+        if (closed) {
+            // Fermée entre-temps : shutdown() a pu parcourir les demandes avant celle-ci
+            pending.remove(id);
+            return BotAction.NONE;
+        }
+        outgoing.add(request.toString());
+
+        try {
+            return answer.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return BotAction.NONE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BotAction.NONE;
+        } catch (ExecutionException e) {
+            return BotAction.NONE;
+        } finally {
+            // Une réponse tardive sera ignorée
+            pending.remove(id);
+        }
+    }
+
+    /**
+     * Envoie les demandes par lots : toutes celles arrivées pendant l'envoi précédent partent ensemble.
+     */
+    private void writeLoop() {
+        List<String> batch = new ArrayList<>();
+        try {
+            while (!closed) {
+                batch.add(outgoing.take());
+                outgoing.drainTo(batch);
+                out.write("BATCH " + batch.size() + "\n");
+                for (String request : batch) {
+                    out.write(request);
+                }
+                out.flush();
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            if (!closed) {
+                System.err.println("Erreur d'envoi au bot externe : " + e.getMessage());
+            }
+        }
+        shutdown();
+    }
+
+    /**
+     * Lit les réponses du bot et les transmet aux demandes correspondantes.
+     */
+    private void readLoop() {
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) continue;
+                try {
+                    CompletableFuture<BotAction> answer = pending.get(BotProtocol.parseRequestId(line));
+                    if (answer != null) {
+                        answer.complete(BotProtocol.parseAction(line));
+                    }
+                } catch (IllegalArgumentException e) {
+                    System.err.println(e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                System.err.println("Erreur de lecture du bot externe : " + e.getMessage());
+            }
+        }
+        shutdown();
+    }
+
+    /**
+     * Marque la connexion comme fermée, abandonne les demandes non envoyées
+     * et répond {@link BotAction#NONE} à toutes les demandes en attente.
+     */
+    private void shutdown() {
+        closed = true;
+        outgoing.clear();
+        for (CompletableFuture<BotAction> answer : pending.values()) {
+            answer.complete(BotAction.NONE);
+        }
+    }
+
+    /**
+     * Indique si la connexion est fermée.
+     *
+     * @return true si la connexion est fermée, false sinon.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Ferme la connexion et arrête le bot ou le socket associé.
+     *
+     * @throws IOException Si la fermeture échoue.
+     */
+    @Override
+    public void close() throws IOException {
+        shutdown();
+        writer.interrupt();
+        try {
+            if (resource != null) {
+                resource.close();
+            }
+        } finally {
+            try {
+                out.close();
+            } finally {
+                input.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.bomberman.remote;
+
+import com.bomberman.model.Bomb;
+import com.bomberman.model.BotAction;
+import com.bomberman.model.GameBoard;
+import com.bomberman.model.Player;
+import com.bomberman.model.PowerUp;
+import com.bomberman.util.Direction;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Format texte, ligne par ligne, des échanges avec un bot externe.
+ * <p>
+ * Le jeu envoie des lots de demandes. Un lot commence par {@code BATCH <n>}, suivi de n demandes :
+ * <pre>
+ * STATE &lt;id&gt; &lt;tick&gt; &lt;joueur&gt; &lt;largeur&gt; &lt;hauteur&gt;
+ * &lt;une ligne par rangée du plateau&gt;
+ * PLAYERS &lt;n&gt;
+ * &lt;id&gt; &lt;x&gt; &lt;y&gt; &lt;vivant 0|1&gt; &lt;bombes posées&gt; &lt;bombes max&gt; &lt;portée&gt;
+ * BOMBS &lt;n&gt;
+ * &lt;x&gt; &lt;y&gt; &lt;ticks restants&gt; &lt;portée&gt; &lt;propriétaire&gt;
+ * END
+ * </pre>
+ * Chaque caractère d'une rangée code une cellule : {@code #} mur, {@code +} mur destructible, {@code o} bombe,
+ * {@code *} flammes, {@code b} bonus de bombe, {@code r} bonus de portée, {@code .} cellule vide.
+ * <p>
+ * Le bot répond à chaque demande, dans n'importe quel ordre, par une ligne {@code <id> <action>...} où les actions sont
+ * {@code NONE}, {@code BOMB} et une direction ({@code UP}, {@code DOWN}, {@code LEFT}, {@code RIGHT}) ;
+ * {@code BOMB} peut être suivie d'une direction pour poser une bombe puis s'éloigner.
+ */
+public final class BotProtocol {
+
+    /**
+     * Constructeur privé : classe utilitaire.
+     */
+    private BotProtocol() {
+    }
+
+    /**
+     * Écrit une demande de décision.
+     *
+     * @param out Le tampon recevant la demande.
+     * @param requestId L'identifiant de la demande.
+     * @param board Le plateau de jeu.
+     * @param players Les joueurs, indexés par identifiant.
+     * @param self Le joueur qui doit décider.
+     */
+    public static void writeState(StringBuilder out, long requestId, GameBoard board, List<Player> players, Player self) {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        out.append("STATE ").append(requestId).append(' ').append(board.getClock().getTick()).append(' ')
+                .append(self.getId()).append(' ').append(width).append(' ').append(height).append('\n');
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                out.append(cellChar(board, x, y));
+            }
+            out.append('\n');
+        }
+
+        out.append("PLAYERS ").append(players.size()).append('\n');
+        for (Player player : players) {
+            out.append(player.getId()).append(' ').append(player.getX()).append(' ').append(player.getY()).append(' ')
+                    .append(player.isAlive() ? 1 : 0).append(' ').append(player.getBombCount()).append(' ')
+                    .append(player.getMaxBombs()).append(' ').append(player.getExplosionRange()).append('\n');
+        }
+
+        Collection<Bomb> bombs = board.getBombs();
+        out.append("BOMBS ").append(bombs.size()).append('\n');
+        long now = board.getClock().getTick();
+        for (Bomb bomb : bombs) {
+            out.append(bomb.getX()).append(' ').append(bomb.getY()).append(' ')
+                    .append(Math.max(0, bomb.getDetonationTick() - now)).append(' ')
+                    .append(bomb.getExplosionRange()).append(' ').append(bomb.getOwner().getId()).append('\n');
+        }
+        out.append("END\n");
+    }
+
+    /**
+     * Retourne le caractère codant une cellule.
+     *
+     * @param board Le plateau de jeu.
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
+     * @return Le caractère de la cellule.
+     */
+    private static char cellChar(GameBoard board, int x, int y) {
+        byte cell = board.getCell(x, y);
+        if ((cell & GameBoard.CELL_WALL) != 0) return '#';
+        if ((cell & GameBoard.CELL_DESTRUCTIBLE_WALL) != 0) return '+';
+        if ((cell & GameBoard.CELL_BOMB) != 0) return 'o';
+        if (board.isBurning(x, y)) return '*';
+        PowerUp.Type type = board.getPowerUpType(x, y);
+        if (type == PowerUp.Type.EXTRA_BOMB) return 'b';
+        if (type == PowerUp.Type.BIGGER_EXPLOSION) return 'r';
+        return '.';
+    }
+
+    /**
+     * Lit l'identifiant de la demande à laquelle répond une ligne.
+     *
+     * @param line La ligne de réponse.
+     * @return L'identifiant de la demande.
+     * @throws IllegalArgumentException Si la ligne est mal formée.
+     */
+    public static long parseRequestId(String line) {
+        String trimmed = line.trim();
+        int space = trimmed.indexOf(' ');
+        try {
+            return Long.parseLong(space < 0 ? trimmed : trimmed.substring(0, space));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Réponse de bot mal formée : " + line, e);
+        }
+    }
+
+    /**
+     * Lit l'action d'une ligne de réponse.
+     *
+     * @param line La ligne de réponse.
+     * @return L'action décrite.
+     * @throws IllegalArgumentException Si une action est inconnue.
+     */
+    public static BotAction parseAction(String line) {
+        String[] tokens = line.trim().split("\\s+");
+        Direction move = null;
+        boolean bomb = false;
+        for (int i = 1; i < tokens.length; i++) {
+            switch (tokens[i]) {
+                case "NONE" -> { }
+                case "BOMB" -> bomb = true;
+                default -> {
+                    try {
+                        move = Direction.valueOf(tokens[i]);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Action de bot inconnue : " + tokens[i], e);
+                    }
+                }
+            }
+        }
+        if (bomb) return move == null ? BotAction.PLACE_BOMB : new BotAction(move, true);
+        return move == null ? BotAction.NONE : BotAction.move(move);
+    }
+}
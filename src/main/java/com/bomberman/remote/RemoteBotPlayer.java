@@ -0,0 +1,52 @@
+package com.bomberman.remote;
+
+import com.bomberman.model.BotAction;
+import com.bomberman.model.BotPlayer;
+import com.bomberman.model.GameBoard;
+import com.bomberman.model.Player;
+import com.bomberman.util.Position;
+
+import java.util.List;
+
+/**
+ * Bot dont les décisions sont prises par un programme externe, interrogé à travers une {@link BotConnection}.
+ * Le bot externe est sollicité au même rythme qu'un bot interne ; s'il ne répond pas dans le délai imparti,
+ * le joueur ne fait rien pendant ce tour.
+ */
+public class RemoteBotPlayer extends BotPlayer {
+
+    /** Délai de réponse par défaut, en millisecondes : moins que le délai de l'ordonnanceur des bots. */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 40;
+
+    private final BotConnection connection; // Connexion au bot externe, éventuellement partagée
+    private final long timeoutMillis; // Délai de réponse accordé au bot externe
+
+    /**
+     * Constructeur pour créer un joueur piloté par un bot externe.
+     *
+     * @param id L'identifiant du joueur.
+     * @param position La position initiale du joueur.
+     * @param color La couleur du joueur.
+     * @param connection La connexion au bot externe.
+     * @param timeoutMillis Le délai de réponse accordé au bot externe, en millisecondes.
+     */
+    public RemoteBotPlayer(int id, Position position, String color, BotConnection connection, long timeoutMillis) {
+        super(id, position, color);
+        this.connection = connection;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Demande sa décision au bot externe.
+     *
+     * @param board Le plateau de jeu, éventuellement une copie, qui n'est pas modifié.
+     * @param allPlayers La liste de tous les joueurs, dans le même état que le plateau.
+     * @param self L'état du bot dans cette liste.
+     * @return L'action du bot externe, ou {@link BotAction#NONE} s'il n'a pas répondu à temps.
+     */
+    @Override
+    public BotAction decide(GameBoard board, List<Player> allPlayers, Player self) {
+        if (!self.isAlive() || !readyToAct(board)) return BotAction.NONE;
+        return connection.decide(board, allPlayers, self, timeoutMillis);
+    }
+}
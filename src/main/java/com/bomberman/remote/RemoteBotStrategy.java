@@ -0,0 +1,127 @@
+package com.bomberman.remote;
+
+import com.bomberman.model.BotPlayer;
+import com.bomberman.model.BotStrategy;
+import com.bomberman.util.Position;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Stratégie confiée à un bot externe. Le bot est désigné par une propriété système :
+ * {@value #COMMAND_PROPERTY} donne la commande à lancer (arguments séparés par des espaces),
+ * ou {@value #SOCKET_PROPERTY} l'adresse {@code hôte:port} d'un bot déjà lancé.
+ * Tous les joueurs de cette stratégie partagent une seule connexion, ouverte à la première création d'un bot,
+ * afin que leurs demandes soient envoyées par lots.
+ */
+public class RemoteBotStrategy implements BotStrategy {
+
+    /** Nom de la stratégie. */
+    public static final String NAME = "externe";
+
+    /** Propriété système donnant la commande du bot externe. */
+    public static final String COMMAND_PROPERTY = "bomberman.bot.command";
+
+    /** Propriété système donnant l'adresse {@code hôte:port} du bot externe. */
+    public static final String SOCKET_PROPERTY = "bomberman.bot.socket";
+
+    /** Propriété système donnant le délai de réponse du bot externe, en millisecondes. */
+    public static final String TIMEOUT_PROPERTY = "bomberman.bot.timeout";
+
+    private BotConnection connection; // Connexion partagée par tous les joueurs de la stratégie
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Indique si un bot externe est désigné par {@value #COMMAND_PROPERTY} ou {@value #SOCKET_PROPERTY}.
+     *
+     * @return true si un bot externe est configuré, false sinon.
+     */
+    @Override
+    public boolean isConfigured() {
+        return System.getProperty(COMMAND_PROPERTY) != null || System.getProperty(SOCKET_PROPERTY) != null;
+    }
+
+    /**
+     * Crée un joueur piloté par le bot externe.
+     *
+     * @throws IllegalStateException Si aucun bot externe n'est configuré.
+     * @throws UncheckedIOException Si la connexion au bot externe échoue.
+     */
+    @Override
+    public BotPlayer createBot(int id, Position position, String color) {
+        long timeout = Long.getLong(TIMEOUT_PROPERTY, RemoteBotPlayer.DEFAULT_TIMEOUT_MILLIS);
+        return new RemoteBotPlayer(id, position, color, connection(), timeout);
+    }
+
+    /**
+     * Ferme la connexion au bot externe et arrête le processus lancé, s'il y en a un.
+     */
+    @Override
+    public synchronized void close() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (IOException e) {
+                System.err.println("Erreur lors de la fermeture du bot externe : " + e.getMessage());
+            }
+            connection = null;
+        }
+    }
+
+    /**
+     * Retourne la connexion au bot externe, ouverte ou rouverte au besoin.
+     *
+     * @return La connexion.
+     * @throws IllegalStateException Si aucun bot externe n'est configuré ou si son adresse est invalide.
+     */
+    private synchronized BotConnection connection() {
+        if (connection == null || connection.isClosed()) {
+            try {
+                String command = System.getProperty(COMMAND_PROPERTY);
+                String socket = System.getProperty(SOCKET_PROPERTY);
+                if (command != null) {
+                    connection = BotConnection.launch(Arrays.asList(command.trim().split("\\s+")));
+                } else if (socket != null) {
+                    int colon = socket.lastIndexOf(':');
+                    int port = port(socket, colon);
+                    connection = BotConnection.connect(socket.substring(0, colon), port);
+                } else {
+                    throw new IllegalStateException("Aucun bot externe configuré : définir "
+                            + COMMAND_PROPERTY + " ou " + SOCKET_PROPERTY);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Connexion au bot externe impossible", e);
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Lit le port d'une adresse {@code hôte:port}.
+     *
+     * @param socket L'adresse donnée par {@value #SOCKET_PROPERTY}.
+     * @param colon La position du dernier deux-points de l'adresse, ou -1.
+     * @return Le port.
+     * @throws IllegalStateException Si l'adresse n'a pas la forme {@code hôte:port}.
+     */
+    private static int port(String socket, int colon) {
+        int port = -1;
+        if (colon > 0) {
+            try {
+                port = Integer.parseInt(socket.substring(colon + 1).trim());
+            } catch (NumberFormatException e) {
+                // Signalé ci-dessous
+            }
+        }
+        if (port < 1 || port > 65535) {
+            throw new IllegalStateException("Adresse de bot externe invalide dans " + SOCKET_PROPERTY
+                    + " : « " + socket + " », hôte:port attendu");
+        }
+        return port;
+    }
+}
@@ -0,0 +1,71 @@
+package com.bomberman.simulation;
+
+import com.bomberman.model.BotAction;
+import com.bomberman.model.BotPlayer;
+import com.bomberman.model.Game;
+import com.bomberman.model.Player;
+
+import java.util.List;
+
+/**
+ * Fait jouer une partie entre bots sans interface graphique, sur le fil appelant.
+ * Chaque bot est interrogé dès que son délai entre deux actions est écoulé et son action est appliquée aussitôt,
+ * comme si chaque bot disposait d'un processeur.
+ */
+final class HeadlessMatch {
+
+    /**
+     * Constructeur privé : classe utilitaire.
+     */
+    private HeadlessMatch() {
+    }
+
+    /**
+     * Joue une partie jusqu'à sa fin ou jusqu'à une durée maximale.
+     *
+     * @param game La partie, dont tous les joueurs sont des bots.
+     * @param maxTicks La durée maximale de la partie, en ticks.
+     * @param decisionNanos Durée cumulée des décisions de chaque emplacement, ou null pour ne pas mesurer.
+     * @param decisions Nombre de décisions de chaque emplacement, ou null pour ne pas mesurer.
+     * @return Le nombre de ticks joués.
+     */
+    static long play(Game game, int maxTicks, long[] decisionNanos, long[] decisions) {
+        List<Player> players = game.getPlayers();
+        long[] lastDecision = new long[players.size()];
+        for (int i = 0; i < lastDecision.length; i++) {
+            lastDecision[i] = -BotPlayer.ACTION_DELAY;
+        }
+
+        while (game.isGameRunning() && game.getClock().getTick() < maxTicks) {
+            game.update();
+            long now = game.getClock().getTimeMillis();
+            for (int i = 0; i < players.size(); i++) {
+                Player player = players.get(i);
+                // Un bot n'est interrogé que lorsqu'il peut agir, afin de ne mesurer que de vraies décisions
+                if (!(player instanceof BotPlayer bot) || !bot.isAlive()
+                        || now - lastDecision[i] < BotPlayer.ACTION_DELAY) continue;
+                lastDecision[i] = now;
+
+                long start = decisionNanos != null ? System.nanoTime() : 0;
+                BotAction action = bot.decide(game.getBoard(), players, bot);
+                if (decisionNanos != null) {
+                    decisionNanos[i] += System.nanoTime() - start;
+                    decisions[i]++;
+                }
+                action.applyTo(game, i);
+            }
+        }
+        return game.getClock().getTick();
+    }
+
+    /**
+     * Retourne l'emplacement gagnant d'une partie jouée.
+     *
+     * @param game La partie.
+     * @return L'identifiant du gagnant, ou -1 en cas d'égalité ou de partie interrompue.
+     */
+    static int winnerOf(Game game) {
+        if (game.isGameRunning() || game.getWinner() == null) return -1;
+        return game.getWinner().getId();
+    }
+}
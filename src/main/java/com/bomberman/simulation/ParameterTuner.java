@@ -0,0 +1,215 @@
+package com.bomberman.simulation;
+
+import com.bomberman.model.BotParameters;
+import com.bomberman.model.BotPlayer;
+import com.bomberman.model.BotStrategy;
+import com.bomberman.util.Position;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Optimise les {@link BotParameters} du bot classique par une stratégie d'évolution en auto-affrontement.
+ * À chaque génération, des candidats sont tirés autour de la moyenne courante selon un écart propre
+ * à chaque paramètre ; chacun affronte la moyenne courante dans des parties sans interface graphique,
+ * toutes jouées en même temps sur un {@link ForkJoinPool}. La moyenne et les écarts sont ensuite
+ * recalculés à partir des meilleurs candidats, pondérés par leur rang.
+ * <p>
+ * Utilisation : {@code ParameterTuner <profil de sortie> [générations] [population] [parties par candidat] [graine]}
+ */
+public class ParameterTuner {
+
+    private static final double INITIAL_SIGMA = 0.1; // Écart initial, en fraction de l'intervalle de chaque paramètre
+    private static final double MIN_SIGMA = 0.005; // Écart minimal, en fraction de l'intervalle de chaque paramètre
+    private static final double SMOOTHING = 0.7; // Part des nouvelles statistiques dans la mise à jour des écarts
+
+    private final int population; // Nombre de candidats par génération
+    private final int parents; // Nombre de meilleurs candidats retenus pour la génération suivante
+    private final int matchesPerCandidate; // Nombre de parties de chaque candidat contre la moyenne
+    private final int maxTicks; // Durée maximale d'une partie, en ticks
+    private final SplittableRandom random; // Générateur des candidats et des graines des cartes
+    private final ForkJoinPool pool; // Fils sur lesquels les parties sont jouées
+
+    /**
+     * Constructeur pour créer un optimiseur.
+     *
+     * @param population Le nombre de candidats par génération, au moins deux.
+     * @param matchesPerCandidate Le nombre de parties de chaque candidat contre la moyenne.
+     * @param seed La graine de l'optimisation.
+     * @param maxTicks La durée maximale d'une partie, en ticks.
+     * @param parallelism Le nombre de fils de calcul.
+     */
+    public ParameterTuner(int population, int matchesPerCandidate, long seed, int maxTicks, int parallelism) {
+        if (population < 2) {
+            throw new IllegalArgumentException("La population doit compter au moins deux candidats");
+        }
+        this.population = population;
+        this.parents = Math.max(1, population / 2);
+        this.matchesPerCandidate = matchesPerCandidate;
+        this.maxTicks = maxTicks;
+        this.random = new SplittableRandom(seed);
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Optimise les paramètres à partir d'un point de départ.
+     *
+     * @param start Les paramètres de départ.
+     * @param generations Le nombre de générations.
+     * @param log Le flux recevant le bilan de chaque génération.
+     * @return La moyenne de la dernière génération.
+     */
+    public BotParameters tune(BotParameters start, int generations, PrintStream log) {
+        BotParameters.Key[] keys = BotParameters.Key.values();
+        double[] mean = start.toArray();
+        double[] sigma = new double[keys.length];
+        for (BotParameters.Key key : keys) {
+            sigma[key.ordinal()] = INITIAL_SIGMA * (key.getMax() - key.getMin());
+        }
+        double[] weights = rankWeights(parents);
+
+        for (int g = 0; g < generations; g++) {
+            BotParameters incumbent = new BotParameters(mean);
+            BotParameters[] candidates = new BotParameters[population];
+            List<BotStrategy> entrants = new ArrayList<>(population + 1);
+            entrants.add(strategy("reference", incumbent));
+            for (int c = 0; c < population; c++) {
+                double[] values = new double[keys.length];
+                for (int k = 0; k < keys.length; k++) {
+                    values[k] = mean[k] + sigma[k] * random.nextGaussian();
+                }
+                candidates[c] = new BotParameters(values);
+                entrants.add(strategy("candidat-" + c, candidates[c]));
+            }
+
+            TournamentRunner runner = new TournamentRunner(entrants, matchesPerCandidate, random.nextLong(), maxTicks, pool);
+            Standings standings = runner.gauntlet();
+            runner.shutdown();
+
+            Integer[] order = new Integer[population];
+            double[] fitness = new double[population];
+            for (int c = 0; c < population; c++) {
+                order[c] = c;
+                fitness[c] = fitness(standings, "candidat-" + c);
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(fitness[b], fitness[a]));
+
+            // Recombinaison pondérée des meilleurs candidats, puis adaptation de l'écart de chaque paramètre
+            double[] newMean = new double[keys.length];
+            double[] variance = new double[keys.length];
+            for (int r = 0; r < parents; r++) {
+                double[] values = candidates[order[r]].toArray();
+                for (int k = 0; k < keys.length; k++) {
+                    newMean[k] += weights[r] * values[k];
+                    variance[k] += weights[r] * (values[k] - mean[k]) * (values[k] - mean[k]);
+                }
+            }
+            for (BotParameters.Key key : keys) {
+                int k = key.ordinal();
+                double range = key.getMax() - key.getMin();
+                sigma[k] = Math.max(MIN_SIGMA * range, (1 - SMOOTHING) * sigma[k] + SMOOTHING * Math.sqrt(variance[k]));
+            }
+            mean = new BotParameters(newMean).toArray();
+
+            log.printf("Génération %d : meilleur score %.3f, %.0f ticks/s, moyenne %s%n",
+                    g + 1, fitness[order[0]], standings.getTicksPerSecond(), new BotParameters(mean));
+        }
+        return new BotParameters(mean);
+    }
+
+    /**
+     * Calcule le score d'un candidat : une victoire compte un point, une partie nulle un demi-point.
+     *
+     * @param standings Les résultats du tournoi.
+     * @param name Le nom du candidat.
+     * @return Le score moyen par partie, entre 0 et 1.
+     */
+    private static double fitness(Standings standings, String name) {
+        long wins = standings.getWins(name);
+        long draws = standings.getDraws(name);
+        long played = wins + draws + standings.getLosses(name);
+        return played > 0 ? (wins + 0.5 * draws) / played : 0;
+    }
+
+    /**
+     * Calcule les poids de recombinaison des meilleurs candidats, décroissants avec le rang.
+     *
+     * @param count Le nombre de candidats retenus.
+     * @return Les poids, de somme 1.
+     */
+    private static double[] rankWeights(int count) {
+        double[] weights = new double[count];
+        double sum = 0;
+        for (int r = 0; r < count; r++) {
+            weights[r] = Math.log(count + 0.5) - Math.log(r + 1);
+            sum += weights[r];
+        }
+        for (int r = 0; r < count; r++) {
+            weights[r] /= sum;
+        }
+        return weights;
+    }
+
+    /**
+     * Crée une stratégie classique utilisant des paramètres donnés.
+     *
+     * @param name Le nom de la stratégie.
+     * @param parameters Les paramètres de ses bots.
+     * @return La stratégie.
+     */
+    private static BotStrategy strategy(String name, BotParameters parameters) {
+        return new BotStrategy() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public BotPlayer createBot(int id, Position position, String color) {
+                return new BotPlayer(id, position, color, parameters);
+            }
+        };
+    }
+
+    /**
+     * Arrête les fils de calcul.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Lance l'optimisation depuis la ligne de commande et enregistre le profil obtenu.
+     *
+     * @param args Le chemin du profil de sortie, puis le nombre de générations, la population,
+     *             le nombre de parties par candidat et la graine.
+     * @throws IOException Si le profil ne peut pas être écrit.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Utilisation : ParameterTuner <profil> [générations] [population] [parties] [graine]");
+            return;
+        }
+        Path output = Path.of(args[0]);
+        int generations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int population = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        int matches = args.length > 3 ? Integer.parseInt(args[3]) : 50;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 0L;
+
+        ParameterTuner tuner = new ParameterTuner(population, matches, seed, TournamentRunner.DEFAULT_MAX_TICKS,
+                Runtime.getRuntime().availableProcessors());
+        try {
+            BotParameters best = tuner.tune(BotParameters.DEFAULTS, generations, System.out);
+            best.store(output, "Profil de bot optimisé (" + generations + " générations)");
+            System.out.println("Profil enregistré dans " + output);
+        } finally {
+            tuner.shutdown();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.bomberman.simulation;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Résultats cumulés d'un tournoi : bilan de chaque stratégie et statistiques globales des parties.
+ * Les résultats partiels calculés par différents fils sont réunis avec {@link #merge(Standings)}.
+ */
+public final class Standings {
+
+    private final List<String> names; // Nom de chaque stratégie, par indice
+    private final long[] wins; // Victoires de chaque stratégie
+    private final long[] losses; // Défaites de chaque stratégie
+    private final long[] draws; // Parties nulles de chaque stratégie
+    private long matches; // Nombre de parties jouées
+    private long drawnMatches; // Nombre de parties sans vainqueur
+    private long totalTicks; // Durée cumulée des parties, en ticks
+    private long elapsedNanos; // Durée réelle du tournoi, en nanosecondes
+    private String champion; // Vainqueur d'un tournoi à élimination directe, ou null
+
+    /**
+     * Constructeur pour créer des résultats vides.
+     *
+     * @param names Le nom de chaque stratégie, par indice.
+     */
+    Standings(List<String> names) {
+        this.names = names;
+        this.wins = new long[names.size()];
+        this.losses = new long[names.size()];
+        this.draws = new long[names.size()];
+    }
+
+    /**
+     * Enregistre le résultat d'une partie entre deux stratégies.
+     *
+     * @param first L'indice de la première stratégie.
+     * @param second L'indice de la seconde stratégie.
+     * @param winner L'indice de la stratégie gagnante, ou -1 en cas de partie nulle.
+     * @param ticks La durée de la partie, en ticks.
+     */
+    void record(int first, int second, int winner, long ticks) {
+        matches++;
+        totalTicks += ticks;
+        if (winner < 0) {
+            drawnMatches++;
+            draws[first]++;
+            draws[second]++;
+        } else {
+            wins[winner]++;
+            losses[winner == first ? second : first]++;
+        }
+    }
+
+    /**
+     * Ajoute à ces résultats ceux d'un autre ensemble de parties.
+     *
+     * @param other Les résultats à ajouter.
+     */
+    void merge(Standings other) {
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+            losses[i] += other.losses[i];
+            draws[i] += other.draws[i];
+        }
+        matches += other.matches;
+        drawnMatches += other.drawnMatches;
+        totalTicks += other.totalTicks;
+    }
+
+    /**
+     * Définit la durée réelle du tournoi.
+     *
+     * @param elapsedNanos La durée, en nanosecondes.
+     */
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Définit le vainqueur d'un tournoi à élimination directe.
+     *
+     * @param champion Le nom de la stratégie victorieuse.
+     */
+    void setChampion(String champion) {
+        this.champion = champion;
+    }
+
+    /**
+     * Retourne l'indice d'une stratégie.
+     *
+     * @param name Le nom de la stratégie.
+     * @return L'indice de la stratégie.
+     * @throws IllegalArgumentException Si la stratégie n'a pas participé.
+     */
+    private int indexOf(String name) {
+        int index = names.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("Stratégie absente du tournoi : " + name);
+        }
+        return index;
+    }
+
+    /**
+     * Retourne le nombre de victoires d'une stratégie.
+     *
+     * @param name Le nom de la stratégie.
+     * @return Le nombre de victoires.
+     */
+    public long getWins(String name) {
+        return wins[indexOf(name)];
+    }
+
+    /**
+     * Retourne le nombre de défaites d'une stratégie.
+     *
+     * @param name Le nom de la stratégie.
+     * @return Le nombre de défaites.
+     */
+    public long getLosses(String name) {
+        return losses[indexOf(name)];
+    }
+
+    /**
+     * Retourne le nombre de parties nulles d'une stratégie.
+     *
+     * @param name Le nom de la stratégie.
+     * @return Le nombre de parties nulles.
+     */
+    public long getDraws(String name) {
+        return draws[indexOf(name)];
+    }
+
+    /**
+     * Retourne le nombre de parties jouées.
+     *
+     * @return Le nombre de parties.
+     */
+    public long getMatches() {
+        return matches;
+    }
+
+    /**
+     * Retourne le nombre de parties sans vainqueur.
+     *
+     * @return Le nombre de parties nulles.
+     */
+    public long getDrawnMatches() {
+        return drawnMatches;
+    }
+
+    /**
+     * Retourne la durée moyenne d'une partie.
+     *
+     * @return La durée moyenne, en ticks.
+     */
+    public double getMeanMatchTicks() {
+        return matches > 0 ? (double) totalTicks / matches : 0;
+    }
+
+    /**
+     * Retourne le débit de simulation du tournoi, tous fils confondus.
+     *
+     * @return Le nombre de ticks simulés par seconde réelle.
+     */
+    public double getTicksPerSecond() {
+        return elapsedNanos > 0 ? totalTicks * 1e9 / elapsedNanos : 0;
+    }
+
+    /**
+     * Retourne le vainqueur d'un tournoi à élimination directe.
+     *
+     * @return Le nom de la stratégie victorieuse, ou null pour un tournoi toutes rondes.
+     */
+    public String getChampion() {
+        return champion;
+    }
+
+    /**
+     * Affiche le classement et les statistiques globales.
+     *
+     * @param out Le flux de sortie.
+     */
+    public void print(PrintStream out) {
+        out.printf("%-12s %10s %10s %10s%n", "Stratégie", "Victoires", "Défaites", "Nulles");
+        for (int i = 0; i < names.size(); i++) {
+            out.printf("%-12s %10d %10d %10d%n", names.get(i), wins[i], losses[i], draws[i]);
+        }
+        out.printf("Parties : %d (nulles : %d), durée moyenne : %.0f ticks, débit : %.0f ticks/s%n",
+                matches, drawnMatches, getMeanMatchTicks(), getTicksPerSecond());
+        if (champion != null) {
+            out.println("Vainqueur : " + champion);
+        }
+    }
+}
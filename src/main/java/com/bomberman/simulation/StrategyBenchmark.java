@@ -0,0 +1,225 @@
+package com.bomberman.simulation;
+
+import com.bomberman.model.BotStrategies;
+import com.bomberman.model.BotStrategy;
+import com.bomberman.model.Game;
+import com.bomberman.model.GameClock;
+import com.bomberman.model.GameListener;
+import com.bomberman.util.GameConstants;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Banc d'essai qui oppose des stratégies de bots dans des parties sans interface graphique.
+ * Les stratégies sont réparties à tour de rôle sur les emplacements de joueurs d'une partie à l'autre ;
+ * pour chacune sont mesurés le taux de victoire par participation et la durée moyenne d'une décision,
+ * afin de comparer la force d'une stratégie à son coût.
+ * <p>
+ * Les décisions sont prises sur le fil appelant, directement sur le jeu, comme si chaque bot disposait
+ * d'un processeur : la durée mesurée est celle d'un appel à {@link com.bomberman.model.BotPlayer#decide}.
+ * Chaque partie est tirée d'une graine issue de celle du banc d'essai, si bien qu'une même graine
+ * rejoue les mêmes cartes et les mêmes décisions.
+ * <p>
+ * Utilisation : {@code StrategyBenchmark [parties] [graine] [stratégies...]}
+ */
+public class StrategyBenchmark {
+
+    /** Durée maximale d'une partie, en ticks, au-delà de laquelle elle est déclarée nulle. */
+    public static final int DEFAULT_MAX_TICKS = 3 * 60 * GameConstants.TICKS_PER_SECOND;
+
+    private final List<BotStrategy> strategies; // Stratégies comparées
+    private final int matches; // Nombre de parties jouées
+    private final int maxTicks; // Durée maximale d'une partie, en ticks
+    private final SplittableRandom seeds; // Source des graines des parties
+
+    /**
+     * Constructeur pour créer un banc d'essai.
+     *
+     * @param strategies Les stratégies comparées.
+     * @param matches Le nombre de parties à jouer.
+     * @param seed La graine des parties du banc d'essai.
+     * @param maxTicks La durée maximale d'une partie, en ticks.
+     */
+    public StrategyBenchmark(List<BotStrategy> strategies, int matches, long seed, int maxTicks) {
+        if (strategies.isEmpty()) {
+            throw new IllegalArgumentException("Au moins une stratégie est nécessaire");
+        }
+        this.strategies = List.copyOf(strategies);
+        this.matches = matches;
+        this.maxTicks = maxTicks;
+        this.seeds = new SplittableRandom(seed);
+    }
+
+    /**
+     * Joue toutes les parties et retourne le résultat de chaque stratégie.
+     *
+     * @return Les résultats, du meilleur taux de victoire au moins bon.
+     */
+    public List<Result> run() {
+        List<Result> results = new ArrayList<>();
+        for (BotStrategy strategy : strategies) {
+            results.add(new Result(strategy.getName()));
+        }
+
+        for (int m = 0; m < matches; m++) {
+            List<BotStrategy> slots = new ArrayList<>(GameConstants.MAX_PLAYERS);
+            for (int s = 0; s < GameConstants.MAX_PLAYERS; s++) {
+                slots.add(strategies.get((m + s) % strategies.size()));
+            }
+            playMatch(slots, results);
+        }
+
+        results.sort(Comparator.comparingDouble(Result::getWinRate).reversed());
+        return results;
+    }
+
+    /**
+     * Joue une partie entre bots et ajoute ses mesures aux résultats.
+     *
+     * @param slots La stratégie de chaque emplacement.
+     * @param results Les résultats, dans l'ordre des stratégies comparées.
+     */
+    private void playMatch(List<BotStrategy> slots, List<Result> results) {
+        Game game = new Game(GameConstants.MAX_PLAYERS, 0, GameListener.NONE, new GameClock(), slots, seeds.nextLong());
+        long[] decisionNanos = new long[slots.size()];
+        long[] decisions = new long[slots.size()];
+        HeadlessMatch.play(game, maxTicks, decisionNanos, decisions);
+
+        int winner = HeadlessMatch.winnerOf(game);
+        for (int i = 0; i < slots.size(); i++) {
+            Result result = resultOf(slots.get(i), results);
+            result.recordDecisions(decisions[i], decisionNanos[i]);
+            result.recordMatch(winner == i);
+        }
+    }
+
+    /**
+     * Retourne le résultat d'une stratégie.
+     *
+     * @param strategy La stratégie.
+     * @param results Les résultats, dans l'ordre des stratégies comparées.
+     * @return Le résultat de la stratégie.
+     */
+    private Result resultOf(BotStrategy strategy, List<Result> results) {
+        return results.get(strategies.indexOf(strategy));
+    }
+
+    /**
+     * Lance le banc d'essai depuis la ligne de commande et affiche le classement.
+     * Arguments : le nombre de parties, la graine, puis les noms des stratégies (toutes par défaut).
+     *
+     * @param args Les arguments de la ligne de commande.
+     */
+    public static void main(String[] args) {
+        int matches = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0L;
+        List<BotStrategy> strategies = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            strategies.add(BotStrategies.byName(args[i]));
+        }
+        if (strategies.isEmpty()) {
+            for (BotStrategy strategy : BotStrategies.available()) {
+                if (strategy.isConfigured()) {
+                    strategies.add(strategy);
+                }
+            }
+        }
+
+        List<Result> results = new StrategyBenchmark(strategies, matches, seed, DEFAULT_MAX_TICKS).run();
+        System.out.printf("%-12s %8s %8s %10s %14s%n", "Stratégie", "Parties", "Victoires", "Taux", "Décision (µs)");
+        for (Result result : results) {
+            System.out.printf("%-12s %8d %8d %9.1f%% %14.1f%n", result.getName(), result.getMatches(),
+                    result.getWins(), 100 * result.getWinRate(), result.getMeanDecisionMicros());
+        }
+    }
+
+    /**
+     * Mesures cumulées d'une stratégie.
+     */
+    public static final class Result {
+
+        private final String name; // Nom de la stratégie
+        private int matches; // Nombre de participations, une par emplacement occupé
+        private int wins; // Nombre de victoires
+        private long decisions; // Nombre de décisions mesurées
+        private long decisionNanos; // Durée cumulée des décisions, en nanosecondes
+
+        /**
+         * Constructeur pour créer un résultat vide.
+         *
+         * @param name Le nom de la stratégie.
+         */
+        Result(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Enregistre une participation à une partie.
+         *
+         * @param won true si l'emplacement a gagné la partie.
+         */
+        void recordMatch(boolean won) {
+            matches++;
+            if (won) wins++;
+        }
+
+        /**
+         * Enregistre les décisions d'un emplacement pendant une partie.
+         *
+         * @param count Le nombre de décisions.
+         * @param nanos La durée cumulée des décisions, en nanosecondes.
+         */
+        void recordDecisions(long count, long nanos) {
+            decisions += count;
+            decisionNanos += nanos;
+        }
+
+        /**
+         * Retourne le nom de la stratégie.
+         *
+         * @return Le nom de la stratégie.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Retourne le nombre de participations.
+         *
+         * @return Le nombre d'emplacements occupés par la stratégie, toutes parties confondues.
+         */
+        public int getMatches() {
+            return matches;
+        }
+
+        /**
+         * Retourne le nombre de victoires.
+         *
+         * @return Le nombre de victoires.
+         */
+        public int getWins() {
+            return wins;
+        }
+
+        /**
+         * Retourne le taux de victoire par participation.
+         *
+         * @return Le taux de victoire, entre 0 et 1.
+         */
+        public double getWinRate() {
+            return matches > 0 ? (double) wins / matches : 0;
+        }
+
+        /**
+         * Retourne la durée moyenne d'une décision.
+         *
+         * @return La durée moyenne, en microsecondes.
+         */
+        public double getMeanDecisionMicros() {
+            return decisions > 0 ? decisionNanos / 1000.0 / decisions : 0;
+        }
+    }
+}
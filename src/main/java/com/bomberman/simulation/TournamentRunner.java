@@ -0,0 +1,319 @@
+package com.bomberman.simulation;
+
+import com.bomberman.model.BotStrategies;
+import com.bomberman.model.BotStrategy;
+import com.bomberman.model.Game;
+import com.bomberman.model.GameClock;
+import com.bomberman.model.GameListener;
+import com.bomberman.util.GameConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Tournois entre stratégies de bots, joués sans interface graphique sur tous les processeurs.
+ * Une rencontre entre deux stratégies est une série de parties à quatre joueurs où chaque stratégie
+ * occupe deux emplacements opposés ; chaque carte, tirée d'une graine, est jouée deux fois en échangeant
+ * les emplacements. Les parties sont réparties sur un {@link ForkJoinPool} ; les objets {@link Game},
+ * au plus un par fil occupé, sont réutilisés d'une partie à l'autre par cet organisateur et libérés
+ * par {@link #shutdown()}. Seuls le plateau et la partie sont réutilisés : les bots sont recréés
+ * à chaque partie par la stratégie de leur emplacement.
+ * <p>
+ * Utilisation : {@code TournamentRunner <toutes-rondes|elimination> [parties par rencontre] [graine] [stratégies...]}
+ */
+public class TournamentRunner {
+
+    /** Durée maximale d'une partie, en ticks, au-delà de laquelle elle est déclarée nulle. */
+    public static final int DEFAULT_MAX_TICKS = 3 * 60 * GameConstants.TICKS_PER_SECOND;
+
+    private final List<BotStrategy> strategies; // Stratégies participantes
+    private final List<String> names; // Nom de chaque stratégie participante
+    private final int matchesPerPairing; // Nombre de parties de chaque rencontre
+    private final int maxTicks; // Durée maximale d'une partie, en ticks
+    private final SplittableRandom seeds; // Source des graines des cartes
+    private final ForkJoinPool pool; // Fils sur lesquels les parties sont jouées
+    private final boolean ownsPool; // Indique si le pool a été créé par cet organisateur
+    private final Queue<Game> idleGames = new ConcurrentLinkedQueue<>(); // Parties libres, réutilisées d'une partie à l'autre
+
+    /**
+     * Partie programmée : deux stratégies sur une carte donnée.
+     */
+    private static final class Fixture {
+        final int first; // Indice de la stratégie des emplacements pairs
+        final int second; // Indice de la stratégie des emplacements impairs
+        final long mapSeed; // Graine de la carte
+
+        Fixture(int first, int second, long mapSeed) {
+            this.first = first;
+            this.second = second;
+            this.mapSeed = mapSeed;
+        }
+    }
+
+    /**
+     * Constructeur pour créer un organisateur de tournois.
+     *
+     * @param strategies Les stratégies participantes, au moins deux.
+     * @param matchesPerPairing Le nombre de parties de chaque rencontre.
+     * @param seed La graine des cartes du tournoi.
+     * @param maxTicks La durée maximale d'une partie, en ticks.
+     * @param parallelism Le nombre de fils de calcul.
+     */
+    public TournamentRunner(List<BotStrategy> strategies, int matchesPerPairing, long seed, int maxTicks, int parallelism) {
+        this(strategies, matchesPerPairing, seed, maxTicks, new ForkJoinPool(parallelism), true);
+    }
+
+    /**
+     * Constructeur pour créer un organisateur de tournois sur un pool de fils existant,
+     * qui n'est pas arrêté par {@link #shutdown()}.
+     *
+     * @param strategies Les stratégies participantes, au moins deux.
+     * @param matchesPerPairing Le nombre de parties de chaque rencontre.
+     * @param seed La graine des cartes du tournoi.
+     * @param maxTicks La durée maximale d'une partie, en ticks.
+     * @param pool Le pool de fils de calcul.
+     */
+    TournamentRunner(List<BotStrategy> strategies, int matchesPerPairing, long seed, int maxTicks, ForkJoinPool pool) {
+        this(strategies, matchesPerPairing, seed, maxTicks, pool, false);
+    }
+
+    /**
+     * Constructeur commun.
+     *
+     * @param strategies Les stratégies participantes, au moins deux.
+     * @param matchesPerPairing Le nombre de parties de chaque rencontre.
+     * @param seed La graine des cartes du tournoi.
+     * @param maxTicks La durée maximale d'une partie, en ticks.
+     * @param pool Le pool de fils de calcul.
+     * @param ownsPool true si le pool doit être arrêté par {@link #shutdown()}.
+     */
+    private TournamentRunner(List<BotStrategy> strategies, int matchesPerPairing, long seed, int maxTicks,
+                             ForkJoinPool pool, boolean ownsPool) {
+        if (strategies.size() < 2) {
+            throw new IllegalArgumentException("Un tournoi demande au moins deux stratégies");
+        }
+        this.strategies = List.copyOf(strategies);
+        List<String> strategyNames = new ArrayList<>();
+        for (BotStrategy strategy : strategies) {
+            strategyNames.add(strategy.getName());
+        }
+        this.names = List.copyOf(strategyNames);
+        this.matchesPerPairing = matchesPerPairing;
+        this.maxTicks = maxTicks;
+        this.seeds = new SplittableRandom(seed);
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+    }
+
+    /**
+     * Joue un tournoi toutes rondes : chaque stratégie rencontre chacune des autres.
+     *
+     * @return Les résultats du tournoi.
+     */
+    public Standings roundRobin() {
+        long start = System.nanoTime();
+        List<Fixture> fixtures = new ArrayList<>();
+        for (int a = 0; a < strategies.size(); a++) {
+            for (int b = a + 1; b < strategies.size(); b++) {
+                addPairing(fixtures, a, b);
+            }
+        }
+        Standings standings = play(fixtures);
+        standings.setElapsedNanos(System.nanoTime() - start);
+        return standings;
+    }
+
+    /**
+     * Joue un tournoi en étoile : la première stratégie, prise pour référence, rencontre chacune des autres,
+     * qui ne se rencontrent pas entre elles. Toutes les rencontres sont jouées en même temps.
+     *
+     * @return Les résultats du tournoi.
+     */
+    public Standings gauntlet() {
+        long start = System.nanoTime();
+        List<Fixture> fixtures = new ArrayList<>();
+        for (int challenger = 1; challenger < strategies.size(); challenger++) {
+            addPairing(fixtures, challenger, 0);
+        }
+        Standings standings = play(fixtures);
+        standings.setElapsedNanos(System.nanoTime() - start);
+        return standings;
+    }
+
+    /**
+     * Joue un tournoi à élimination directe dans l'ordre des stratégies ; en nombre impair,
+     * la dernière stratégie d'un tour est qualifiée d'office. Une rencontre à égalité
+     * qualifie la stratégie la mieux placée dans l'ordre initial.
+     *
+     * @return Les résultats de toutes les rencontres, avec le vainqueur.
+     */
+    public Standings bracket() {
+        long start = System.nanoTime();
+        Standings standings = new Standings(names);
+        List<Integer> alive = new ArrayList<>();
+        for (int i = 0; i < strategies.size(); i++) {
+            alive.add(i);
+        }
+
+        while (alive.size() > 1) {
+            List<Fixture> fixtures = new ArrayList<>();
+            for (int p = 0; p + 1 < alive.size(); p += 2) {
+                addPairing(fixtures, alive.get(p), alive.get(p + 1));
+            }
+            Standings round = play(fixtures);
+            standings.merge(round);
+
+            List<Integer> qualified = new ArrayList<>();
+            for (int p = 0; p + 1 < alive.size(); p += 2) {
+                int a = alive.get(p);
+                int b = alive.get(p + 1);
+                qualified.add(round.getWins(names.get(b)) > round.getWins(names.get(a)) ? b : a);
+            }
+            if (alive.size() % 2 == 1) {
+                qualified.add(alive.get(alive.size() - 1));
+            }
+            alive = qualified;
+        }
+
+        standings.setChampion(names.get(alive.get(0)));
+        standings.setElapsedNanos(System.nanoTime() - start);
+        return standings;
+    }
+
+    /**
+     * Programme les parties d'une rencontre, chaque carte étant jouée dans les deux sens.
+     *
+     * @param fixtures La liste recevant les parties.
+     * @param a L'indice de la première stratégie.
+     * @param b L'indice de la seconde stratégie.
+     */
+    private void addPairing(List<Fixture> fixtures, int a, int b) {
+        long mapSeed = 0;
+        for (int k = 0; k < matchesPerPairing; k++) {
+            if (k % 2 == 0) {
+                mapSeed = seeds.nextLong();
+                fixtures.add(new Fixture(a, b, mapSeed));
+            } else {
+                fixtures.add(new Fixture(b, a, mapSeed));
+            }
+        }
+    }
+
+    /**
+     * Joue des parties sur le pool de fils.
+     *
+     * @param fixtures Les parties à jouer.
+     * @return Les résultats des parties.
+     */
+    private Standings play(List<Fixture> fixtures) {
+        return pool.invoke(new FixtureTask(fixtures, 0, fixtures.size()));
+    }
+
+    /**
+     * Joue une partie sur un objet {@link Game} libre, créé s'il n'y en a aucun.
+     *
+     * @param fixture La partie à jouer.
+     * @param standings Les résultats recevant celui de la partie.
+     */
+    private void playFixture(Fixture fixture, Standings standings) {
+        BotStrategy first = strategies.get(fixture.first);
+        BotStrategy second = strategies.get(fixture.second);
+        Game game = idleGames.poll();
+        if (game == null) {
+            // Sans bot à la création : ceux de la partie sont créés par resetGame
+            game = new Game(GameConstants.MAX_PLAYERS, GameConstants.MAX_PLAYERS, GameListener.NONE, new GameClock());
+        }
+        game.setBotStrategies(List.of(first, second, first, second));
+        game.resetGame(0, fixture.mapSeed);
+
+        long ticks = HeadlessMatch.play(game, maxTicks, null, null);
+        int winnerSlot = HeadlessMatch.winnerOf(game);
+        idleGames.add(game);
+        int winner = winnerSlot < 0 ? -1 : winnerSlot % 2 == 0 ? fixture.first : fixture.second;
+        standings.record(fixture.first, fixture.second, winner, ticks);
+    }
+
+    /**
+     * Tâche qui joue une tranche de parties en la divisant jusqu'à une partie par tâche.
+     */
+    private final class FixtureTask extends RecursiveTask<Standings> {
+
+        private final List<Fixture> fixtures; // Toutes les parties à jouer
+        private final int from; // Indice de la première partie de la tranche
+        private final int to; // Indice de fin (exclu) de la tranche
+
+        FixtureTask(List<Fixture> fixtures, int from, int to) {
+            this.fixtures = fixtures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Standings compute() {
+            if (to - from <= 1) {
+                Standings standings = new Standings(names);
+                if (to > from) {
+                    playFixture(fixtures.get(from), standings);
+                }
+                return standings;
+            }
+            int middle = (from + to) >>> 1;
+            FixtureTask left = new FixtureTask(fixtures, from, middle);
+            left.fork();
+            Standings standings = new FixtureTask(fixtures, middle, to).compute();
+            standings.merge(left.join());
+            return standings;
+        }
+    }
+
+    /**
+     * Libère les parties réutilisées et arrête les fils de calcul, s'ils ont été créés par cet organisateur.
+     */
+    public void shutdown() {
+        idleGames.clear();
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Lance un tournoi depuis la ligne de commande et affiche ses résultats.
+     *
+     * @param args Le format ({@code toutes-rondes} ou {@code elimination}), le nombre de parties par rencontre,
+     *             la graine des cartes, puis les noms des stratégies (toutes par défaut).
+     */
+    public static void main(String[] args) {
+        String format = args.length > 0 ? args[0] : "toutes-rondes";
+        int matches = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+        List<BotStrategy> strategies = new ArrayList<>();
+        for (int i = 3; i < args.length; i++) {
+            strategies.add(BotStrategies.byName(args[i]));
+        }
+        if (strategies.isEmpty()) {
+            for (BotStrategy strategy : BotStrategies.available()) {
+                if (strategy.isConfigured()) {
+                    strategies.add(strategy);
+                }
+            }
+        }
+
+        TournamentRunner runner = new TournamentRunner(strategies, matches, seed, DEFAULT_MAX_TICKS,
+                Runtime.getRuntime().availableProcessors());
+        try {
+            Standings standings = switch (format) {
+                case "toutes-rondes" -> runner.roundRobin();
+                case "elimination" -> runner.bracket();
+                default -> throw new IllegalArgumentException("Format de tournoi inconnu : " + format);
+            };
+            standings.print(System.out);
+        } finally {
+            runner.shutdown();
+        }
+    }
+}
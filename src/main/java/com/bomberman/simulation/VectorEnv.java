@@ -0,0 +1,373 @@
+package com.bomberman.simulation;
+
+import com.bomberman.model.DangerMap;
+import com.bomberman.model.Game;
+import com.bomberman.model.GameBoard;
+import com.bomberman.model.GameClock;
+import com.bomberman.model.GameListener;
+import com.bomberman.model.Player;
+import com.bomberman.util.Direction;
+import com.bomberman.util.GameConstants;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.Phaser;
+
+/**
+ * Lot d'environnements de jeu indépendants avancés au même pas, pour produire des données d'apprentissage.
+ * Chaque environnement est une partie dont les quatre joueurs sont pilotés par des actions entières ;
+ * un pas applique une action par joueur puis fait avancer la partie d'un nombre fixe de ticks.
+ * <p>
+ * Les observations de tous les environnements sont écrites dans un seul tableau de réels, environnement
+ * par environnement, canal par canal, puis ligne par ligne ({@code [env][canal][y][x]}). Les tableaux
+ * d'observations, de récompenses et de fins de partie sont réutilisés d'un pas à l'autre.
+ * Une partie terminée est aussitôt recommencée sur une nouvelle carte : l'observation rendue
+ * est alors celle de la nouvelle partie.
+ * <p>
+ * Les environnements sont répartis en tranches contiguës entre le fil appelant et des fils de calcul
+ * permanents ; chaque tranche n'écrit que dans sa portion des tableaux. Les fils se retrouvent sur un
+ * {@link Phaser} au début et à la fin de chaque pas, de sorte qu'un pas n'alloue aucun objet.
+ */
+public class VectorEnv {
+
+    /** Action : ne rien faire. */
+    public static final int ACTION_NONE = 0;
+
+    /** Première action de déplacement ; les suivantes suivent l'ordre de {@link Direction}. */
+    public static final int ACTION_MOVE = 1;
+
+    /** Action : poser une bombe. */
+    public static final int ACTION_BOMB = ACTION_MOVE + Direction.values().length;
+
+    /** Nombre d'actions possibles par joueur. */
+    public static final int ACTION_COUNT = ACTION_BOMB + 1;
+
+    /** Canal des murs indestructibles. */
+    public static final int CHANNEL_WALL = 0;
+
+    /** Canal des murs destructibles. */
+    public static final int CHANNEL_DESTRUCTIBLE_WALL = 1;
+
+    /** Canal des bombes. */
+    public static final int CHANNEL_BOMB = 2;
+
+    /** Canal des flammes. */
+    public static final int CHANNEL_FIRE = 3;
+
+    /** Canal des bonus. */
+    public static final int CHANNEL_POWER_UP = 4;
+
+    /** Canal du danger : de 0 (aucune explosion prévue) à 1 (explosion imminente). */
+    public static final int CHANNEL_DANGER = 5;
+
+    /** Premier canal des positions de joueurs vivants, un canal par joueur. */
+    public static final int CHANNEL_PLAYER = 6;
+
+    /** Nombre de canaux d'une observation. */
+    public static final int CHANNELS = CHANNEL_PLAYER + GameConstants.MAX_PLAYERS;
+
+    /** Récompense d'un joueur qui meurt. */
+    public static final float REWARD_DEATH = -1f;
+
+    /** Récompense du vainqueur d'une partie. */
+    public static final float REWARD_WIN = 1f;
+
+    private static final Direction[] DIRECTIONS = Direction.values(); // Directions, sans copie à chaque appel
+
+    private final Game[] games; // Partie de chaque environnement
+    private final SplittableRandom[] mapSeeds; // Source des graines de carte de chaque environnement
+    private final int ticksPerStep; // Nombre de ticks joués à chaque pas
+    private final int maxTicks; // Durée maximale d'une partie, en ticks
+    private final int width; // Largeur du plateau
+    private final int height; // Hauteur du plateau
+    private final int observationSize; // Nombre de réels de l'observation d'un environnement
+    private final float[] observations; // Observations de tous les environnements
+    private final float[] rewards; // Récompense de chaque joueur de chaque environnement au dernier pas
+    private final boolean[] dones; // Indique si chaque environnement a terminé une partie au dernier pas
+    private final boolean[] aliveBefore; // Joueurs vivants avant le pas en cours
+    private final int[] shardStarts; // Premier environnement de chaque tranche, suivi du nombre d'environnements
+    private final Phaser phaser; // Début et fin de chaque pas, partagés avec les fils de calcul ; null sans fils
+    private volatile Throwable failure; // Première erreur d'une tranche au pas en cours
+    private volatile boolean closed; // Indique si les fils de calcul doivent s'arrêter
+    private int[] actions; // Actions du pas en cours
+
+    /**
+     * Constructeur pour créer un lot d'environnements.
+     *
+     * @param envCount Le nombre d'environnements.
+     * @param threads Le nombre de fils de calcul ; 1 pour tout calculer sur le fil appelant.
+     * @param ticksPerStep Le nombre de ticks joués à chaque pas.
+     * @param maxTicks La durée maximale d'une partie, en ticks, au-delà de laquelle elle est recommencée.
+     * @param seed La graine des cartes.
+     */
+    public VectorEnv(int envCount, int threads, int ticksPerStep, int maxTicks, long seed) {
+        this.ticksPerStep = ticksPerStep;
+        this.maxTicks = maxTicks;
+        this.width = GameConstants.BOARD_WIDTH;
+        this.height = GameConstants.BOARD_HEIGHT;
+        this.observationSize = CHANNELS * width * height;
+        this.games = new Game[envCount];
+        this.mapSeeds = new SplittableRandom[envCount];
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int e = 0; e < envCount; e++) {
+            // Tous les joueurs sont « humains » : aucun bot ne joue à la place des actions reçues
+            games[e] = new Game(GameConstants.MAX_PLAYERS, GameConstants.MAX_PLAYERS, GameListener.NONE, new GameClock());
+            mapSeeds[e] = root.split();
+        }
+        this.observations = new float[envCount * observationSize];
+        this.rewards = new float[envCount * GameConstants.MAX_PLAYERS];
+        this.dones = new boolean[envCount];
+        this.aliveBefore = new boolean[envCount * GameConstants.MAX_PLAYERS];
+
+        int shardCount = Math.max(1, Math.min(threads, envCount));
+        this.shardStarts = new int[shardCount + 1];
+        for (int s = 0; s <= shardCount; s++) {
+            shardStarts[s] = (int) ((long) envCount * s / shardCount);
+        }
+        // La première tranche est calculée par le fil appelant, les autres par un fil chacune
+        this.phaser = shardCount > 1 ? new Phaser(shardCount) : null;
+        for (int s = 1; s < shardCount; s++) {
+            int shard = s;
+            Thread thread = new Thread(() -> workLoop(shard), "vector-env");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Boucle d'un fil de calcul : attend le début de chaque pas, avance sa tranche puis signale sa fin.
+     *
+     * @param shard L'indice de la tranche du fil.
+     */
+    private void workLoop(int shard) {
+        while (true) {
+            phaser.arriveAndAwaitAdvance();
+            if (closed) {
+                phaser.arriveAndDeregister();
+                return;
+            }
+            runShard(shard);
+            phaser.arriveAndAwaitAdvance();
+        }
+    }
+
+    /**
+     * Avance une tranche d'environnements en retenant sa première erreur, pour que tous les fils
+     * atteignent la fin du pas même en cas d'erreur.
+     *
+     * @param shard L'indice de la tranche.
+     */
+    private void runShard(int shard) {
+        try {
+            stepRange(shardStarts[shard], shardStarts[shard + 1]);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Recommence toutes les parties sur de nouvelles cartes.
+     *
+     * @return Les observations de tous les environnements, dans un tableau réutilisé.
+     */
+    public float[] reset() {
+        for (int e = 0; e < games.length; e++) {
+            restart(e);
+            observe(e);
+            dones[e] = false;
+        }
+        Arrays.fill(rewards, 0f);
+        return observations;
+    }
+
+    /**
+     * Avance tous les environnements d'un pas.
+     *
+     * @param actions L'action de chaque joueur de chaque environnement,
+     *                indexée par {@code env * MAX_PLAYERS + joueur}.
+     * @return Les observations après le pas, dans un tableau réutilisé.
+     * @throws IllegalArgumentException Si le nombre d'actions ne correspond pas.
+     */
+    public float[] step(int[] actions) {
+        if (actions.length != games.length * GameConstants.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Attendu " + games.length * GameConstants.MAX_PLAYERS
+                    + " actions, reçu " + actions.length);
+        }
+        if (closed) {
+            throw new IllegalStateException("Lot d'environnements fermé");
+        }
+        this.actions = actions;
+        if (phaser == null) {
+            stepRange(0, games.length);
+        } else {
+            phaser.arriveAndAwaitAdvance();
+            runShard(0);
+            phaser.arriveAndAwaitAdvance();
+            Throwable error = failure;
+            if (error != null) {
+                failure = null;
+                throw new IllegalStateException("Erreur pendant un pas", error);
+            }
+        }
+        return observations;
+    }
+
+    /**
+     * Avance d'un pas une tranche d'environnements.
+     *
+     * @param from L'indice du premier environnement.
+     * @param to L'indice de fin (exclu).
+     */
+    private void stepRange(int from, int to) {
+        for (int e = from; e < to; e++) {
+            stepEnv(e);
+        }
+    }
+
+    /**
+     * Avance un environnement d'un pas, calcule ses récompenses et le recommence s'il est terminé.
+     *
+     * @param e L'indice de l'environnement.
+     */
+    private void stepEnv(int e) {
+        Game game = games[e];
+        int playerCount = game.getTotalPlayerCount();
+        int base = e * GameConstants.MAX_PLAYERS;
+
+        for (int p = 0; p < playerCount; p++) {
+            aliveBefore[base + p] = game.getPlayer(p).isAlive();
+            rewards[base + p] = 0f;
+            int action = actions[base + p];
+            if (action == ACTION_BOMB) {
+                game.placeBomb(p);
+            } else if (action >= ACTION_MOVE && action < ACTION_BOMB) {
+                game.movePlayer(p, DIRECTIONS[action - ACTION_MOVE]);
+            }
+        }
+        for (int t = 0; t < ticksPerStep && game.isGameRunning(); t++) {
+            game.update();
+        }
+
+        for (int p = 0; p < playerCount; p++) {
+            if (aliveBefore[base + p] && !game.getPlayer(p).isAlive()) {
+                rewards[base + p] += REWARD_DEATH;
+            }
+        }
+        Player winner = game.getWinner();
+        if (!game.isGameRunning() && winner != null) {
+            rewards[base + winner.getId()] += REWARD_WIN;
+        }
+
+        dones[e] = !game.isGameRunning() || game.getClock().getTick() >= maxTicks;
+        if (dones[e]) {
+            restart(e);
+        }
+        observe(e);
+    }
+
+    /**
+     * Recommence la partie d'un environnement sur une nouvelle carte.
+     *
+     * @param e L'indice de l'environnement.
+     */
+    private void restart(int e) {
+        games[e].resetGame(GameConstants.MAX_PLAYERS, mapSeeds[e].nextLong());
+    }
+
+    /**
+     * Écrit l'observation d'un environnement dans le tableau des observations.
+     *
+     * @param e L'indice de l'environnement.
+     */
+    private void observe(int e) {
+        Game game = games[e];
+        GameBoard board = game.getBoard();
+        DangerMap danger = board.getDangerMap();
+        int plane = width * height;
+        int offset = e * observationSize;
+        float fuse = GameConstants.BOMB_TIMER;
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int cell = y * width + x;
+                byte content = board.getCell(x, y);
+                observations[offset + CHANNEL_WALL * plane + cell] = (content & GameBoard.CELL_WALL) != 0 ? 1f : 0f;
+                observations[offset + CHANNEL_DESTRUCTIBLE_WALL * plane + cell] =
+                        (content & GameBoard.CELL_DESTRUCTIBLE_WALL) != 0 ? 1f : 0f;
+                observations[offset + CHANNEL_BOMB * plane + cell] = (content & GameBoard.CELL_BOMB) != 0 ? 1f : 0f;
+                observations[offset + CHANNEL_FIRE * plane + cell] = board.isBurning(x, y) ? 1f : 0f;
+                observations[offset + CHANNEL_POWER_UP * plane + cell] = board.getPowerUpType(x, y) != null ? 1f : 0f;
+                long timeToBlast = danger.getTimeToBlast(x, y);
+                observations[offset + CHANNEL_DANGER * plane + cell] =
+                        timeToBlast == DangerMap.SAFE ? 0f : 1f - Math.min(timeToBlast, fuse) / fuse;
+                for (int p = 0; p < GameConstants.MAX_PLAYERS; p++) {
+                    observations[offset + (CHANNEL_PLAYER + p) * plane + cell] = 0f;
+                }
+            }
+        }
+
+        for (int p = 0; p < game.getTotalPlayerCount(); p++) {
+            Player player = game.getPlayer(p);
+            if (player.isAlive()) {
+                observations[offset + (CHANNEL_PLAYER + p) * plane + player.getY() * width + player.getX()] = 1f;
+            }
+        }
+    }
+
+    /**
+     * Retourne les récompenses du dernier pas, indexées par {@code env * MAX_PLAYERS + joueur}.
+     *
+     * @return Le tableau des récompenses, réutilisé d'un pas à l'autre.
+     */
+    public float[] getRewards() {
+        return rewards;
+    }
+
+    /**
+     * Indique, pour chaque environnement, si sa partie s'est terminée au dernier pas.
+     *
+     * @return Le tableau des fins de partie, réutilisé d'un pas à l'autre.
+     */
+    public boolean[] getDones() {
+        return dones;
+    }
+
+    /**
+     * Retourne le nombre d'environnements.
+     *
+     * @return Le nombre d'environnements.
+     */
+    public int getEnvCount() {
+        return games.length;
+    }
+
+    /**
+     * Retourne le nombre de réels de l'observation d'un environnement.
+     *
+     * @return {@link #CHANNELS} fois le nombre de cellules du plateau.
+     */
+    public int getObservationSize() {
+        return observationSize;
+    }
+
+    /**
+     * Retourne la partie d'un environnement, par exemple pour l'afficher.
+     * Elle ne doit pas être modifiée pendant un pas.
+     *
+     * @param e L'indice de l'environnement.
+     * @return La partie.
+     */
+    public Game getGame(int e) {
+        return games[e];
+    }
+
+    /**
+     * Arrête les fils de calcul.
+     */
+    public void close() {
+        if (phaser != null && !closed) {
+            closed = true;
+            phaser.arriveAndDeregister();
+        }
+    }
+}
@@ -15,6 +15,9 @@ public class GameConstants {
     /** Taille d'une cellule du plateau en pixels. */
     public static final int CELL_SIZE = 40;
 
+    /** Nombre de ticks de simulation par seconde de jeu (une mise à jour par image à 60 FPS). */
+    public static final int TICKS_PER_SECOND = 60;
+
     /** Temps en millisecondes avant qu'une bombe n'explose. */
     public static final int BOMB_TIMER = 3000; // 3 secondes
 
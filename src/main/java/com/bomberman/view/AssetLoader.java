@@ -0,0 +1,59 @@
+package com.bomberman.view;
+
+import javafx.scene.image.Image;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Chargement des images en arrière-plan, hors du fil JavaFX.
+ * Les chargements sont confiés à un petit groupe de fils démons partagé par toute l'application ;
+ * chacun rend un {@link CompletableFuture} dont le résultat doit être appliqué à l'interface
+ * depuis le fil JavaFX, par exemple avec {@code thenAcceptAsync(..., Platform::runLater)}.
+ */
+public final class AssetLoader {
+
+    private static final int THREADS = 2; // Nombre de fils de chargement
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, task -> {
+        Thread thread = new Thread(task, "chargement-images");
+        thread.setDaemon(true);
+        return thread;
+    }); // Fils de chargement, qui n'empêchent pas l'application de se fermer
+
+    /**
+     * Constructeur privé : classe utilitaire.
+     */
+    private AssetLoader() {
+    }
+
+    /**
+     * Lance un chargement en arrière-plan.
+     *
+     * @param task Le chargement à effectuer.
+     * @param <T> Le type du résultat.
+     * @return Le résultat à venir du chargement.
+     */
+    public static <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, EXECUTOR);
+    }
+
+    /**
+     * Décode une image en arrière-plan, réduite dès le décodage pour tenir dans une taille donnée.
+     *
+     * @param url L'URL de l'image.
+     * @param width La largeur maximale de l'image.
+     * @param height La hauteur maximale de l'image.
+     * @return L'image à venir, qui échoue si l'image est illisible.
+     */
+    public static CompletableFuture<Image> loadImage(String url, double width, double height) {
+        return submit(() -> {
+            Image image = new Image(url, width, height, true, true, false);
+            if (image.isError()) {
+                throw new IllegalArgumentException("Image illisible : " + url, image.getException());
+            }
+            return image;
+        });
+    }
+}
@@ -4,30 +4,48 @@ import com.bomberman.controller.AvatarController;
 import com.bomberman.model.*;
 import com.bomberman.util.GameConstants;
 import com.bomberman.util.Position;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.prefs.Preferences;
 
 /**
  * Classe responsable de l'affichage du jeu Bomberman.
  * Gère le rendu graphique du jeu, y compris les joueurs, les murs, les bombes, les explosions et les bonus.
+ * <p>
+ * Le fond, la grille et les murs indestructibles ne changent pas pendant la vie d'un plateau : ils sont dessinés
+ * une fois dans une image hors écran, recopiée à chaque image. Les murs destructibles ont leur propre image,
+ * redessinée seulement quand la révision des murs du plateau change.
+ * <p>
+ * Le canevas n'est entièrement redessiné que pour un nouveau plateau. Ensuite, seules les cellules signalées
+ * comme changées par le plateau (murs, bombes, bonus, flammes, joueurs) et les bombes qui clignotent
+ * sont redessinées, de sorte que le coût d'une image suit l'activité de la partie et non la taille du plateau.
+ * <p>
+ * Le pack de textures est chargé en arrière-plan : tant qu'il ne l'est pas, le jeu est dessiné avec les formes
+ * de repli et une barre de progression, puis entièrement redessiné avec les images dès qu'elles sont prêtes.
  */
 public class GameView {
     private Canvas canvas; // Le canevas sur lequel le jeu est dessiné
     private GraphicsContext gc; // Le contexte graphique pour dessiner sur le canevas
-    private Map<Integer, Image> PlayerImage; // Images des joueurs
-    private Image wallImages; // Image des murs indestructibles
-    private Image wallDestructible; // Image des murs destructibles
-    private Image bomb; // Image des bombes
-    private Map<Explosion.ExplosionType, Image> explosionImages; // Images des explosions
-    private Map<PowerUp.Type, Image> bonusImages; // Images des bonus
+    private static final Map<Explosion.ExplosionType, Sprite> EXPLOSION_SPRITES = explosionSprites(); // Image de chaque type de flamme
+    private static final Map<PowerUp.Type, Sprite> BONUS_SPRITES = bonusSprites(); // Image de chaque bonus
+    private static final double PROGRESS_HEIGHT = 8; // Hauteur de la barre de chargement du pack
+    private TextureAtlas atlas; // Images du pack de textures utilisé, partagées entre les parties
+    private CompletableFuture<TextureAtlas> pendingAtlas; // Atlas en cours de chargement, null une fois affiché
     private Texture texture; // Pack de textures utilisé
+    private final SnapshotParameters layerParameters = new SnapshotParameters(); // Paramètres de capture des calques
+    private Canvas wallCanvas; // Canevas hors écran sur lequel les murs destructibles sont redessinés
+    private WritableImage staticLayer; // Fond, grille et murs indestructibles du plateau affiché
+    private WritableImage wallLayer; // Murs destructibles du plateau affiché
+    private GameBoard layerBoard; // Plateau dont les calques ont été dessinés
+    private long layerWallRevision; // Révision des murs du calque des murs destructibles
 
     /**
      * Constructeur pour initialiser la vue du jeu.
@@ -42,284 +60,337 @@ public class GameView {
         canvas.setWidth(GameConstants.BOARD_WIDTH * GameConstants.CELL_SIZE);
         canvas.setHeight(GameConstants.BOARD_HEIGHT * GameConstants.CELL_SIZE);
 
-        // Charger le pack de textures
-        loadSelectTexturePack();
-        loadAllImage();
+        // Calques transparents là où rien n'est dessiné
+        layerParameters.setFill(Color.TRANSPARENT);
+
+        // Charger le pack de textures en arrière-plan, décodé une seule fois par processus
+        texture = selectedTexturePack();
+        atlas = TextureAtlas.EMPTY;
+        pendingAtlas = TextureCache.load(texture);
+    }
+
+    /**
+     * Associe chaque type de flamme à son image.
+     *
+     * @return Les images des flammes.
+     */
+    private static Map<Explosion.ExplosionType, Sprite> explosionSprites() {
+        Map<Explosion.ExplosionType, Sprite> sprites = new EnumMap<>(Explosion.ExplosionType.class);
+        sprites.put(Explosion.ExplosionType.CENTER, Sprite.EXPLOSION_CENTER);
+        // Les fichiers des branches sont nommés d'après l'orientation du dessin, inverse de celle de la branche
+        sprites.put(Explosion.ExplosionType.VERTICAL, Sprite.EXPLOSION_HORIZONTAL);
+        sprites.put(Explosion.ExplosionType.HORIZONTAL, Sprite.EXPLOSION_VERTICAL);
+        sprites.put(Explosion.ExplosionType.END, Sprite.EXPLOSION_END);
+        return sprites;
+    }
+
+    /**
+     * Associe chaque type de bonus à son image.
+     *
+     * @return Les images des bonus.
+     */
+    private static Map<PowerUp.Type, Sprite> bonusSprites() {
+        Map<PowerUp.Type, Sprite> sprites = new EnumMap<>(PowerUp.Type.class);
+        sprites.put(PowerUp.Type.EXTRA_BOMB, Sprite.BONUS_EXTRA_BOMB);
+        sprites.put(PowerUp.Type.BIGGER_EXPLOSION, Sprite.BONUS_BIGGER_EXPLOSION);
+        return sprites;
     }
 
     /**
-     * Charge le pack de textures sélectionné à partir des préférences utilisateur.
+     * Retourne le pack de textures sélectionné dans les préférences utilisateur.
+     *
+     * @return Le pack de textures sélectionné, ou celui par défaut s'il est inconnu.
      */
-    private void loadSelectTexturePack() {
+    public static Texture selectedTexturePack() {
         Preferences texturePrefs = Preferences.userRoot().node(AvatarController.class.getName());
         String textureName = texturePrefs.get(AvatarController.TEXTURE_PACK_KEY, "defaut");
         System.out.println("Nom de la texture chargée depuis les préférences : " + textureName);
 
+        Texture texture;
         if ("defaut".equals(textureName)) {
-            this.texture = new Texture("defaut", "/image/defaut/");
+            texture = new Texture("defaut", "/image/defaut/");
             System.out.println("Utilisation du pack de textures par défaut");
         } else if ("mario".equals(textureName)) {
-            this.texture = new Texture("mario", "/image/mario/");
+            texture = new Texture("mario", "/image/mario/");
             System.out.println("Utilisation du pack de textures Mario");
         } else {
-            this.texture = new Texture("defaut", "/image/defaut/");
+            texture = new Texture("defaut", "/image/defaut/");
             System.out.println("Texture inconnue, retour au pack de textures par défaut : " + textureName);
         }
 
-        System.out.println("Chemin final de la texture : " + this.texture.getPath());
+        System.out.println("Chemin final de la texture : " + texture.getPath());
+        return texture;
     }
 
     /**
-     * Charge toutes les images nécessaires pour le jeu.
+     * Affiche le jeu sur le canevas.
+     *
+     * @param game L'état actuel du jeu à afficher.
      */
-    private void loadAllImage() {
-        loadPlayerImage();
-        loadWallImage();
-        loadbombImage();
-        loadExplosionImages();
-        loadBonus();
-    }
+    public void render(Game game) {
+        GameBoard board = game.getBoard();
+        if (pendingAtlas != null && pendingAtlas.isDone()) {
+            // Pack chargé : redessiner les calques et tout le canevas avec ses images
+            atlas = pendingAtlas.join();
+            pendingAtlas = null;
+            layerBoard = null;
+        }
+        boolean full = updateLayers(board);
+
+        if (full) {
+            // Nouveau plateau : recopier le plateau de base et les murs, qui couvrent tout le canevas
+            gc.drawImage(staticLayer, 0, 0);
+            gc.drawImage(wallLayer, 0, 0);
+            drawPowerUps(board);
+            List<Bomb> bombs = board.getBombView();
+            for (int i = 0; i < bombs.size(); i++) {
+                drawBomb(board, bombs.get(i));
+            }
+        } else {
+            // Les bombes qui clignotent changent d'aspect sans que le plateau le signale
+            markBlinkingBombs(board);
+            for (int cell = board.nextChangedCell(0); cell >= 0; cell = board.nextChangedCell(cell + 1)) {
+                drawCell(board, cell % board.getWidth(), cell / board.getWidth());
+            }
+        }
 
-    /**
-     * Charge les images des joueurs.
-     */
-    private void loadPlayerImage() {
-        PlayerImage = new HashMap<>();
-        try {
-            PlayerImage.put(0, new Image(getClass().getResourceAsStream(texture.getPath() + "player1.png")));
-            PlayerImage.put(1, new Image(getClass().getResourceAsStream(texture.getPath() + "player2.png")));
-            PlayerImage.put(2, new Image(getClass().getResourceAsStream(texture.getPath() + "player3.png")));
-            PlayerImage.put(3, new Image(getClass().getResourceAsStream(texture.getPath() + "player4.png")));
-        } catch (Exception e) {
-            System.err.println("Erreur lors du chargement des images des joueurs");
+        // Dessiner les explosions
+        drawExplosions(board, full);
+
+        // Dessiner les joueurs
+        drawPlayers(game.getPlayers(), board, full);
+
+        if (pendingAtlas != null) {
+            drawLoadingProgress();
         }
+
+        board.clearChangedCells();
     }
 
     /**
-     * Charge les images des murs.
+     * Dessine la barre de progression du chargement du pack de textures, en bas du canevas.
      */
-    private void loadWallImage() {
-        try {
-            wallImages = new Image(getClass().getResourceAsStream(texture.getPath() + "wall.png"));
-            wallDestructible = new Image(getClass().getResourceAsStream(texture.getPath() + "destructible_wall.png"));
-        } catch (Exception e) {
-            System.err.println("Erreur lors du chargement des images de murs: " + e.getMessage());
-        }
+    private void drawLoadingProgress() {
+        double width = canvas.getWidth() / 3;
+        double x = (canvas.getWidth() - width) / 2;
+        double y = canvas.getHeight() - 2 * PROGRESS_HEIGHT;
+        gc.setFill(Color.BLACK);
+        gc.fillRect(x, y, width, PROGRESS_HEIGHT);
+        gc.setFill(Color.WHITE);
+        gc.fillRect(x + 1, y + 1, (width - 2) * TextureCache.getProgress(texture), PROGRESS_HEIGHT - 2);
     }
 
     /**
-     * Charge l'image des bombes.
+     * Redessine entièrement une cellule : fond, mur, bonus et bombe.
+     * Les flammes et les joueurs sont dessinés ensuite, par-dessus toutes les cellules.
+     *
+     * @param board Le plateau de jeu.
+     * @param x La coordonnée x de la cellule.
+     * @param y La coordonnée y de la cellule.
      */
-    private void loadbombImage() {
-        try {
-            bomb = new Image(getClass().getResourceAsStream(texture.getPath() + "bomb.png"));
-        } catch (Exception e) {
-            System.err.println("Erreur lors du chargement de l'image de la bombe");
+    private void drawCell(GameBoard board, int x, int y) {
+        int px = x * GameConstants.CELL_SIZE;
+        int py = y * GameConstants.CELL_SIZE;
+        int size = GameConstants.CELL_SIZE;
+        gc.drawImage(staticLayer, px, py, size, size, px, py, size, size);
+        if (board.hasDestructibleWall(x, y)) {
+            gc.drawImage(wallLayer, px, py, size, size, px, py, size, size);
         }
-    }
 
-    /**
-     * Charge les images des explosions.
-     */
-    private void loadExplosionImages() {
-        explosionImages = new HashMap<>();
-        try {
-            explosionImages.put(Explosion.ExplosionType.CENTER,
-                    new Image(getClass().getResourceAsStream(texture.getPath() + "explosion_centre.png")));
-            explosionImages.put(Explosion.ExplosionType.VERTICAL,
-                    new Image(getClass().getResourceAsStream(texture.getPath() + "explosion_horizontal.png")));
-            explosionImages.put(Explosion.ExplosionType.HORIZONTAL,
-                    new Image(getClass().getResourceAsStream(texture.getPath() + "explosion_vertical.png")));
-            explosionImages.put(Explosion.ExplosionType.END,
-                    new Image(getClass().getResourceAsStream(texture.getPath() + "explosion_end.png")));
-        } catch (Exception e) {
-            System.err.println("Erreur lors du chargement des images d'explosion: " + e.getMessage());
+        PowerUp.Type type = board.getPowerUpType(x, y);
+        if (type != null) {
+            drawPowerUp(type, px, py);
         }
-    }
 
-    /**
-     * Charge les images des bonus.
-     */
-    private void loadBonus() {
-        bonusImages = new HashMap<>();
-        try {
-            // Charger l'image pour EXTRA_BOMB
-            bonusImages.put(PowerUp.Type.EXTRA_BOMB,
-                    new Image(getClass().getResourceAsStream(texture.getPath() + "bonusFois2.png")));
-
-            // Charger l'image pour BIGGER_EXPLOSION
-            bonusImages.put(PowerUp.Type.BIGGER_EXPLOSION,
-                    new Image(getClass().getResourceAsStream(texture.getPath() + "bonnusPlusGrand.png")));
-        } catch (Exception e) {
-            System.err.println("Erreur lors du chargement des images de bonus: " + e.getMessage());
+        Bomb bomb = board.getBomb(x, y);
+        if (bomb != null) {
+            drawBomb(board, bomb);
         }
     }
 
     /**
-     * Affiche le jeu sur le canevas.
+     * Signale comme changées les cellules des bombes qui clignotent, proches de leur explosion.
      *
-     * @param game L'état actuel du jeu à afficher.
+     * @param board Le plateau de jeu.
      */
-    public void render(Game game) {
-        clearCanvas();
-
-        GameBoard board = game.getBoard();
-
-        // Dessiner le plateau de base
-        drawBackground();
-
-        // Dessiner les murs
-        drawWalls(board);
-
-        // Dessiner les power-ups
-        drawPowerUps(board);
-
-        // Dessiner les bombes
-        drawBombs(board);
-
-        // Dessiner les explosions
-        drawExplosions(board);
-
-        // Dessiner les joueurs
-        drawPlayers(game.getPlayers());
+    private void markBlinkingBombs(GameBoard board) {
+        List<Bomb> bombs = board.getBombView();
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb bomb = bombs.get(i);
+            if (bomb.getTimeLeft() < 1000) {
+                board.markCellChanged(bomb.getX(), bomb.getY());
+            }
+        }
     }
 
     /**
-     * Efface le canevas.
+     * Redessine les calques du plateau s'ils ne correspondent plus au plateau affiché :
+     * tous les calques pour un nouveau plateau, seulement celui des murs destructibles après un mur détruit.
+     *
+     * @param board Le plateau de jeu affiché.
+     * @return true si le plateau est nouveau et doit être entièrement redessiné, false sinon.
      */
-    private void clearCanvas() {
-        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    private boolean updateLayers(GameBoard board) {
+        if (board != layerBoard) {
+            double width = board.getWidth() * GameConstants.CELL_SIZE;
+            double height = board.getHeight() * GameConstants.CELL_SIZE;
+            Canvas staticCanvas = new Canvas(width, height);
+            GraphicsContext layer = staticCanvas.getGraphicsContext2D();
+            drawBackground(layer, width, height);
+            drawWalls(layer, board, GameBoard.CELL_WALL);
+            staticLayer = staticCanvas.snapshot(layerParameters, null);
+
+            wallCanvas = new Canvas(width, height);
+            wallLayer = null;
+            layerBoard = board;
+        } else if (board.getWallRevision() == layerWallRevision) {
+            return false;
+        }
+
+        boolean full = wallLayer == null;
+        GraphicsContext layer = wallCanvas.getGraphicsContext2D();
+        layer.clearRect(0, 0, wallCanvas.getWidth(), wallCanvas.getHeight());
+        drawWalls(layer, board, GameBoard.CELL_DESTRUCTIBLE_WALL);
+        wallLayer = wallCanvas.snapshot(layerParameters, wallLayer);
+        layerWallRevision = board.getWallRevision();
+        return full;
     }
 
     /**
      * Dessine l'arrière-plan du plateau de jeu.
+     *
+     * @param layer Le contexte graphique du calque.
+     * @param width La largeur du plateau en pixels.
+     * @param height La hauteur du plateau en pixels.
      */
-    private void drawBackground() {
-        gc.setFill(Color.DARKGREEN);
-        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    private void drawBackground(GraphicsContext layer, double width, double height) {
+        layer.setFill(Color.DARKGREEN);
+        layer.fillRect(0, 0, width, height);
 
         // Grille
-        gc.setStroke(Color.DARKGREEN);
-        gc.setLineWidth(0.5);
+        layer.setStroke(Color.DARKGREEN);
+        layer.setLineWidth(0.5);
 
-        for (int x = 0; x <= GameConstants.BOARD_WIDTH; x++) {
-            gc.strokeLine(x * GameConstants.CELL_SIZE, 0, x * GameConstants.CELL_SIZE, canvas.getHeight());
+        for (int x = 0; x * GameConstants.CELL_SIZE <= width; x++) {
+            layer.strokeLine(x * GameConstants.CELL_SIZE, 0, x * GameConstants.CELL_SIZE, height);
         }
-        for (int y = 0; y <= GameConstants.BOARD_HEIGHT; y++) {
-            gc.strokeLine(0, y * GameConstants.CELL_SIZE, canvas.getWidth(), y * GameConstants.CELL_SIZE);
+        for (int y = 0; y * GameConstants.CELL_SIZE <= height; y++) {
+            layer.strokeLine(0, y * GameConstants.CELL_SIZE, width, y * GameConstants.CELL_SIZE);
         }
     }
 
     /**
-     * Dessine les murs sur le plateau de jeu.
+     * Dessine les murs d'un type donné en lisant directement les cellules du plateau.
      *
+     * @param layer Le contexte graphique du calque.
      * @param board Le plateau de jeu contenant les murs.
+     * @param wallBit Le bit du type de mur à dessiner ({@link GameBoard#CELL_WALL} ou
+     *                {@link GameBoard#CELL_DESTRUCTIBLE_WALL}).
      */
-    private void drawWalls(GameBoard board) {
-        for (int x = 0; x < GameConstants.BOARD_WIDTH; x++) {
-            for (int y = 0; y < GameConstants.BOARD_HEIGHT; y++) {
-                Wall wall = board.getWall(new Position(x, y));
-                if (wall != null) {
-                    Image wallImage = wall.isDestructible() ? wallDestructible : wallImages;
-
-                    if (wallImage != null && !wallImage.isError()) {
-                        gc.drawImage(wallImage,
-                                x * GameConstants.CELL_SIZE,
-                                y * GameConstants.CELL_SIZE,
-                                GameConstants.CELL_SIZE,
-                                GameConstants.CELL_SIZE);
-                    } else {
-                        // Solution de repli : rectangles colorés
-                        if (wall.isDestructible()) {
-                            gc.setFill(Color.BROWN);
-                        } else {
-                            gc.setFill(Color.GRAY);
-                        }
-                        gc.fillRect(x * GameConstants.CELL_SIZE, y * GameConstants.CELL_SIZE,
-                                GameConstants.CELL_SIZE, GameConstants.CELL_SIZE);
-
-                        // Bordure
-                        gc.setStroke(Color.BLACK);
-                        gc.setLineWidth(1);
-                        gc.strokeRect(x * GameConstants.CELL_SIZE, y * GameConstants.CELL_SIZE,
-                                GameConstants.CELL_SIZE, GameConstants.CELL_SIZE);
-                    }
+    private void drawWalls(GraphicsContext layer, GameBoard board, byte wallBit) {
+        boolean destructible = wallBit == GameBoard.CELL_DESTRUCTIBLE_WALL;
+        Sprite sprite = destructible ? Sprite.DESTRUCTIBLE_WALL : Sprite.WALL;
+        boolean useImage = atlas.contains(sprite);
+
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                if ((board.getCell(x, y) & wallBit) == 0) continue;
+
+                if (useImage) {
+                    atlas.draw(layer, sprite, x * GameConstants.CELL_SIZE, y * GameConstants.CELL_SIZE);
+                } else {
+                    // Solution de repli : rectangles colorés
+                    layer.setFill(destructible ? Color.BROWN : Color.GRAY);
+                    layer.fillRect(x * GameConstants.CELL_SIZE, y * GameConstants.CELL_SIZE,
+                            GameConstants.CELL_SIZE, GameConstants.CELL_SIZE);
+
+                    // Bordure
+                    layer.setStroke(Color.BLACK);
+                    layer.setLineWidth(1);
+                    layer.strokeRect(x * GameConstants.CELL_SIZE, y * GameConstants.CELL_SIZE,
+                            GameConstants.CELL_SIZE, GameConstants.CELL_SIZE);
                 }
             }
         }
     }
 
     /**
-     * Dessine les bonus sur le plateau de jeu.
+     * Dessine tous les bonus du plateau de jeu.
      *
      * @param board Le plateau de jeu contenant les bonus.
      */
     private void drawPowerUps(GameBoard board) {
         for (PowerUp powerUp : board.getPowerUps()) {
             Position pos = powerUp.getPosition();
-            int x = pos.getX() * GameConstants.CELL_SIZE;
-            int y = pos.getY() * GameConstants.CELL_SIZE;
+            drawPowerUp(powerUp.getType(), pos.getX() * GameConstants.CELL_SIZE, pos.getY() * GameConstants.CELL_SIZE);
+        }
+    }
 
-            // Essayer d'utiliser l'image correspondante
-            Image bonusImage = bonusImages.get(powerUp.getType());
+    /**
+     * Dessine un bonus.
+     *
+     * @param type Le type du bonus.
+     * @param x L'abscisse de la cellule en pixels.
+     * @param y L'ordonnée de la cellule en pixels.
+     */
+    private void drawPowerUp(PowerUp.Type type, int x, int y) {
+        // Essayer d'utiliser l'image correspondante
+        Sprite sprite = BONUS_SPRITES.get(type);
 
-            if (bonusImage != null && !bonusImage.isError()) {
-                // Dessiner l'image du bonus
-                gc.drawImage(bonusImage, x, y, GameConstants.CELL_SIZE, GameConstants.CELL_SIZE);
-            } else {
-                // Solution de repli : dessiner avec des couleurs
-                switch (powerUp.getType()) {
-                    case EXTRA_BOMB:
-                        gc.setFill(Color.ORANGE);
-                        break;
-                    case BIGGER_EXPLOSION:
-                        gc.setFill(Color.RED);
-                        break;
-                }
+        if (atlas.contains(sprite)) {
+            // Dessiner l'image du bonus
+            atlas.draw(gc, sprite, x, y);
+        } else {
+            // Solution de repli : dessiner avec des couleurs
+            switch (type) {
+                case EXTRA_BOMB:
+                    gc.setFill(Color.ORANGE);
+                    break;
+                case BIGGER_EXPLOSION:
+                    gc.setFill(Color.RED);
+                    break;
+            }
 
-                gc.fillOval(x + 5, y + 5, GameConstants.CELL_SIZE - 10, GameConstants.CELL_SIZE - 10);
+            gc.fillOval(x + 5, y + 5, GameConstants.CELL_SIZE - 10, GameConstants.CELL_SIZE - 10);
 
-                // Symbole
-                gc.setFill(Color.WHITE);
-                gc.setFont(javafx.scene.text.Font.font(16));
-                String symbol = switch (powerUp.getType()) {
-                    case EXTRA_BOMB -> "B";
-                    case BIGGER_EXPLOSION -> "E";
-                };
-                gc.fillText(symbol, x + GameConstants.CELL_SIZE / 2 - 5, y + GameConstants.CELL_SIZE / 2 + 5);
-            }
+            // Symbole
+            gc.setFill(Color.WHITE);
+            gc.setFont(javafx.scene.text.Font.font(16));
+            String symbol = switch (type) {
+                case EXTRA_BOMB -> "B";
+                case BIGGER_EXPLOSION -> "E";
+            };
+            gc.fillText(symbol, x + GameConstants.CELL_SIZE / 2 - 5, y + GameConstants.CELL_SIZE / 2 + 5);
         }
     }
 
     /**
-     * Dessine les bombes sur le plateau de jeu.
+     * Dessine une bombe, sauf pendant la phase éteinte de son clignotement.
      *
-     * @param board Le plateau de jeu contenant les bombes.
+     * @param board Le plateau de jeu, dont l'horloge rythme le clignotement.
+     * @param bomb La bombe à dessiner.
      */
-    private void drawBombs(GameBoard board) {
-        for (Bomb bomb : board.getBombs()) {
-            Position pos = bomb.getPosition();
-            int x = pos.getX() * GameConstants.CELL_SIZE;
-            int y = pos.getY() * GameConstants.CELL_SIZE;
-
-            // Animation de clignotement basée sur le temps restant
-            long timeLeft = bomb.getTimeLeft();
-            boolean blink = (timeLeft < 1000) && (System.currentTimeMillis() / 200) % 2 == 0;
-
-            if (!blink) {
-                if (this.bomb != null && !this.bomb.isError()) {
-                    gc.drawImage(this.bomb, x, y, GameConstants.CELL_SIZE, GameConstants.CELL_SIZE);
-                } else {
-                    // Solution de repli
-                    gc.setFill(Color.BLACK);
-                    gc.fillOval(x + 5, y + 5, GameConstants.CELL_SIZE - 10, GameConstants.CELL_SIZE - 10);
+    private void drawBomb(GameBoard board, Bomb bomb) {
+        int x = bomb.getX() * GameConstants.CELL_SIZE;
+        int y = bomb.getY() * GameConstants.CELL_SIZE;
 
-                    // Mèche
-                    gc.setStroke(Color.ORANGE);
-                    gc.setLineWidth(3);
-                    gc.strokeLine(x + GameConstants.CELL_SIZE/2, y + 5,
-                            x + GameConstants.CELL_SIZE/2, y);
-                }
+        // Animation de clignotement basée sur le temps restant
+        long timeLeft = bomb.getTimeLeft();
+        boolean blink = (timeLeft < 1000) && (board.getClock().getTimeMillis() / 200) % 2 == 0;
+
+        if (!blink) {
+            if (atlas.contains(Sprite.BOMB)) {
+                atlas.draw(gc, Sprite.BOMB, x, y);
+            } else {
+                // Solution de repli
+                gc.setFill(Color.BLACK);
+                gc.fillOval(x + 5, y + 5, GameConstants.CELL_SIZE - 10, GameConstants.CELL_SIZE - 10);
+
+                // Mèche
+                gc.setStroke(Color.ORANGE);
+                gc.setLineWidth(3);
+                gc.strokeLine(x + GameConstants.CELL_SIZE/2, y + 5,
+                        x + GameConstants.CELL_SIZE/2, y);
             }
         }
     }
@@ -328,22 +399,25 @@ public class GameView {
      * Dessine les explosions sur le plateau de jeu.
      *
      * @param board Le plateau de jeu contenant les explosions.
+     * @param full true pour dessiner toutes les cellules en flammes, false pour les seules cellules changées.
      */
-    private void drawExplosions(GameBoard board) {
-        for (Explosion explosion : board.getExplosions()) {
-            Map<Position, Explosion.ExplosionType> explosionTypes = explosion.getAllExplosionTypes();
+    private void drawExplosions(GameBoard board, boolean full) {
+        List<Explosion> explosions = board.getExplosionView();
+        for (int e = 0; e < explosions.size(); e++) {
+            Explosion explosion = explosions.get(e);
+            // Parcours des cellules calculées à partir du centre et des branches, sans table intermédiaire
+            for (int i = 0; i < explosion.size(); i++) {
+                if (!full && !board.isCellChanged(explosion.getX(i), explosion.getY(i))) continue;
 
-            for (Map.Entry<Position, Explosion.ExplosionType> entry : explosionTypes.entrySet()) {
-                Position pos = entry.getKey();
-                Explosion.ExplosionType type = entry.getValue();
+                Explosion.ExplosionType type = explosion.getType(i);
 
-                int x = pos.getX() * GameConstants.CELL_SIZE;
-                int y = pos.getY() * GameConstants.CELL_SIZE;
+                int x = explosion.getX(i) * GameConstants.CELL_SIZE;
+                int y = explosion.getY(i) * GameConstants.CELL_SIZE;
 
-                Image explosionImage = explosionImages.get(type);
+                Sprite sprite = EXPLOSION_SPRITES.get(type);
 
-                if (explosionImage != null && !explosionImage.isError()) {
-                    gc.drawImage(explosionImage, x, y, GameConstants.CELL_SIZE, GameConstants.CELL_SIZE);
+                if (atlas.contains(sprite)) {
+                    atlas.draw(gc, sprite, x, y);
                 } else {
                     // Solution de repli avec couleurs différentes selon le type
                     switch (type) {
@@ -375,19 +449,21 @@ public class GameView {
      * Dessine les joueurs sur le plateau de jeu.
      *
      * @param players La liste des joueurs à dessiner.
+     * @param board Le plateau de jeu.
+     * @param full true pour dessiner tous les joueurs, false pour ceux dont la cellule a changé.
      */
-    private void drawPlayers(List<Player> players) {
+    private void drawPlayers(List<Player> players, GameBoard board, boolean full) {
         for (Player player : players) {
             if (!player.isAlive()) continue;
+            if (!full && !board.isCellChanged(player.getX(), player.getY())) continue;
 
-            Position pos = player.getPosition();
-            int x = pos.getX() * GameConstants.CELL_SIZE;
-            int y = pos.getY() * GameConstants.CELL_SIZE;
+            int x = player.getX() * GameConstants.CELL_SIZE;
+            int y = player.getY() * GameConstants.CELL_SIZE;
 
-            // Corps du joueur
-            Image PlayerImages = PlayerImage.get(player.getId());
-            if (PlayerImages != null && !PlayerImages.isError()) {
-                gc.drawImage(PlayerImages, x + 3, y + 3, GameConstants.CELL_SIZE - 6, GameConstants.CELL_SIZE - 6);
+            // Corps du joueur, avec sa marge déjà comprise dans sa case de l'atlas
+            Sprite sprite = Sprite.player(player.getId());
+            if (atlas.contains(sprite)) {
+                atlas.draw(gc, sprite, x, y);
             } else {
                 gc.setFill(Color.web(player.getColor()));
                 gc.fillRect(x + 3, y + 3, GameConstants.CELL_SIZE - 6, GameConstants.CELL_SIZE - 6);
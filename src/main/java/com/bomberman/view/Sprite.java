@@ -0,0 +1,65 @@
+package com.bomberman.view;
+
+/**
+ * Images d'un pack de textures, chacune occupant une case de {@link com.bomberman.util.GameConstants#CELL_SIZE}
+ * pixels de côté dans l'atlas du pack.
+ */
+public enum Sprite {
+    PLAYER_1("player1.png", 3),
+    PLAYER_2("player2.png", 3),
+    PLAYER_3("player3.png", 3),
+    PLAYER_4("player4.png", 3),
+    WALL("wall.png", 0),
+    DESTRUCTIBLE_WALL("destructible_wall.png", 0),
+    BOMB("bomb.png", 0),
+    EXPLOSION_CENTER("explosion_centre.png", 0),
+    EXPLOSION_HORIZONTAL("explosion_horizontal.png", 0),
+    EXPLOSION_VERTICAL("explosion_vertical.png", 0),
+    EXPLOSION_END("explosion_end.png", 0),
+    BONUS_EXTRA_BOMB("bonusFois2.png", 0),
+    BONUS_BIGGER_EXPLOSION("bonnusPlusGrand.png", 0);
+
+    private static final Sprite[] PLAYERS = {PLAYER_1, PLAYER_2, PLAYER_3, PLAYER_4}; // Image de chaque joueur
+
+    private final String fileName; // Nom du fichier dans le dossier du pack
+    private final int inset; // Marge transparente autour de l'image dans sa case, en pixels
+
+    /**
+     * Constructeur d'une image de pack.
+     *
+     * @param fileName Le nom du fichier dans le dossier du pack.
+     * @param inset La marge transparente autour de l'image dans sa case, en pixels.
+     */
+    Sprite(String fileName, int inset) {
+        this.fileName = fileName;
+        this.inset = inset;
+    }
+
+    /**
+     * Retourne l'image d'un joueur.
+     *
+     * @param playerId L'identifiant du joueur.
+     * @return L'image du joueur, ou null si l'identifiant n'a pas d'image.
+     */
+    public static Sprite player(int playerId) {
+        return playerId >= 0 && playerId < PLAYERS.length ? PLAYERS[playerId] : null;
+    }
+
+    /**
+     * Retourne le nom du fichier de l'image dans le dossier du pack.
+     *
+     * @return Le nom du fichier.
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Retourne la marge transparente autour de l'image dans sa case.
+     *
+     * @return La marge, en pixels.
+     */
+    public int getInset() {
+        return inset;
+    }
+}
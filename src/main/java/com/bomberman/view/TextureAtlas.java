@@ -0,0 +1,187 @@
+package com.bomberman.view;
+
+import com.bomberman.model.Texture;
+import com.bomberman.util.GameConstants;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Atlas d'un pack de textures : toutes les {@link Sprite} du pack, décodées une seule fois,
+ * mises à l'échelle d'une cellule et rangées côte à côte dans une seule image.
+ * Une image est dessinée en recopiant sa case de l'atlas, sans nouvelle mise à l'échelle.
+ * <p>
+ * L'atlas préparé à la construction par l'outil {@code com.bomberman.build.AssetPipeline} est utilisé
+ * s'il est décrit par le manifeste ; sinon, par exemple depuis un environnement de développement,
+ * il est construit au chargement.
+ */
+public final class TextureAtlas {
+
+    /** Chemin du manifeste des images préparées, relatif à la racine des ressources. */
+    public static final String MANIFEST = "image/assets.properties";
+
+    /** Nom du fichier de l'atlas préparé dans le dossier de chaque pack. */
+    public static final String ATLAS_FILE = "atlas.png";
+
+    private static final Sprite[] SPRITES = Sprite.values(); // Images de l'atlas, dans l'ordre de leurs cases
+
+    /** Atlas sans aucune image, utilisé tant qu'un pack n'est pas chargé : tout est dessiné par les solutions de repli. */
+    public static final TextureAtlas EMPTY = new TextureAtlas(null, emptySlots());
+
+    private final Image image; // Image contenant toutes les cases
+    private final int[] slots; // Case de chaque image dans l'atlas, ou -1 si elle n'a pas pu être chargée
+
+    /**
+     * Constructeur privé : les atlas sont créés par {@link #load(Texture)}.
+     *
+     * @param image L'image contenant toutes les cases.
+     * @param slots La case de chaque image dans l'atlas, ou -1 si elle n'a pas pu être chargée.
+     */
+    private TextureAtlas(Image image, int[] slots) {
+        this.image = image;
+        this.slots = slots;
+    }
+
+    /**
+     * Crée une table de cases toutes vides.
+     *
+     * @return Une case -1 pour chaque image.
+     */
+    private static int[] emptySlots() {
+        int[] slots = new int[SPRITES.length];
+        Arrays.fill(slots, -1);
+        return slots;
+    }
+
+    /**
+     * Charge l'atlas d'un pack de textures : celui préparé à la construction s'il existe,
+     * sinon un atlas construit à partir des images du pack. Peut être appelée depuis n'importe quel fil.
+     *
+     * @param texture Le pack de textures.
+     * @param progress Reçoit l'avancement du chargement, entre 0 et 1, depuis le fil de chargement.
+     * @return L'atlas du pack.
+     */
+    static TextureAtlas load(Texture texture, DoubleConsumer progress) {
+        TextureAtlas prepared = loadPrepared(texture);
+        TextureAtlas atlas = prepared != null ? prepared : build(texture, progress);
+        progress.accept(1);
+        return atlas;
+    }
+
+    /**
+     * Charge l'atlas préparé à la construction pour un pack, tel que décrit par le manifeste.
+     *
+     * @param texture Le pack de textures.
+     * @return L'atlas préparé, ou null s'il n'existe pas ou ne correspond pas à la taille des cellules.
+     */
+    private static TextureAtlas loadPrepared(Texture texture) {
+        Properties manifest = new Properties();
+        try (InputStream in = TextureAtlas.class.getResourceAsStream("/" + MANIFEST)) {
+            if (in == null) return null;
+            manifest.load(in);
+        } catch (IOException e) {
+            System.err.println("Manifeste des images illisible : " + e.getMessage());
+            return null;
+        }
+
+        String path = texture.getPath().endsWith("/")
+                ? texture.getPath().substring(0, texture.getPath().length() - 1) : texture.getPath();
+        String prefix = "pack." + path.substring(path.lastIndexOf('/') + 1) + ".";
+        String atlasPath = manifest.getProperty(prefix + "atlas");
+        if (atlasPath == null
+                || !Integer.toString(GameConstants.CELL_SIZE).equals(manifest.getProperty(prefix + "cellSize"))) {
+            return null;
+        }
+
+        try (InputStream in = TextureAtlas.class.getResourceAsStream(atlasPath)) {
+            if (in == null) return null;
+            Image atlas = new Image(in);
+            if (atlas.isError()) return null;
+
+            int[] slots = new int[SPRITES.length];
+            for (Sprite sprite : SPRITES) {
+                slots[sprite.ordinal()] = Integer.parseInt(manifest.getProperty(prefix + sprite.name(), "-1"));
+            }
+            return new TextureAtlas(atlas, slots);
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Atlas préparé illisible : " + atlasPath);
+            return null;
+        }
+    }
+
+    /**
+     * Construit l'atlas d'un pack à partir de ses images.
+     * Une image absente ou illisible laisse sa case vide ; l'affichage utilise alors sa solution de repli.
+     *
+     * @param texture Le pack de textures.
+     * @param progress Reçoit l'avancement après chaque image.
+     * @return L'atlas du pack.
+     */
+    private static TextureAtlas build(Texture texture, DoubleConsumer progress) {
+        int size = GameConstants.CELL_SIZE;
+        WritableImage atlas = new WritableImage(size * SPRITES.length, size);
+        int[] slots = emptySlots();
+
+        for (Sprite sprite : SPRITES) {
+            progress.accept((double) sprite.ordinal() / SPRITES.length);
+            int inset = sprite.getInset();
+            int scaled = size - 2 * inset;
+            try (InputStream in = TextureAtlas.class.getResourceAsStream(texture.getPath() + sprite.getFileName())) {
+                if (in == null) {
+                    System.err.println("Image introuvable : " + texture.getPath() + sprite.getFileName());
+                    continue;
+                }
+                // Décodage et mise à l'échelle en une seule passe, avec lissage
+                Image decoded = new Image(in, scaled, scaled, false, true);
+                if (decoded.isError()) {
+                    System.err.println("Image illisible : " + texture.getPath() + sprite.getFileName());
+                    continue;
+                }
+                atlas.getPixelWriter().setPixels(sprite.ordinal() * size + inset, inset,
+                        (int) decoded.getWidth(), (int) decoded.getHeight(), decoded.getPixelReader(), 0, 0);
+                slots[sprite.ordinal()] = sprite.ordinal();
+            } catch (IOException e) {
+                System.err.println("Erreur lors du chargement de " + sprite.getFileName() + " : " + e.getMessage());
+            }
+        }
+        return new TextureAtlas(atlas, slots);
+    }
+
+    /**
+     * Indique si une image a pu être chargée.
+     *
+     * @param sprite L'image.
+     * @return true si l'image est disponible, false sinon.
+     */
+    public boolean contains(Sprite sprite) {
+        return sprite != null && slots[sprite.ordinal()] >= 0;
+    }
+
+    /**
+     * Dessine une image dans une cellule.
+     *
+     * @param gc Le contexte graphique.
+     * @param sprite L'image à dessiner, qui doit être disponible.
+     * @param x L'abscisse de la cellule en pixels.
+     * @param y L'ordonnée de la cellule en pixels.
+     */
+    public void draw(GraphicsContext gc, Sprite sprite, double x, double y) {
+        int size = GameConstants.CELL_SIZE;
+        gc.drawImage(image, slots[sprite.ordinal()] * size, 0, size, size, x, y, size, size);
+    }
+
+    /**
+     * Retourne l'image de l'atlas.
+     *
+     * @return L'image contenant toutes les cases, ou null pour {@link #EMPTY}.
+     */
+    public Image getImage() {
+        return image;
+    }
+}
@@ -0,0 +1,71 @@
+package com.bomberman.view;
+
+import com.bomberman.model.Texture;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache des atlas de textures, partagé par tout le processus.
+ * Chaque pack n'est décodé qu'une fois, en arrière-plan par {@link AssetLoader}, à sa première demande ;
+ * les parties suivantes réutilisent son atlas au lieu de relire et redimensionner ses images.
+ */
+public final class TextureCache {
+
+    private static final Map<String, Loading> LOADINGS = new ConcurrentHashMap<>(); // Chargement de chaque pack, par chemin
+
+    /**
+     * Chargement d'un pack : l'atlas à venir et l'avancement de son décodage.
+     */
+    private static final class Loading {
+        CompletableFuture<TextureAtlas> atlas; // Atlas à venir, jamais en échec
+        volatile double progress; // Avancement du décodage, entre 0 et 1
+    }
+
+    /**
+     * Constructeur privé : classe utilitaire.
+     */
+    private TextureCache() {
+    }
+
+    /**
+     * Retourne l'atlas d'un pack de textures, dont le chargement est lancé en arrière-plan à la première demande.
+     * En cas d'erreur, l'atlas obtenu est {@link TextureAtlas#EMPTY} et l'affichage utilise ses solutions de repli.
+     *
+     * @param texture Le pack de textures.
+     * @return L'atlas à venir du pack.
+     */
+    public static CompletableFuture<TextureAtlas> load(Texture texture) {
+        return loading(texture).atlas;
+    }
+
+    /**
+     * Retourne l'avancement du chargement d'un pack de textures.
+     *
+     * @param texture Le pack de textures.
+     * @return L'avancement, entre 0 et 1.
+     */
+    public static double getProgress(Texture texture) {
+        Loading loading = loading(texture);
+        return loading.atlas.isDone() ? 1 : loading.progress;
+    }
+
+    /**
+     * Retourne le chargement d'un pack, lancé au premier appel.
+     *
+     * @param texture Le pack de textures.
+     * @return Le chargement du pack.
+     */
+    private static Loading loading(Texture texture) {
+        return LOADINGS.computeIfAbsent(texture.getPath(), path -> {
+            Loading loading = new Loading();
+            loading.atlas = AssetLoader.submit(() -> TextureAtlas.load(texture, progress -> loading.progress = progress))
+                    .exceptionally(e -> {
+                        System.err.println("Erreur lors du chargement du pack " + texture.getNom() + " : " + e.getMessage());
+                        return TextureAtlas.EMPTY;
+                    });
+            return loading;
+        });
+    }
+}
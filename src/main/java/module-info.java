@@ -8,4 +8,14 @@ module bomberman {
     opens com.bomberman.controller to javafx.fxml;
 
     exports com.bomberman;
+    exports com.bomberman.model;
+    exports com.bomberman.util;
+
+    // Stratégies de bots découvertes par ServiceLoader
+    uses com.bomberman.model.BotStrategy;
+    provides com.bomberman.model.BotStrategy with
+            com.bomberman.model.ClassicBotStrategy,
+            com.bomberman.model.MonteCarloBotStrategy,
+            com.bomberman.model.ProfileBotStrategy,
+            com.bomberman.remote.RemoteBotStrategy;
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.bomberman.build;
+
+import com.bomberman.util.GameConstants;
+import com.bomberman.view.Sprite;
+import com.bomberman.view.TextureAtlas;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetPipelineTest {
+
+    private static void writeImage(Path file, int width, int height, int argb) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, argb);
+            }
+        }
+        Files.createDirectories(file.getParent());
+        ImageIO.write(image, "png", file.toFile());
+    }
+
+    @Test
+    void largeImagesAreDownsampledAndPacksAreAtlased(@TempDir Path dir) throws IOException {
+        Path resources = dir.resolve("resources");
+        Path output = dir.resolve("classes");
+        writeImage(resources.resolve("image/background.png"), 1536, 1024, 0xFF336699);
+        writeImage(resources.resolve("image/Avatar1.png"), 1024, 1024, 0xFFCC0000);
+        writeImage(resources.resolve("image/pack/wall.png"), 16, 16, 0xFF808080);
+        writeImage(resources.resolve("image/pack/player1.png"), 16, 24, 0xFF00CC00);
+
+        Properties manifest = AssetPipeline.run(resources, output);
+
+        BufferedImage background = ImageIO.read(output.resolve("image/background.png").toFile());
+        assertEquals(1024, background.getWidth(), "Le fond est réduit à sa taille d'affichage");
+        assertEquals(683, background.getHeight(), "Les proportions sont conservées");
+        assertEquals("300x300", manifest.getProperty("image/Avatar1.png"));
+        assertEquals(0xFFCC0000, ImageIO.read(output.resolve("image/Avatar1.png").toFile()).getRGB(150, 150));
+
+        int size = GameConstants.CELL_SIZE;
+        BufferedImage atlas = ImageIO.read(output.resolve("image/pack/" + TextureAtlas.ATLAS_FILE).toFile());
+        assertEquals(size * Sprite.values().length, atlas.getWidth());
+        assertEquals("/image/pack/atlas.png", manifest.getProperty("pack.pack.atlas"));
+        assertEquals(Integer.toString(Sprite.WALL.ordinal()), manifest.getProperty("pack.pack.WALL"));
+        assertNull(manifest.getProperty("pack.pack.BOMB"), "Une image absente n'a pas de case");
+        assertEquals(0xFF808080, atlas.getRGB(Sprite.WALL.ordinal() * size + size / 2, size / 2));
+        assertEquals(0, atlas.getRGB(Sprite.PLAYER_1.ordinal() * size, 0) >>> 24, "La marge du joueur est transparente");
+        assertTrue(Files.exists(output.resolve(TextureAtlas.MANIFEST)));
+
+        assertFalse(Files.exists(resources.resolve("image/pack/" + TextureAtlas.ATLAS_FILE)), "Les sources ne sont pas modifiées");
+        assertEquals(1536, ImageIO.read(resources.resolve("image/background.png").toFile()).getWidth());
+    }
+}
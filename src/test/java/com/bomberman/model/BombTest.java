@@ -0,0 +1,38 @@
+package com.bomberman.model;
+
+import com.bomberman.util.GameConstants;
+import com.bomberman.util.Position;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BombTest {
+
+    @Test
+    void shouldExplode() {
+        GameClock clock = new GameClock();
+        Player player = new Player(0, new Position(1, 1), "red");
+        Bomb bomb = new Bomb(player.getPosition(), player, clock);
+        long fuseTicks = GameClock.millisToTicks(GameConstants.BOMB_TIMER);
+
+        // Le temps système n'a aucune influence : seule l'horloge de jeu compte
+        clock.advance(fuseTicks - 1);
+        assertFalse(bomb.shouldExplode());
+        clock.advance();
+        assertTrue(bomb.shouldExplode());
+    }
+
+    @Test
+    void getTimeLeft() {
+        GameClock clock = new GameClock();
+        Player player = new Player(0, new Position(1, 1), "blue");
+        Bomb bomb = new Bomb(player.getPosition(), player, clock);
+        assertEquals(GameConstants.BOMB_TIMER, bomb.getTimeLeft());
+
+        clock.advance(GameConstants.TICKS_PER_SECOND);
+        assertEquals(GameConstants.BOMB_TIMER - 1000, bomb.getTimeLeft());
+
+        clock.advance(10 * GameConstants.TICKS_PER_SECOND);
+        assertEquals(0, bomb.getTimeLeft());
+    }
+}
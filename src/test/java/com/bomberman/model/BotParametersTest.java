@@ -0,0 +1,45 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotParametersTest {
+
+    @Test
+    void defaultsMatchHistoricalWeights() {
+        assertEquals(100, BotParameters.DEFAULTS.get(BotParameters.Key.ESCAPE_BASE));
+        assertEquals(1500, BotParameters.DEFAULTS.get(BotParameters.Key.DANGER_MILLIS));
+        assertEquals(BotParameters.DEFAULTS, BotParameters.fromProperties(new Properties()),
+                "Un profil vide donne les paramètres par défaut");
+    }
+
+    @Test
+    void valuesAreClampedToBounds() {
+        double[] values = BotParameters.DEFAULTS.toArray();
+        values[BotParameters.Key.DANGER_MILLIS.ordinal()] = -50;
+        BotParameters parameters = new BotParameters(values);
+
+        assertEquals(0, parameters.get(BotParameters.Key.DANGER_MILLIS));
+        assertThrows(IllegalArgumentException.class, () -> new BotParameters(new double[1]));
+    }
+
+    @Test
+    void profileRoundTrip(@TempDir Path dir) throws Exception {
+        double[] values = BotParameters.DEFAULTS.toArray();
+        values[BotParameters.Key.OPEN_SPACE_BONUS.ordinal()] = 42.5;
+        BotParameters parameters = new BotParameters(values);
+        Path profile = dir.resolve("bot.properties");
+
+        parameters.store(profile, "test");
+        assertEquals(parameters, BotParameters.load(profile));
+
+        Properties invalid = new Properties();
+        invalid.setProperty(BotParameters.Key.ESCAPE_BASE.getProperty(), "beaucoup");
+        assertThrows(IllegalArgumentException.class, () -> BotParameters.fromProperties(invalid));
+    }
+}
@@ -0,0 +1,31 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotStrategiesTest {
+
+    @Test
+    void providersAreDiscovered() {
+        List<String> names = BotStrategies.available().stream().map(BotStrategy::getName).toList();
+
+        assertTrue(names.contains(ClassicBotStrategy.NAME), "La stratégie classique doit être découverte");
+        assertTrue(names.contains(MonteCarloBotStrategy.NAME), "La stratégie Monte Carlo doit être découverte");
+        assertThrows(IllegalArgumentException.class, () -> BotStrategies.byName("inconnue"));
+    }
+
+    @Test
+    void strategiesAreChosenPerSlot() {
+        List<BotStrategy> slots = Arrays.asList(null, BotStrategies.byName(MonteCarloBotStrategy.NAME));
+        Game game = new Game(4, 1, GameListener.NONE, new GameClock(), slots);
+
+        assertFalse(game.getPlayer(0) instanceof BotPlayer, "Le premier joueur reste humain");
+        assertInstanceOf(MonteCarloBotPlayer.class, game.getPlayer(1));
+        assertEquals(BotPlayer.class, game.getPlayer(2).getClass(), "Un emplacement absent utilise la stratégie par défaut");
+        assertEquals(BotPlayer.class, game.getPlayer(3).getClass());
+    }
+}
@@ -0,0 +1,56 @@
+package com.bomberman.model;
+
+import com.bomberman.util.GameConstants;
+import com.bomberman.util.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EscapePlannerTest {
+
+    private static final long STEP = 120;
+
+    private GameClock clock;
+    private GameBoard board;
+    private Player enemy;
+    private EscapePlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        clock = new GameClock();
+        board = new GameBoard(clock);
+        // Plateau sans murs destructibles : seuls la bordure et les piliers restent
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                board.destroyWall(x, y);
+            }
+        }
+        enemy = new Player(1, new Position(5, 5), "blue");
+        planner = new EscapePlanner();
+    }
+
+    @Test
+    void openCornerAllowsEscape() {
+        assertTrue(planner.canEscape(board, 1, 1, 2, STEP));
+    }
+
+    @Test
+    void blockedExitsPreventEscape() {
+        board.placeBomb(new Bomb(new Position(2, 1), enemy, clock));
+        board.placeBomb(new Bomb(new Position(1, 2), enemy, clock));
+        assertFalse(planner.canEscape(board, 1, 1, 2, STEP), "Le joueur est enfermé entre deux bombes");
+    }
+
+    @Test
+    void pendingFuseTriggersBombEarly() {
+        // Une bombe ennemie de grande portée atteindra la cellule de la bombe envisagée
+        enemy.setExplosionRange(4);
+        board.placeBomb(new Bomb(new Position(1, 5), enemy, clock));
+        assertTrue(planner.canEscape(board, 1, 1, 2, STEP), "Loin de l'échéance, la fuite par la droite reste possible");
+
+        // Juste avant l'échéance, la réaction en chaîne ne laisse plus le temps de fuir
+        clock.advance(GameClock.millisToTicks(GameConstants.BOMB_TIMER) - 5);
+        assertFalse(planner.canEscape(board, 1, 1, 2, STEP));
+    }
+}
@@ -0,0 +1,58 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Direction;
+import com.bomberman.util.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExplosionTest {
+
+    private Explosion crossAt(int x, int y) {
+        Explosion explosion = new Explosion(new GameClock());
+        explosion.start(x, y);
+        explosion.setArmLength(Direction.UP, 1);
+        explosion.setArmLength(Direction.DOWN, 2);
+        explosion.setArmLength(Direction.LEFT, 0);
+        explosion.setArmLength(Direction.RIGHT, 3);
+        return explosion;
+    }
+
+    @Test
+    void containsFollowsArmLengths() {
+        Explosion explosion = crossAt(5, 5);
+
+        assertTrue(explosion.contains(5, 5), "Le centre doit être touché");
+        assertTrue(explosion.contains(5, 4));
+        assertFalse(explosion.contains(5, 3), "La branche haute s'arrête à 1");
+        assertTrue(explosion.contains(5, 7));
+        assertFalse(explosion.contains(4, 5), "La branche gauche est vide");
+        assertTrue(explosion.contains(8, 5));
+        assertFalse(explosion.contains(9, 5));
+        assertFalse(explosion.contains(6, 6), "Une diagonale n'est jamais touchée");
+    }
+
+    @Test
+    void iterationMatchesContainsAndTypes() {
+        Explosion explosion = crossAt(5, 5);
+        assertEquals(7, explosion.size());
+
+        Set<Position> visited = new HashSet<>();
+        for (int i = 0; i < explosion.size(); i++) {
+            int x = explosion.getX(i);
+            int y = explosion.getY(i);
+            assertTrue(explosion.contains(x, y));
+            assertEquals(explosion.getExplosionType(x, y), explosion.getType(i));
+            visited.add(new Position(x, y));
+        }
+        assertEquals(7, visited.size(), "Chaque cellule doit être parcourue une seule fois");
+
+        assertEquals(Explosion.ExplosionType.CENTER, explosion.getExplosionType(5, 5));
+        assertEquals(Explosion.ExplosionType.VERTICAL, explosion.getExplosionType(5, 7));
+        assertEquals(Explosion.ExplosionType.HORIZONTAL, explosion.getExplosionType(7, 5));
+        assertEquals(Explosion.ExplosionType.END, explosion.getExplosionType(0, 0));
+    }
+}
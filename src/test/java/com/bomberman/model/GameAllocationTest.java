@@ -0,0 +1,73 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameAllocationTest {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final int TICKS_PER_CYCLE = 300; // Durée de la mèche et de l'explosion, avec une marge
+    private static final int CYCLES = 5; // Nombre de cycles mesurés
+
+    /**
+     * Fait exploser une bombe du joueur 0 en le mettant à l'abri derrière un pilier,
+     * et retourne le nombre d'octets alloués par les appels à update().
+     */
+    private long bombCycle(Game game) {
+        long allocated = 0;
+        game.placeBomb(0);
+        game.movePlayer(0, Direction.RIGHT);
+        game.movePlayer(0, Direction.RIGHT);
+        game.movePlayer(0, Direction.DOWN);
+
+        for (int tick = 0; tick < TICKS_PER_CYCLE; tick++) {
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            game.update();
+            allocated += THREADS.getCurrentThreadAllocatedBytes() - before;
+        }
+
+        game.movePlayer(0, Direction.UP);
+        game.movePlayer(0, Direction.LEFT);
+        game.movePlayer(0, Direction.LEFT);
+        return allocated;
+    }
+
+    @Test
+    void updateDoesNotAllocateInSteadyState() {
+        Game game = new Game(4, 4);
+        GameBoard board = game.getBoard();
+
+        // Sans murs destructibles, les explosions ne font apparaître aucun bonus
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                board.destroyWall(x, y);
+            }
+        }
+
+        // Chauffe : remplit le recyclage des explosions et les tampons
+        for (int i = 0; i < CYCLES; i++) {
+            bombCycle(game);
+        }
+
+        // Coût de la mesure elle-même, sur autant de relevés que les cycles mesurés
+        long overhead = 0;
+        for (int i = 0; i < CYCLES * TICKS_PER_CYCLE; i++) {
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            overhead += THREADS.getCurrentThreadAllocatedBytes() - before;
+        }
+
+        long allocated = 0;
+        for (int i = 0; i < CYCLES; i++) {
+            allocated += bombCycle(game);
+        }
+
+        assertTrue(game.isGameRunning());
+        assertTrue(game.getPlayer(0).isAlive());
+        assertEquals(overhead, allocated, "update() ne doit rien allouer en régime établi");
+    }
+}
@@ -0,0 +1,268 @@
+package com.bomberman.model;
+
+import com.bomberman.util.GameConstants;
+import com.bomberman.util.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameBoardTest {
+
+    @Test
+    void borderAndPillarsAreIndestructible() {
+        GameBoard board = new GameBoard();
+        assertTrue(board.hasWall(0, 0));
+        assertTrue(board.hasWall(GameConstants.BOARD_WIDTH - 1, 5));
+        assertTrue(board.hasWall(2, 2));
+        assertFalse(board.hasDestructibleWall(2, 2));
+        assertNotNull(board.getWall(new Position(2, 2)));
+
+        // Hors du plateau : considéré comme un mur, mais non destructible
+        assertTrue(board.hasWall(-1, 3));
+        assertFalse(board.canMoveTo(-1, 3));
+        assertFalse(board.hasDestructibleWall(-1, 3));
+    }
+
+    @Test
+    void startAreaIsFree() {
+        GameBoard board = new GameBoard();
+        assertTrue(board.canMoveTo(1, 1));
+        assertTrue(board.canMoveTo(2, 1));
+        assertTrue(board.canMoveTo(1, 2));
+        assertNull(board.getWall(new Position(1, 1)));
+    }
+
+    @Test
+    void placeAndRemoveBomb() {
+        GameBoard board = new GameBoard();
+        Player player = new Player(0, new Position(1, 1), "red");
+        Bomb bomb = new Bomb(player.getPosition(), player, board.getClock());
+
+        board.placeBomb(bomb);
+        assertTrue(board.hasBomb(new Position(1, 1)));
+        assertFalse(board.canMoveTo(1, 1));
+        assertSame(bomb, board.getBomb(1, 1));
+        assertEquals(1, board.getBombs().size());
+
+        board.removeBomb(new Position(1, 1));
+        assertFalse(board.hasBomb(1, 1));
+        assertTrue(board.canMoveTo(1, 1));
+        assertTrue(board.getBombs().isEmpty());
+    }
+
+    @Test
+    void destroyWallOnlyAffectsDestructibleWalls() {
+        GameBoard board = new GameBoard();
+        board.destroyWall(2, 2);
+        assertTrue(board.hasWall(2, 2));
+
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                if (board.hasDestructibleWall(x, y)) {
+                    board.destroyWall(x, y);
+                    assertFalse(board.hasWall(x, y));
+                    assertTrue(board.canMoveTo(x, y));
+                }
+            }
+        }
+
+        // Chaque bonus laissé peut être ramassé une seule fois
+        for (PowerUp powerUp : board.getPowerUps()) {
+            Position pos = powerUp.getPosition();
+            assertEquals(powerUp.getType(), board.getPowerUp(pos).getType());
+            assertNull(board.getPowerUp(pos));
+        }
+        assertTrue(board.getPowerUps().isEmpty());
+    }
+
+    @Test
+    void overlappingExplosionsBurnUntilTheLatestEnd() {
+        GameBoard board = new GameBoard();
+        GameClock clock = board.getClock();
+        board.addExplosion(new Explosion(List.of(new Position(1, 1), new Position(2, 1)), new Position(1, 1), clock));
+        clock.advance(10);
+        board.addExplosion(new Explosion(List.of(new Position(2, 1), new Position(3, 1)), new Position(3, 1), clock));
+
+        long duration = GameClock.millisToTicks(GameConstants.EXPLOSION_DURATION);
+        assertTrue(board.isBurning(1, 1));
+        assertTrue(board.isBurning(new Position(2, 1)));
+        assertFalse(board.isBurning(1, 2));
+
+        clock.advance(duration - 10);
+        board.removeFinishedExplosions();
+        assertFalse(board.isBurning(1, 1));
+        assertTrue(board.isBurning(2, 1));
+        assertEquals(1, board.getExplosions().size());
+
+        clock.advance(10);
+        board.removeFinishedExplosions();
+        assertFalse(board.isBurning(2, 1));
+        assertFalse(board.isBurning(3, 1));
+        assertTrue(board.getExplosions().isEmpty());
+    }
+
+    @Test
+    void dangerMapFollowsChainReactions() {
+        GameClock clock = new GameClock();
+        GameBoard board = new GameBoard(clock);
+        Player player = new Player(0, new Position(1, 1), "red");
+        board.placeBomb(new Bomb(new Position(1, 1), player, clock));
+        long firstTick = clock.getTick() + GameClock.millisToTicks(GameConstants.BOMB_TIMER);
+        clock.advance(GameConstants.TICKS_PER_SECOND);
+        board.placeBomb(new Bomb(new Position(2, 1), player, clock));
+
+        DangerMap danger = board.getDangerMap();
+        assertEquals(firstTick, danger.getBlastTick(1, 1));
+        assertEquals(firstTick, danger.getBlastTick(2, 1));
+        assertEquals(firstTick, danger.getBlastTick(3, 1), "La seconde bombe explose avec la première");
+        assertEquals(firstTick, danger.getBlastTick(1, 3));
+        assertEquals(DangerMap.SAFE, danger.getBlastTick(2, 3), "Le pilier protège la cellule");
+
+        // Sans la première bombe, la seconde explose à la fin de sa propre mèche
+        board.removeBomb(1, 1);
+        assertEquals(firstTick + GameConstants.TICKS_PER_SECOND, board.getDangerMap().getBlastTick(3, 1));
+        assertEquals(DangerMap.SAFE, board.getDangerMap().getBlastTick(1, 3));
+    }
+
+    @Test
+    void dangerMapFollowsLongChainsPlacedInReverse() {
+        GameClock clock = new GameClock();
+        GameBoard board = new GameBoard(clock, 1L);
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                board.destroyWall(x, y);
+            }
+        }
+        Player player = new Player(0, new Position(1, 1), "red");
+        // La bombe la plus à droite est posée la première : chaque autre bombe est rattrapée par la chaîne
+        long firstTick = clock.getTick() + GameClock.millisToTicks(GameConstants.BOMB_TIMER);
+        for (int x = 13; x >= 1; x -= 2) {
+            board.placeBomb(new Bomb(new Position(x, 1), player, clock));
+            clock.advance(1);
+        }
+        long loneTick = clock.getTick() + GameClock.millisToTicks(GameConstants.BOMB_TIMER);
+        board.placeBomb(new Bomb(new Position(1, 5), player, clock));
+
+        DangerMap danger = board.getDangerMap();
+        for (int x = 1; x <= 13; x++) {
+            assertEquals(firstTick, danger.getBlastTick(x, 1), "Toute la rangée explose avec la première bombe");
+        }
+        assertEquals(loneTick, danger.getBlastTick(3, 5), "La bombe isolée garde son propre tick");
+        assertEquals(firstTick, danger.getBlastTick(1, 3));
+    }
+
+    @Test
+    void bombViewFollowsBoardWithoutCopying() {
+        GameClock clock = new GameClock();
+        GameBoard board = new GameBoard(clock);
+        Player player = new Player(0, new Position(1, 1), "red");
+        List<Bomb> view = board.getBombView();
+        assertSame(view, board.getBombView(), "La vue est créée une seule fois");
+
+        board.placeBomb(new Bomb(new Position(1, 1), player, clock));
+        assertEquals(1, view.size(), "La vue suit les bombes posées");
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+
+        board.removeBomb(1, 1);
+        assertTrue(view.isEmpty(), "La vue suit les bombes retirées");
+    }
+
+    @Test
+    void copyIsIndependentOfOriginal() {
+        GameClock clock = new GameClock();
+        GameBoard board = new GameBoard(clock);
+        Player player = new Player(0, new Position(1, 1), "red");
+        board.placeBomb(new Bomb(new Position(1, 1), player, clock));
+
+        List<Player> copiedPlayers = List.of(new Player(player));
+        GameBoard copy = new GameBoard(board, new GameClock(clock.getTick()), copiedPlayers,
+                new SplittableRandom(1L));
+        assertTrue(copy.hasBomb(1, 1));
+        assertSame(copiedPlayers.get(0), copy.getBomb(1, 1).getOwner(), "La bombe copiée appartient au joueur copié");
+        assertEquals(board.getBomb(1, 1).getDetonationTick(), copy.getBomb(1, 1).getDetonationTick());
+
+        copy.removeBomb(1, 1);
+        assertTrue(board.hasBomb(1, 1), "L'original ne doit pas être modifié");
+        assertEquals(1, board.getBombs().size());
+    }
+
+    @Test
+    void seededMapIsReproducibleAfterReset() {
+        GameClock clock = new GameClock();
+        GameBoard board = new GameBoard(clock);
+        GameBoard seeded = new GameBoard(new GameClock(), 42L);
+        board.placeBomb(new Bomb(new Position(1, 1), new Player(0, new Position(1, 1), "red"), clock));
+        board.reset(42L);
+
+        assertTrue(board.getBombs().isEmpty(), "La remise à zéro retire les bombes");
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                assertEquals(seeded.getCell(x, y), board.getCell(x, y), "Même graine, même carte en (" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    @Test
+    void powerUpDropsFollowTheSeed() {
+        GameBoard first = new GameBoard(new GameClock(), 7L);
+        GameBoard second = new GameBoard(new GameClock(), 7L);
+        for (int x = 0; x < first.getWidth(); x++) {
+            for (int y = 0; y < first.getHeight(); y++) {
+                first.destroyWall(x, y);
+                second.destroyWall(x, y);
+            }
+        }
+
+        for (int x = 0; x < first.getWidth(); x++) {
+            for (int y = 0; y < first.getHeight(); y++) {
+                assertEquals(first.getPowerUpType(x, y), second.getPowerUpType(x, y), "Même graine, mêmes bonus en (" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    @Test
+    void wallRevisionChangesOnlyWithDestructibleWalls() {
+        GameBoard board = new GameBoard(new GameClock(), 3L);
+        long start = board.getWallRevision();
+        board.destroyWall(0, 0);
+        assertEquals(start, board.getWallRevision(), "Un mur indestructible ne change pas la révision");
+
+        for (int x = 1; x < board.getWidth() - 1; x++) {
+            for (int y = 1; y < board.getHeight() - 1; y++) {
+                if (board.hasDestructibleWall(x, y)) {
+                    board.destroyWall(x, y);
+                    assertEquals(start + 1, board.getWallRevision(), "Un mur détruit change la révision");
+                    return;
+                }
+            }
+        }
+        fail("La carte doit contenir un mur destructible");
+    }
+
+    @Test
+    void changedCellsFollowBombsAndExplosions() {
+        GameBoard board = new GameBoard();
+        GameClock clock = board.getClock();
+        assertEquals(0, board.nextChangedCell(0), "Un nouveau plateau est entièrement à dessiner");
+
+        board.clearChangedCells();
+        assertEquals(-1, board.nextChangedCell(0));
+
+        board.placeBomb(new Bomb(new Position(3, 1), new Player(0, new Position(1, 1), "red"), clock));
+        board.markCellChanged(1, 1);
+        assertEquals(board.getWidth() + 1, board.nextChangedCell(0), "La cellule du joueur est signalée");
+        assertEquals(board.getWidth() + 3, board.nextChangedCell(board.getWidth() + 2), "La cellule de la bombe est signalée");
+        assertEquals(-1, board.nextChangedCell(board.getWidth() + 4));
+
+        board.clearChangedCells();
+        board.addExplosion(new Explosion(List.of(new Position(5, 1)), new Position(5, 1), clock));
+        board.clearChangedCells();
+        clock.advance(GameClock.millisToTicks(GameConstants.EXPLOSION_DURATION));
+        board.removeFinishedExplosions();
+        assertTrue(board.isCellChanged(5, 1), "La fin d'une explosion est signalée");
+        assertFalse(board.isCellChanged(3, 1));
+    }
+}
@@ -0,0 +1,90 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Direction;
+import com.bomberman.util.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSnapshotTest {
+
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        game = new Game(2, 2, GameListener.NONE, new GameClock());
+        GameBoard board = game.getBoard();
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                board.destroyWall(x, y);
+            }
+        }
+    }
+
+    @Test
+    void unchangedChunksAreShared() {
+        GameSnapshot first = game.snapshot();
+        game.placeBomb(0);
+        GameSnapshot second = game.snapshot();
+
+        int changed = 0;
+        for (int c = 0; c < first.cellChunks().length; c++) {
+            if (first.cellChunks()[c] != second.cellChunks()[c]) changed++;
+        }
+        assertEquals(1, changed, "Seule la tranche de la bombe doit être recopiée");
+        assertFalse(first.hasBomb(1, 1));
+        assertTrue(second.hasBomb(1, 1));
+    }
+
+    @Test
+    void viewIsRestoredOnceAndShared() {
+        game.placeBomb(0);
+        GameSnapshot snapshot = game.snapshot();
+
+        Game view = snapshot.view();
+        assertSame(view, snapshot.view(), "Le jeu restauré doit être partagé entre les lecteurs");
+        assertNotSame(game.getBoard(), view.getBoard());
+        assertTrue(view.getBoard().hasBomb(1, 1));
+        assertNotEquals(DangerMap.SAFE, view.getBoard().getDangerMap().getTimeToBlast(1, 1),
+                "La carte des dangers doit déjà tenir compte de la bombe");
+    }
+
+    @Test
+    void snapshotIgnoresLaterChanges() {
+        GameSnapshot snapshot = game.snapshot();
+        game.placeBomb(0);
+        game.movePlayer(1, Direction.LEFT);
+        for (int i = 0; i < 200; i++) {
+            game.update();
+        }
+
+        assertEquals(0, snapshot.getTick());
+        assertTrue(snapshot.getBombs().isEmpty(), "L'instantané ne doit pas voir la bombe posée ensuite");
+        assertFalse(snapshot.isBurning(1, 1));
+        assertEquals(new Position(1, 1), snapshot.getPlayers().get(0).getPosition());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPlayers().clear());
+    }
+
+    @Test
+    void toGameRestoresState() {
+        game.placeBomb(0);
+        game.update();
+        GameSnapshot snapshot = game.snapshot();
+
+        Game restored = snapshot.toGame(new SplittableRandom(1L));
+        assertEquals(game.getClock().getTick(), restored.getClock().getTick());
+        assertTrue(restored.getBoard().hasBomb(1, 1));
+        assertEquals(game.getBoard().getBombs().iterator().next().getDetonationTick(),
+                restored.getBoard().getBombs().iterator().next().getDetonationTick());
+
+        for (int i = 0; i < 200; i++) {
+            restored.update();
+        }
+        assertFalse(restored.getBoard().hasBomb(1, 1), "La bombe restaurée doit exploser");
+        assertTrue(game.getBoard().hasBomb(1, 1), "Le jeu d'origine ne doit pas être modifié");
+        assertTrue(snapshot.hasBomb(1, 1));
+    }
+}
@@ -3,9 +3,13 @@ package com.bomberman.model;
 import com.bomberman.model.Game;
 import com.bomberman.model.Player;
 import com.bomberman.util.Direction;
+import com.bomberman.util.GameConstants;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameTest {
@@ -32,4 +36,105 @@ class GameTest {
         assertEquals(yBefore, playerAfter.getPosition().getY());
     }
 
+    @Test
+    void listenerNotifiedOfMatchResult() {
+        int[] started = {0};
+        Player[] ended = {null};
+        Game headless = new Game(4, 0, new GameListener() {
+            @Override
+            public void onMatchStarted(Game g) {
+                started[0]++;
+            }
+
+            @Override
+            public void onMatchEnded(Game g, Player winner) {
+                ended[0] = winner;
+            }
+        });
+        assertEquals(1, started[0]);
+
+        // On élimine tous les bots sauf le premier
+        for (int i = 1; i < headless.getTotalPlayerCount(); i++) {
+            headless.getPlayer(i).kill();
+        }
+        headless.update();
+
+        assertFalse(headless.isGameRunning());
+        assertSame(headless.getPlayer(0), ended[0]);
+    }
+
+    @Test
+    void blastDetonatesReachedBombsInSameTick() {
+        Game headless = new Game(4, 0);
+        Player player = headless.getPlayer(0);
+        player.setMaxBombs(2);
+        GameBoard board = headless.getBoard();
+
+        headless.placeBomb(0);
+        for (int i = 0; i < GameConstants.TICKS_PER_SECOND; i++) {
+            headless.update();
+        }
+        headless.movePlayer(0, Direction.RIGHT);
+        headless.placeBomb(0);
+        assertEquals(2, board.getBombs().size());
+
+        // La première bombe explose et entraîne la seconde, bien avant la fin de sa propre mèche
+        Bomb first = board.getBomb(1, 1);
+        while (!first.shouldExplode()) {
+            headless.update();
+        }
+
+        assertTrue(board.getBombs().isEmpty(), "Les deux bombes doivent avoir explosé");
+        assertEquals(2, board.getExplosions().size());
+        assertEquals(0, player.getBombCount(), "Les deux bombes doivent être rendues au joueur");
+
+        Explosion firstExplosion = board.getExplosions().get(0);
+        assertEquals(1, firstExplosion.getArmLength(Direction.RIGHT), "L'explosion s'arrête sur la bombe atteinte");
+        assertTrue(board.isBurning(3, 1), "La seconde bombe prolonge l'explosion au-delà");
+    }
+
+    @Test
+    void recordedSeedReplaysTheMatch() {
+        Game first = new Game(4, 0, GameListener.NONE, new GameClock(), List.of());
+        Game replay = new Game(4, 0, GameListener.NONE, new GameClock(), List.of(), first.getSeed());
+        for (int i = 0; i < 20 * GameConstants.TICKS_PER_SECOND && first.isGameRunning(); i++) {
+            for (Game game : List.of(first, replay)) {
+                game.update();
+                List<Player> players = game.getPlayers();
+                for (Player player : players) {
+                    if (player instanceof BotPlayer bot) {
+                        bot.decide(game.getBoard(), players, bot).applyTo(game, bot.getId());
+                    }
+                }
+            }
+        }
+        GameBoard board = first.getBoard();
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                assertEquals(board.getCell(x, y), replay.getBoard().getCell(x, y),
+                        "La même graine doit rejouer la même partie en (" + x + ", " + y + ")");
+            }
+        }
+
+        long seed = first.getSeed();
+        first.resetGame(0);
+        assertNotEquals(seed, first.getSeed(), "Une nouvelle partie doit tirer une nouvelle graine");
+    }
+
+    @Test
+    void copyEvolvesIndependently() {
+        Game headless = new Game(4, 0);
+        headless.placeBomb(0);
+        Game copy = headless.copy(new SplittableRandom(1L));
+
+        copy.movePlayer(0, Direction.RIGHT);
+        for (int i = 0; i < 10 * GameConstants.TICKS_PER_SECOND; i++) {
+            copy.update();
+        }
+
+        assertEquals(1, headless.getPlayer(0).getX(), "Le jeu d'origine ne doit pas bouger");
+        assertEquals(1, headless.getBoard().getBombs().size());
+        assertEquals(0, headless.getClock().getTick());
+        assertTrue(copy.getBoard().getBombs().isEmpty(), "La bombe copiée a explosé dans la copie");
+    }
 }
@@ -0,0 +1,38 @@
+package com.bomberman.model;
+
+import com.bomberman.util.GameConstants;
+import com.bomberman.util.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloBotPlayerTest {
+
+    @Test
+    void leavesBombAboutToExplode() {
+        GameClock clock = new GameClock();
+        GameBoard board = new GameBoard(clock, 1L);
+        // Couloirs dégagés : la fuite ne dépend pas de la carte tirée
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                board.destroyWall(x, y);
+            }
+        }
+        MonteCarloBotPlayer bot = new MonteCarloBotPlayer(0, new Position(1, 1), "red");
+        bot.setRandom(new SplittableRandom(3L));
+        Player enemy = new Player(1, new Position(11, 11), "blue");
+        bot.setExplosionRange(1);
+        board.placeBomb(new Bomb(new Position(1, 1), bot, clock));
+        clock.advance(GameClock.millisToTicks(GameConstants.BOMB_TIMER) - 10);
+
+        List<Player> players = List.of(new Player(bot), new Player(enemy));
+        BotAction action = bot.decide(board, players, players.get(0));
+
+        assertNotNull(action.getMove(), "Rester sur la bombe est mortel : le bot doit s'en éloigner");
+        assertTrue(board.hasBomb(1, 1), "Le plateau évalué ne doit pas être modifié");
+        assertEquals(1, board.getBombs().size());
+    }
+}
@@ -0,0 +1,54 @@
+package com.bomberman.model;
+
+import com.bomberman.util.Direction;
+import com.bomberman.util.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathFinderTest {
+
+    private GameClock clock;
+    private GameBoard board;
+    private Player self;
+    private Player enemy;
+    private PathFinder pathFinder;
+
+    @BeforeEach
+    void setUp() {
+        clock = new GameClock();
+        board = new GameBoard(clock);
+        // Plateau sans murs destructibles : seuls la bordure et les piliers restent
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                board.destroyWall(x, y);
+            }
+        }
+        self = new Player(0, new Position(1, 1), "red");
+        enemy = new Player(1, new Position(5, 1), "blue");
+        pathFinder = new PathFinder();
+    }
+
+    @Test
+    void distanceFieldLeadsToEnemy() {
+        pathFinder.update(board, List.of(self, enemy), self);
+
+        assertEquals(4, pathFinder.getDistance(PathFinder.Target.ENEMY, 1, 1));
+        assertEquals(Direction.RIGHT, pathFinder.nextStep(PathFinder.Target.ENEMY, 1, 1));
+        assertEquals(0, pathFinder.getDistance(PathFinder.Target.SAFE_CELL, 1, 1), "Aucune bombe : tout est sûr");
+    }
+
+    @Test
+    void safeCellFieldAvoidsBlastZone() {
+        board.placeBomb(new Bomb(new Position(1, 1), self, clock));
+        pathFinder.update(board, List.of(self, enemy), self);
+
+        // (3, 2) est la cellule hors d'atteinte la plus proche
+        assertEquals(2, pathFinder.getDistance(PathFinder.Target.SAFE_CELL, 2, 1));
+        assertEquals(3, pathFinder.getDistanceFrom(PathFinder.Target.SAFE_CELL, 1, 1));
+        assertNotNull(pathFinder.nextStep(PathFinder.Target.SAFE_CELL, 1, 1));
+    }
+}
@@ -0,0 +1,71 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTest {
+
+    @Test
+    void advanceToReturnsOnlyDueItemsInOrder() {
+        TimerWheel<Long> wheel = new TimerWheel<>(8, Long::longValue, 0);
+        wheel.schedule(5L);
+        wheel.schedule(3L);
+        wheel.schedule(13L); // même case que 5, un tour de roue plus tard
+        wheel.schedule(5L);
+
+        List<Long> due = new ArrayList<>();
+        wheel.advanceTo(4, due);
+        assertEquals(List.of(3L), due);
+
+        due.clear();
+        wheel.advanceTo(5, due);
+        assertEquals(List.of(5L, 5L), due);
+        assertEquals(1, wheel.size());
+
+        due.clear();
+        wheel.advanceTo(13, due);
+        assertEquals(List.of(13L), due);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancel() {
+        TimerWheel<Long> wheel = new TimerWheel<>(8, Long::longValue, 0);
+        Long item = 6L;
+        wheel.schedule(item);
+        assertTrue(wheel.cancel(item));
+        assertFalse(wheel.cancel(item));
+
+        List<Long> due = new ArrayList<>();
+        wheel.advanceTo(10, due);
+        assertTrue(due.isEmpty());
+    }
+
+    @Test
+    void jumpLongerThanOneTurn() {
+        TimerWheel<Long> wheel = new TimerWheel<>(8, Long::longValue, 0);
+        wheel.schedule(2L);
+        wheel.schedule(20L);
+        wheel.schedule(40L);
+
+        List<Long> due = new ArrayList<>();
+        wheel.advanceTo(30, due);
+        assertTrue(due.containsAll(List.of(2L, 20L)));
+        assertEquals(2, due.size());
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void overdueItemIsReturnedOnNextTick() {
+        TimerWheel<Long> wheel = new TimerWheel<>(8, Long::longValue, 10);
+        wheel.schedule(4L);
+
+        List<Long> due = new ArrayList<>();
+        wheel.advanceTo(11, due);
+        assertEquals(List.of(4L), due);
+    }
+}
@@ -0,0 +1,112 @@
+package com.bomberman.remote;
+
+import com.bomberman.model.BotAction;
+import com.bomberman.model.GameBoard;
+import com.bomberman.model.GameClock;
+import com.bomberman.model.Player;
+import com.bomberman.util.Direction;
+import com.bomberman.util.Position;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotConnectionTest {
+
+    private final GameBoard board = new GameBoard(new GameClock());
+    private final List<Player> players = List.of(
+            new Player(0, new Position(1, 1), "red"),
+            new Player(1, new Position(13, 1), "blue"));
+
+    @Test
+    void stateIsEncodedLineByLine() {
+        StringBuilder out = new StringBuilder();
+        BotProtocol.writeState(out, 7, board, players, players.get(1));
+        String[] lines = out.toString().split("\n");
+
+        assertEquals("STATE 7 0 1 15 13", lines[0]);
+        assertEquals("###############", lines[1], "La première rangée est un mur");
+        assertEquals("PLAYERS 2", lines[1 + board.getHeight()]);
+        assertEquals("1 13 1 1 0 1 2", lines[3 + board.getHeight()]);
+        assertEquals("END", lines[lines.length - 1]);
+
+        assertSame(BotAction.NONE, BotProtocol.parseAction("3 NONE"));
+        assertEquals(Direction.LEFT, BotProtocol.parseAction("3 LEFT").getMove());
+        BotAction both = BotProtocol.parseAction("3 BOMB UP");
+        assertTrue(both.isPlaceBomb());
+        assertEquals(Direction.UP, both.getMove());
+        assertThrows(IllegalArgumentException.class, () -> BotProtocol.parseAction("3 JUMP"));
+    }
+
+    @Test
+    void concurrentRequestsAreAnswered() throws Exception {
+        PipedInputStream botIn = new PipedInputStream(1 << 16);
+        PipedOutputStream gameOut = new PipedOutputStream(botIn);
+        PipedInputStream gameIn = new PipedInputStream(1 << 16);
+        PipedOutputStream botOut = new PipedOutputStream(gameIn);
+        AtomicInteger batches = new AtomicInteger();
+
+        // Bot factice : répond BOMB à chaque demande, à la fin de chaque lot
+        Thread bot = new Thread(() -> {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(botIn, StandardCharsets.UTF_8));
+                 PrintWriter out = new PrintWriter(botOut, true, StandardCharsets.UTF_8)) {
+                List<String> ids = new ArrayList<>();
+                int remaining = 0;
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.startsWith("BATCH ")) {
+                        batches.incrementAndGet();
+                        remaining = Integer.parseInt(line.substring(6));
+                    } else if (line.startsWith("STATE ")) {
+                        ids.add(line.split(" ")[1]);
+                    } else if (line.equals("END") && --remaining == 0) {
+                        for (String id : ids) {
+                            out.println(id + " BOMB");
+                        }
+                        ids.clear();
+                    }
+                }
+            } catch (Exception ignored) {
+                // Fin du test
+            }
+        });
+        bot.setDaemon(true);
+        bot.start();
+
+        try (BotConnection connection = new BotConnection(gameIn, gameOut, null)) {
+            List<CompletableFuture<BotAction>> answers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Player self = players.get(i % 2);
+                answers.add(CompletableFuture.supplyAsync(() -> connection.decide(board, players, self, 5000)));
+            }
+            for (CompletableFuture<BotAction> answer : answers) {
+                assertSame(BotAction.PLACE_BOMB, answer.get());
+            }
+            assertTrue(batches.get() >= 1 && batches.get() <= 4, "Les demandes sont envoyées par lots");
+        }
+    }
+
+    @Test
+    void silentBotTimesOut() throws Exception {
+        PipedInputStream botIn = new PipedInputStream(1 << 16);
+        PipedOutputStream gameOut = new PipedOutputStream(botIn);
+        PipedInputStream gameIn = new PipedInputStream(1 << 16);
+        PipedOutputStream botOut = new PipedOutputStream(gameIn);
+
+        try (BotConnection connection = new BotConnection(gameIn, gameOut, botOut)) {
+            long start = System.nanoTime();
+            assertSame(BotAction.NONE, connection.decide(board, players, players.get(0), 50));
+            assertTrue(System.nanoTime() - start < 2_000_000_000L, "Le délai de réponse est respecté");
+        }
+    }
+}
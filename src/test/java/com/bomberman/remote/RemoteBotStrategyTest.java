@@ -0,0 +1,35 @@
+package com.bomberman.remote;
+
+import com.bomberman.util.Position;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RemoteBotStrategyTest {
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty(RemoteBotStrategy.COMMAND_PROPERTY);
+        System.clearProperty(RemoteBotStrategy.SOCKET_PROPERTY);
+    }
+
+    @Test
+    void malformedSocketAddressIsReported() {
+        RemoteBotStrategy strategy = new RemoteBotStrategy();
+        for (String socket : new String[] {"localhost", "localhost:port", ":4000", "localhost:70000"}) {
+            System.setProperty(RemoteBotStrategy.SOCKET_PROPERTY, socket);
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                    () -> strategy.createBot(1, new Position(1, 1), "blue"), "Adresse acceptée à tort : " + socket);
+            assertTrue(e.getMessage().contains(socket), "Le message doit citer l'adresse invalide");
+        }
+    }
+
+    @Test
+    void unconfiguredStrategyRefusesToCreateBots() {
+        RemoteBotStrategy strategy = new RemoteBotStrategy();
+        assertFalse(strategy.isConfigured());
+        assertThrows(IllegalStateException.class, () -> strategy.createBot(1, new Position(1, 1), "blue"));
+        strategy.close();
+    }
+}
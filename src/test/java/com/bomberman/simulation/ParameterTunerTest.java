@@ -0,0 +1,27 @@
+package com.bomberman.simulation;
+
+import com.bomberman.model.BotParameters;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParameterTunerTest {
+
+    @Test
+    void tuningMovesWithinBounds() {
+        ParameterTuner tuner = new ParameterTuner(4, 2, 11L, 300, 2);
+        try {
+            BotParameters tuned = tuner.tune(BotParameters.DEFAULTS, 2, new PrintStream(OutputStream.nullOutputStream()));
+
+            assertNotEquals(BotParameters.DEFAULTS, tuned, "Les paramètres doivent évoluer");
+            for (BotParameters.Key key : BotParameters.Key.values()) {
+                assertTrue(tuned.get(key) >= key.getMin() && tuned.get(key) <= key.getMax(), key + " hors bornes");
+            }
+        } finally {
+            tuner.shutdown();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.bomberman.simulation;
+
+import com.bomberman.model.BotStrategies;
+import com.bomberman.model.BotStrategy;
+import com.bomberman.model.ClassicBotStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyBenchmarkTest {
+
+    @Test
+    void everySlotIsCounted() {
+        StrategyBenchmark benchmark = new StrategyBenchmark(
+                List.of(BotStrategies.byName(ClassicBotStrategy.NAME)), 2, 1L, 600);
+
+        List<StrategyBenchmark.Result> results = benchmark.run();
+
+        assertEquals(1, results.size());
+        StrategyBenchmark.Result result = results.get(0);
+        assertEquals(8, result.getMatches(), "Deux parties de quatre emplacements");
+        assertTrue(result.getWins() <= 2, "Au plus un gagnant par partie");
+        assertTrue(result.getMeanDecisionMicros() > 0, "Les décisions doivent être mesurées");
+    }
+
+    @Test
+    void sameSeedReplaysTheSameMatches() {
+        List<BotStrategy> strategies = List.of(BotStrategies.byName(ClassicBotStrategy.NAME));
+
+        StrategyBenchmark.Result first = new StrategyBenchmark(strategies, 3, 7L, 600).run().get(0);
+        StrategyBenchmark.Result second = new StrategyBenchmark(strategies, 3, 7L, 600).run().get(0);
+
+        assertEquals(first.getWins(), second.getWins(), "Une même graine doit rejouer les mêmes parties");
+    }
+}
@@ -0,0 +1,79 @@
+package com.bomberman.simulation;
+
+import com.bomberman.model.BotPlayer;
+import com.bomberman.model.BotStrategy;
+import com.bomberman.util.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentRunnerTest {
+
+    /**
+     * Stratégie classique sous un autre nom, pour opposer des bots rapides.
+     */
+    private static BotStrategy named(String name) {
+        return new BotStrategy() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public BotPlayer createBot(int id, Position position, String color) {
+                return new BotPlayer(id, position, color);
+            }
+        };
+    }
+
+    @Test
+    void roundRobinCountsEveryMatch() {
+        TournamentRunner runner = new TournamentRunner(List.of(named("a"), named("b"), named("c")), 4, 7L, 600, 2);
+        try {
+            Standings standings = runner.roundRobin();
+
+            assertEquals(12, standings.getMatches(), "Trois rencontres de quatre parties");
+            long decided = standings.getWins("a") + standings.getWins("b") + standings.getWins("c");
+            assertEquals(standings.getMatches() - standings.getDrawnMatches(), decided);
+            assertEquals(8, standings.getWins("a") + standings.getLosses("a") + standings.getDraws("a"));
+            assertTrue(standings.getMeanMatchTicks() > 0 && standings.getMeanMatchTicks() <= 600);
+            assertNull(standings.getChampion());
+        } finally {
+            runner.shutdown();
+        }
+    }
+
+    @Test
+    void bracketNamesAChampion() {
+        TournamentRunner runner = new TournamentRunner(List.of(named("a"), named("b"), named("c")), 2, 7L, 600, 2);
+        try {
+            Standings standings = runner.bracket();
+
+            assertEquals(4, standings.getMatches(), "Deux tours d'une rencontre chacun");
+            assertTrue(List.of("a", "b", "c").contains(standings.getChampion()));
+            assertTrue(standings.getTicksPerSecond() > 0);
+        } finally {
+            runner.shutdown();
+        }
+    }
+
+    @Test
+    void sameSeedReplaysTheSameTournament() {
+        List<BotStrategy> strategies = List.of(named("a"), named("b"));
+        TournamentRunner first = new TournamentRunner(strategies, 6, 11L, 900, 2);
+        TournamentRunner second = new TournamentRunner(strategies, 6, 11L, 900, 3);
+        try {
+            Standings one = first.roundRobin();
+            Standings two = second.roundRobin();
+
+            assertEquals(one.getWins("a"), two.getWins("a"), "Même graine, mêmes résultats");
+            assertEquals(one.getWins("b"), two.getWins("b"));
+            assertEquals(one.getMeanMatchTicks(), two.getMeanMatchTicks(), "Même graine, mêmes durées de partie");
+        } finally {
+            first.shutdown();
+            second.shutdown();
+        }
+    }
+}
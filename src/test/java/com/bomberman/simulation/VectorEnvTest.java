@@ -0,0 +1,76 @@
+package com.bomberman.simulation;
+
+import com.bomberman.model.Game;
+import com.bomberman.util.GameConstants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorEnvTest {
+
+    private static final int PLANE = GameConstants.BOARD_WIDTH * GameConstants.BOARD_HEIGHT;
+
+    @Test
+    void observationsAreFlatAndPerEnvironment() {
+        VectorEnv env = new VectorEnv(3, 2, 8, 10_000, 5L);
+        try {
+            float[] observations = env.reset();
+
+            assertEquals(3 * VectorEnv.CHANNELS * PLANE, observations.length);
+            for (int e = 0; e < 3; e++) {
+                int offset = e * env.getObservationSize();
+                assertEquals(1f, observations[offset + VectorEnv.CHANNEL_WALL * PLANE], "Le coin est un mur");
+                int start = GameConstants.BOARD_WIDTH + 1;
+                assertEquals(1f, observations[offset + VectorEnv.CHANNEL_PLAYER * PLANE + start], "Joueur 0 en (1, 1)");
+            }
+
+            int[] actions = new int[3 * GameConstants.MAX_PLAYERS];
+            actions[0] = VectorEnv.ACTION_BOMB;
+            assertSame(observations, env.step(actions), "Le tableau des observations est réutilisé");
+            int start = GameConstants.BOARD_WIDTH + 1;
+            assertEquals(1f, observations[VectorEnv.CHANNEL_BOMB * PLANE + start]);
+            assertTrue(observations[VectorEnv.CHANNEL_DANGER * PLANE + start] > 0f);
+            assertEquals(0f, observations[env.getObservationSize() + VectorEnv.CHANNEL_BOMB * PLANE + start],
+                    "Les autres environnements ne sont pas touchés");
+        } finally {
+            env.close();
+        }
+    }
+
+    @Test
+    void finishedEnvironmentsRestart() {
+        VectorEnv env = new VectorEnv(2, 1, 10, 30, 9L);
+        try {
+            env.reset();
+            int[] actions = new int[2 * GameConstants.MAX_PLAYERS];
+            env.step(actions);
+            env.step(actions);
+            assertFalse(env.getDones()[0]);
+
+            env.step(actions);
+            assertTrue(env.getDones()[0], "La durée maximale est atteinte");
+            assertTrue(env.getDones()[1]);
+            Game game = env.getGame(0);
+            assertEquals(0, game.getClock().getTick(), "La partie est recommencée");
+            assertTrue(game.isGameRunning());
+        } finally {
+            env.close();
+        }
+    }
+
+    @Test
+    void deathIsPenalised() {
+        VectorEnv env = new VectorEnv(1, 1, GameConstants.TICKS_PER_SECOND * 4, 100_000, 3L);
+        try {
+            env.reset();
+            int[] actions = new int[GameConstants.MAX_PLAYERS];
+            actions[0] = VectorEnv.ACTION_BOMB;
+            env.step(actions);
+
+            assertEquals(VectorEnv.REWARD_DEATH, env.getRewards()[0], "Le joueur reste sur sa bombe");
+            assertEquals(0f, env.getRewards()[1]);
+        } finally {
+            env.close();
+        }
+    }
+}